@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.finclient.commons.core.Config;
 import seedu.finclient.commons.core.LogsCenter;
@@ -15,6 +16,7 @@ import seedu.finclient.commons.util.ConfigUtil;
 import seedu.finclient.commons.util.StringUtil;
 import seedu.finclient.logic.Logic;
 import seedu.finclient.logic.LogicManager;
+import seedu.finclient.logic.reminder.ReminderScheduler;
 import seedu.finclient.model.FinClient;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ModelManager;
@@ -22,12 +24,17 @@ import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
 import seedu.finclient.model.UserPrefs;
 import seedu.finclient.model.util.SampleDataUtil;
+import seedu.finclient.storage.BackgroundSaver;
+import seedu.finclient.storage.BinaryFinClientStorage;
 import seedu.finclient.storage.FinClientStorage;
+import seedu.finclient.storage.FlushingBookLoader;
 import seedu.finclient.storage.JsonFinClientStorage;
 import seedu.finclient.storage.JsonUserPrefsStorage;
+import seedu.finclient.storage.SegmentedFinClientStorage;
 import seedu.finclient.storage.Storage;
 import seedu.finclient.storage.StorageManager;
 import seedu.finclient.storage.UserPrefsStorage;
+import seedu.finclient.storage.WalFinClientStorage;
 import seedu.finclient.ui.Ui;
 import seedu.finclient.ui.UiManager;
 
@@ -45,6 +52,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ReminderScheduler reminderScheduler;
+    protected BackgroundSaver saver;
 
     @Override
     public void init() throws Exception {
@@ -57,16 +66,36 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FinClientStorage finClientStorage = new JsonFinClientStorage(userPrefs.getFinClientFilePath());
-        storage = new StorageManager(finClientStorage, userPrefsStorage);
+        storage = new StorageManager(initFinClientStorage(userPrefs), userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundSaver(storage, Platform::runLater,
+                e -> ui.showSaveError(LogicManager.getSaveErrorMessage(e)));
+        model.setBookLoader(new FlushingBookLoader(storage, saver));
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code FinClientStorage} for the storage mode in {@code userPrefs}.
+     */
+    private FinClientStorage initFinClientStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getFinClientFilePath();
+        int compressionLevel = userPrefs.getDataCompressionLevel();
+        switch (userPrefs.getStorageMode()) {
+        case BINARY:
+            return new BinaryFinClientStorage(filePath);
+        case WRITE_AHEAD_LOG:
+            return new WalFinClientStorage(filePath, compressionLevel);
+        case SEGMENTED:
+            return new SegmentedFinClientStorage(filePath, compressionLevel);
+        default:
+            return new JsonFinClientStorage(filePath, compressionLevel);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -172,15 +201,31 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting FinClient " + MainApp.VERSION);
         ui.start(primaryStage);
+
+        reminderScheduler = new ReminderScheduler(model, Platform::runLater, ui::showReminders);
+        reminderScheduler.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FinClient ] =============================");
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to finish writing the data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,15 @@
+package seedu.finclient.commons.core;
+
+/**
+ * The ways that the data file can be saved in.
+ */
+public enum StorageMode {
+    /** The data file is rewritten as json on every save. */
+    JSON,
+    /** The data file is rewritten in the compact binary format on every save. */
+    BINARY,
+    /** The changes of each save are appended to a log next to the data file, which is folded in from time to time. */
+    WRITE_AHEAD_LOG,
+    /** The persons are saved in json segments next to the data file, and a save rewrites only those it changes. */
+    SEGMENTED
+}
@@ -1,17 +1,41 @@
 package seedu.finclient.commons.util;
 
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The compression level that leaves files uncompressed. */
+    public static final int NO_COMPRESSION = 0;
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    public static final int MAX_COMPRESSION = Deflater.BEST_COMPRESSION;
+    public static final String MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS = "Compression level must be from "
+            + NO_COMPRESSION + " (uncompressed) to " + MAX_COMPRESSION;
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +104,134 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, so that the file holds either its old or its new content even if the
+     * program or the machine crashes part way.
+     * The content is written to a uniquely named temporary file alongside, forced to the disk, then moved over the
+     * file, and the move is forced to the disk where the platform allows. The temporary file is deleted if any of
+     * this fails. Will create the file and its parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, with the content written by {@code contentWriter}
+     * to a buffered stream, so that the content never needs to be held in memory as a whole.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeToFileAtomically(file, NO_COMPRESSION, contentWriter);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter)}, with the content compressed in the gzip
+     * format at {@code compressionLevel}, unless it is {@link #NO_COMPRESSION}.
+     * Compressed files are read back transparently by {@link #openDecompressingInputStream(Path)}.
+     */
+    public static void writeToFileAtomically(Path file, int compressionLevel, ContentWriter contentWriter)
+            throws IOException {
+        checkArgument(isValidCompressionLevel(compressionLevel), MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        // unique, so that concurrent writes of the same file, such as a save and an export, never share it
+        Path tempFile = Files.createTempFile(directory, file.getFileName() + ".", ".tmp");
+        boolean isMoved = false;
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                // closing the stream only flushes it, as the channel must stay open to be forced to the disk
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                };
+                if (compressionLevel == NO_COMPRESSION) {
+                    contentWriter.writeTo(out);
+                } else {
+                    try (OutputStream compressed = compress(out, compressionLevel)) {
+                        contentWriter.writeTo(compressed);
+                    }
+                }
+                out.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            isMoved = true;
+        } finally {
+            if (!isMoved) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to the disk.
+     * Does nothing on platforms that cannot open a directory, such as Windows, where a move needs no such forcing.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Returns a buffered stream reading {@code file}.
+     */
+    public static InputStream openBufferedInputStream(Path file) throws IOException {
+        return new BufferedInputStream(Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ)),
+                BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a buffered stream reading {@code file}, decompressing it if it is in the gzip format.
+     * Whether the file is compressed is detected from its first bytes, whatever its name.
+     */
+    public static InputStream openDecompressingInputStream(Path file) throws IOException {
+        InputStream in = openBufferedInputStream(file);
+        try {
+            in.mark(GZIP_MAGIC.length);
+            byte[] header = in.readNBytes(GZIP_MAGIC.length);
+            in.reset();
+            return Arrays.equals(header, GZIP_MAGIC) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code compressionLevel} is {@link #NO_COMPRESSION} or a gzip compression level.
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel >= NO_COMPRESSION && compressionLevel <= MAX_COMPRESSION;
+    }
+
+    private static OutputStream compress(OutputStream out, int compressionLevel) throws IOException {
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(compressionLevel);
+            }
+        };
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
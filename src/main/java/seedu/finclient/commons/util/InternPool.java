@@ -0,0 +1,46 @@
+package seedu.finclient.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A pool of shared immutable values, keyed by the string they are created from.
+ * Values that occur many times, such as tags or networth brackets, are created once and then reused, so that equal
+ * values are the same instance. Values are never evicted, so pools are only suited to low-cardinality values;
+ * free-text values are better pooled in a {@link WeakInternPool}.
+ *
+ * @param <T> the type of the pooled values, which must be immutable.
+ */
+public class InternPool<T> {
+
+    private final ConcurrentMap<String, T> pool = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates a pool that creates missing values with {@code factory}.
+     * {@code factory} may throw to reject invalid keys, in which case nothing is pooled.
+     */
+    public InternPool(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the pooled value for {@code key}, creating it if it is not yet pooled.
+     */
+    public T intern(String key) {
+        requireNonNull(key);
+        T pooled = pool.get(key);
+        return pooled != null ? pooled : pool.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Returns the number of pooled values.
+     */
+    public int size() {
+        return pool.size();
+    }
+}
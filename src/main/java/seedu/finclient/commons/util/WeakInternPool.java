@@ -0,0 +1,55 @@
+package seedu.finclient.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of shared immutable values, keyed by the string they are created from, that only holds on to values still
+ * in use elsewhere. Suited to values that often repeat but are free text, such as company names, where an
+ * {@link InternPool} would keep every value ever entered.
+ * A value must hold on to the key it was created from, such as by keeping it as its text, so that the key is kept
+ * as long as the value is.
+ *
+ * @param <T> the type of the pooled values, which must be immutable.
+ */
+public class WeakInternPool<T> {
+
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates a pool that creates missing values with {@code factory}.
+     * {@code factory} may throw to reject invalid keys, in which case nothing is pooled.
+     */
+    public WeakInternPool(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the pooled value for {@code key}, creating it if it is not pooled or no longer in use.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = pool.get(key);
+        T pooled = reference == null ? null : reference.get();
+        if (pooled == null) {
+            pooled = factory.apply(key);
+            // an equal key left by a value no longer in use would be kept, so it is replaced by the new value's key
+            pool.remove(key);
+            pool.put(key, new WeakReference<>(pooled));
+        }
+        return pooled;
+    }
+
+    /**
+     * Returns the number of pooled values, including any that are no longer in use but not yet cleared.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -11,6 +11,7 @@ import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.logic.parser.exceptions.ParseException;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonPage;
 
 /**
  * API of the Logic component
@@ -35,6 +36,22 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the first {@code pageSize} persons of the filtered list of persons, in display order.
+     * Together with {@link #getNextPersonPage(String, int)}, this reads the list in pages without copying all of it.
+     *
+     * @see seedu.finclient.model.Model#getFirstPersonPage(int)
+     */
+    PersonPage getFirstPersonPage(int pageSize);
+
+    /**
+     * Returns the {@code pageSize} persons of the filtered list of persons following the page that issued
+     * {@code cursor}.
+     *
+     * @see seedu.finclient.model.Model#getNextPersonPage(String, int)
+     */
+    PersonPage getNextPersonPage(String cursor, int pageSize);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -54,5 +71,12 @@ public interface Logic {
      * Returns the clearing price based on current orders.
      */
     Optional<Double> getClearingPrice();
+
+    /**
+     * Returns the visible persons with the phone number {@code number}, ignoring any non-digit characters in it.
+     *
+     * @see seedu.finclient.model.Model#getPersonsWithPhone(String)
+     */
+    List<Person> getPersonsWithPhone(String number);
     List<Person> getUpcomingPersons(int count);
 }
@@ -18,6 +18,8 @@ import seedu.finclient.logic.parser.exceptions.ParseException;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonPage;
+import seedu.finclient.storage.BackgroundSaver;
 import seedu.finclient.storage.Storage;
 
 /**
@@ -34,14 +36,45 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final FinClientParser finClientParser;
+    private final Optional<BackgroundSaver> saver;
+
+    /** The version of the model data last written to storage. */
+    private long savedVersion;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the data
+     * before each command returns.
+     * The data in {@code model} is taken to be the data in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Optional.empty());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which hands the data to
+     * {@code saver} to be saved in the background.
+     * The data in {@code model} is taken to be the data in {@code storage}.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundSaver saver) {
+        this(model, storage, Optional.of(saver));
+    }
+
+    private LogicManager(Model model, Storage storage, Optional<BackgroundSaver> saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         finClientParser = new FinClientParser();
+        savedVersion = model.getFinClientVersion();
+    }
+
+    /**
+     * Returns the message to show the user when saving the data failed with {@code e}.
+     */
+    public static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
     }
 
     @Override
@@ -50,14 +83,33 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = finClientParser.parseCommand(commandText);
+        Path bookFilePath = model.getFinClientFilePath();
         commandResult = command.execute(model);
+        model.commitFinClient();
 
+        boolean isBookSwitched = !model.getFinClientFilePath().equals(bookFilePath);
+        if (isBookSwitched) {
+            // another client book became active, so save to its file from now on
+            storage.setFinClientFilePath(model.getFinClientFilePath());
+        }
+
+        // Read-only commands leave the version as is, and are not saved. A failed save leaves the data unsaved,
+        // so the next command saves all the changes since the last successful save at once.
+        long version = model.getFinClientVersion();
+        if (!isBookSwitched && version == savedVersion) {
+            return commandResult;
+        }
+        if (saver.isPresent()) {
+            // the saver keeps failed saves to retry, and reports failures to the user by itself
+            saver.get().submit(model.getFinClientSnapshot(), model.getFinClientFilePath());
+            savedVersion = version;
+            return commandResult;
+        }
         try {
             storage.saveFinClient(model.getFinClient());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedVersion = version;
+        } catch (IOException e) {
+            throw new CommandException(getSaveErrorMessage(e), e);
         }
 
         return commandResult;
@@ -73,6 +125,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public PersonPage getFirstPersonPage(int pageSize) {
+        return model.getFirstPersonPage(pageSize);
+    }
+
+    @Override
+    public PersonPage getNextPersonPage(String cursor, int pageSize) {
+        return model.getNextPersonPage(cursor, pageSize);
+    }
+
     @Override
     public Path getFinClientFilePath() {
         return model.getFinClientFilePath();
@@ -93,6 +155,11 @@ public class LogicManager implements Logic {
         return model.calculateClearingPrice();
     }
 
+    @Override
+    public List<Person> getPersonsWithPhone(String number) {
+        return model.getPersonsWithPhone(number);
+    }
+
     public List<Person> getUpcomingPersons(int count) {
         return model.getUpcomingPersons(count);
     }
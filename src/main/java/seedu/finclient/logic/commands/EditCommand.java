@@ -271,7 +271,7 @@ public class EditCommand extends Command {
 
         public void setCompany(Company company) {
             if (company != null && company.value.equals("delete")) {
-                this.company = new Company();
+                this.company = Company.empty();
             } else {
                 this.company = company;
             }
@@ -283,7 +283,7 @@ public class EditCommand extends Command {
 
         public void setJob(Job job) {
             if (job != null && job.value.equals("delete")) {
-                this.job = new Job();
+                this.job = Job.empty();
             } else {
                 this.job = job;
             }
@@ -295,7 +295,7 @@ public class EditCommand extends Command {
 
         public void setStockPlatform(StockPlatform stockPlatform) {
             if (stockPlatform != null && stockPlatform.value.equals("delete")) {
-                this.stockPlatform = new StockPlatform();
+                this.stockPlatform = StockPlatform.empty();
             } else {
                 this.stockPlatform = stockPlatform;
             }
@@ -307,7 +307,7 @@ public class EditCommand extends Command {
 
         public void setNetworth(Networth networth) {
             if (networth != null && networth.value.equals("delete")) {
-                this.networth = new Networth();
+                this.networth = Networth.empty();
             } else {
                 this.networth = networth;
             }
@@ -0,0 +1,70 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+
+/**
+ * Writes a copy of the client book to a file, as json or in the compact binary format.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes a copy of the client book to the given file. "
+            + "Files ending with .json are written as json, and files ending with .fcb in the compact binary format.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " backup/clients.fcb";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d clients to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write the client book to {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try {
+            model.exportFinClient(filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFinClient().getPersonList().size(),
+                filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+
+/**
+ * Replaces the client book with the clients in a file, which may be json or in the compact binary format.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Replaces the clients in the client book with the "
+            + "clients in the given file, which may be json or in the compact binary format.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " backup/clients.fcb";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d clients from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file %1$s";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to replace the client book with the clients in {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        boolean found;
+        try {
+            found = model.importFinClient(filePath);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, e.getMessage()), e);
+        }
+        if (!found) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFinClient().getPersonList().size(),
+                filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
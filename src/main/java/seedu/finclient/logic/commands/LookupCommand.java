@@ -0,0 +1,99 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.Messages;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonIsOneOfPredicate;
+import seedu.finclient.model.person.Phone;
+
+/**
+ * Lists the persons with a phone number, or reports the phone numbers shared by more than one person if no number
+ * is given.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons with the given phone number. "
+            + "Spaces, dashes and other non-digit characters in the number are ignored. Without a number, reports the "
+            + "phone numbers shared by more than one person.\n"
+            + "Parameters: [PHONE]\n"
+            + "Example: " + COMMAND_WORD + " 9123 4567";
+
+    public static final String MESSAGE_SHARED_NUMBER = "Phone number %1$s is shared by %2$d persons: %3$s";
+    public static final String MESSAGE_SHARED_NUMBERS = "Phone numbers shared by more than one person:\n%1$s";
+    public static final String MESSAGE_NO_SHARED_NUMBERS = "No phone number is shared by more than one person.";
+
+    private final Optional<Phone> phone;
+
+    /**
+     * Creates a LookupCommand to list the persons with {@code phone}, or to report the shared phone numbers if it is
+     * empty.
+     */
+    public LookupCommand(Optional<Phone> phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (phone.isEmpty()) {
+            return new CommandResult(describeSharedNumbers(model.getSharedPhoneNumbers()));
+        }
+
+        List<Person> persons = model.getPersonsWithPhone(phone.get().value);
+        model.updateFilteredPersonList(new PersonIsOneOfPredicate(persons));
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, persons.size());
+        if (persons.size() > 1) {
+            message += "\n" + String.format(MESSAGE_SHARED_NUMBER, phone.get(), persons.size(), namesOf(persons));
+        }
+        return new CommandResult(message);
+    }
+
+    private static String describeSharedNumbers(Map<String, List<Person>> sharedNumbers) {
+        if (sharedNumbers.isEmpty()) {
+            return MESSAGE_NO_SHARED_NUMBERS;
+        }
+        String numbers = sharedNumbers.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + namesOf(entry.getValue()))
+                .collect(Collectors.joining("\n"));
+        return String.format(MESSAGE_SHARED_NUMBERS, numbers);
+    }
+
+    private static String namesOf(List<Person> persons) {
+        return persons.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LookupCommand)) {
+            return false;
+        }
+
+        LookupCommand otherLookupCommand = (LookupCommand) other;
+        return phone.equals(otherLookupCommand.phone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone.orElse(null))
+                .toString();
+    }
+}
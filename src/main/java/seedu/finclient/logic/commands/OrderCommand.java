@@ -55,11 +55,10 @@ public class OrderCommand extends Command {
         }
 
         Person personToEdit = lastShownList.get(targetIndex.getZeroBased());
-        personToEdit.setUnhidden();
-        Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhoneList(), personToEdit.getEmail(),
-                personToEdit.getAddress(), order, personToEdit.getRemark(), personToEdit.getTags(),
-                personToEdit.getCompany(), personToEdit.getJob(), personToEdit.getStockPlatform(),
-                personToEdit.getNetworth());
+        Person revealed = personToEdit.withHidden(false);
+        Person editedPerson = new Person(revealed.getName(), revealed.getPhoneList(), revealed.getEmail(),
+                revealed.getAddress(), order, revealed.getRemark(), revealed.getTags(), revealed.getCompany(),
+                revealed.getJob(), revealed.getStockPlatform(), revealed.getNetworth());
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
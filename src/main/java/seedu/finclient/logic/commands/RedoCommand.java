@@ -0,0 +1,29 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+
+/**
+ * Reverts the address book to its state before the most recent undo.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoFinClient()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoFinClient();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
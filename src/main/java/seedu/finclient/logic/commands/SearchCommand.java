@@ -0,0 +1,79 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Finds the persons in every client book whose name contains any of the argument keywords.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the persons in every client book whose names "
+            + "contain any of the specified keywords (case-insensitive) and lists them by book.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons found in %2$d client book(s):\n%3$s";
+    public static final String MESSAGE_NO_MATCHES = "0 persons found in any client book!";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchCommand to find the persons whose names contain any of {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<String, List<Person>> matches = model.searchBooks(keywords);
+        if (matches.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MATCHES);
+        }
+
+        int personCount = matches.values().stream()
+                .mapToInt(List::size)
+                .sum();
+        String books = matches.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue().stream()
+                        .map(person -> person.getName().fullName)
+                        .collect(Collectors.joining(", ")))
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, personCount, matches.size(), books));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return keywords.equals(otherSearchCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -2,62 +2,61 @@ package seedu.finclient.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.List;
-
 import seedu.finclient.commons.util.ToStringBuilder;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.model.Model;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.sort.SortCriterion;
 
 /**
- * Sorts the list of contacts by some criteria.
+ * Sorts the list of contacts by one or more criteria.
  */
 
 public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sort all contacts by given criteria.\n"
-            + "Parameters: criteria (name, networth, price, amount, deadline)\n"
-            + "Example: " + COMMAND_WORD + " name";
+            + ": Sort all contacts by one or more comma-separated criteria, each optionally followed by asc or desc.\n"
+            + "Parameters: CRITERIA [asc|desc][, CRITERIA [asc|desc]]... "
+            + "(criteria: name, networth, price, amount, deadline)\n"
+            + "Example: " + COMMAND_WORD + " networth desc, deadline asc, name";
     public static final String MESSAGE_SORT_ACKNOWLEDGEMENT = "Sorted contacts by criteria: %1$s";
-    private static final List<String> validCriteria = Arrays.asList("name", "price", "networth", "amount", "deadline");
-    private final String criteria;
+    private final PersonSorter sorter;
 
     /**
-     * Creates a SortCommand to sort the list of contacts by the given criteria.
+     * Creates a SortCommand to sort the list of contacts with the given sorter.
      */
-    public SortCommand(String criteria) {
-        requireNonNull(criteria);
-        this.criteria = criteria;
+    public SortCommand(PersonSorter sorter) {
+        requireNonNull(sorter);
+        this.sorter = sorter;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.sortPersons(criteria);
-        return new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, criteria));
+        model.sortPersons(sorter);
+        return new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, sorter.getDescription()));
     }
 
     /**
-     * Returns true if the given criteria is a valid criteria.
+     * Returns true if the given criteria is a single valid criteria.
      */
     public static boolean isValidCriteria(String criteria) {
         requireNonNull(criteria);
-        return validCriteria.contains(criteria);
+        return SortCriterion.fromKeyword(criteria).isPresent();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof SortCommand // instanceof handles nulls
-                && criteria.equals(((SortCommand) other).criteria)); // state check
+                && sorter.equals(((SortCommand) other).sorter)); // state check
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("criteria", criteria)
+                .add("criteria", sorter.getDescription())
                 .toString();
     }
 }
@@ -0,0 +1,88 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.stats.GroupStats;
+import seedu.finclient.model.stats.StatsField;
+
+/**
+ * Shows the number of clients and their total order quantities, grouped by one or more fields.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of contacts and their total buy and sell quantities, grouped by one or more "
+            + "comma-separated fields.\n"
+            + "Parameters: FIELD[, FIELD]... (fields: platform, networth, company, job, order, tag)\n"
+            + "Example: " + COMMAND_WORD + " networth, tag";
+    public static final String MESSAGE_SUCCESS = "Statistics by %1$s:\n%2$s";
+    public static final String MESSAGE_NO_CONTACTS = "There are no contacts to compute statistics for.";
+    public static final String MESSAGE_GROUP = "%1$s: %2$d contact(s), buy quantity %3$d, sell quantity %4$d";
+    public static final String NO_LABEL = "None";
+
+    private final List<StatsField> fields;
+
+    /**
+     * Creates a StatsCommand to group the contacts by {@code fields}.
+     */
+    public StatsCommand(List<StatsField> fields) {
+        requireNonNull(fields);
+        this.fields = List.copyOf(fields);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<GroupStats> stats = model.getGroupStats(fields);
+        if (stats.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONTACTS);
+        }
+
+        String groups = stats.stream()
+                .map(StatsCommand::formatGroup)
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, getDescription(), groups));
+    }
+
+    private String getDescription() {
+        return fields.stream()
+                .map(StatsField::getKeyword)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String formatGroup(GroupStats group) {
+        String labels = group.getLabels().stream()
+                .map(label -> label.isEmpty() ? NO_LABEL : label)
+                .collect(Collectors.joining(" / "));
+        return String.format(MESSAGE_GROUP, labels, group.getCount(), group.getBuyQuantity(),
+                group.getSellQuantity());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return fields.equals(otherStatsCommand.fields);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fields", fields)
+                .toString();
+    }
+}
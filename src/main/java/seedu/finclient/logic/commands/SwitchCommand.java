@@ -0,0 +1,84 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+
+/**
+ * Switches to another client book, or lists the client books if no book is given.
+ */
+public class SwitchCommand extends Command {
+
+    public static final String COMMAND_WORD = "switch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to the client book with the given name, "
+            + "creating it if it does not exist. Lists the client books if no name is given.\n"
+            + "Parameters: [BOOK_NAME]\n"
+            + "Example: " + COMMAND_WORD + " alice";
+
+    public static final String MESSAGE_SUCCESS = "Switched to client book: %1$s";
+    public static final String MESSAGE_CREATED = "Created and switched to new client book: %1$s";
+    public static final String MESSAGE_ALREADY_ACTIVE = "Already using client book: %1$s";
+    public static final String MESSAGE_LOAD_FAILED = "Could not load client book %1$s: %2$s";
+    public static final String MESSAGE_BOOKS = "Client books: %1$s\nCurrently using: %2$s";
+
+    private final Optional<String> bookName;
+
+    /**
+     * Creates a SwitchCommand to switch to the book named {@code bookName}, or to list the books if it is empty.
+     */
+    public SwitchCommand(Optional<String> bookName) {
+        requireNonNull(bookName);
+        this.bookName = bookName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (bookName.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_BOOKS,
+                    String.join(", ", model.getBookNames()), model.getBookName()));
+        }
+
+        String name = bookName.get();
+        if (model.getBookName().equals(name)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_ACTIVE, name));
+        }
+
+        boolean existed;
+        try {
+            existed = model.switchBook(name);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_LOAD_FAILED, name, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(existed ? MESSAGE_SUCCESS : MESSAGE_CREATED, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SwitchCommand)) {
+            return false;
+        }
+
+        SwitchCommand otherSwitchCommand = (SwitchCommand) other;
+        return bookName.equals(otherSwitchCommand.bookName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("bookName", bookName.orElse(null))
+                .toString();
+    }
+}
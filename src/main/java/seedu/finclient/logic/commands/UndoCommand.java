@@ -0,0 +1,29 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+
+/**
+ * Reverts the address book to its state before the previous command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoFinClient()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoFinClient();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
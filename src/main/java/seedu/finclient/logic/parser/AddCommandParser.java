@@ -98,7 +98,7 @@ public class AddCommandParser implements Parser<AddCommand> {
                 company = ParserUtil.parseCompany(argMultimap.getValue(PREFIX_COMPANY).get());
             }
         } else {
-            company = new Company();
+            company = Company.empty();
         }
 
         if (arePrefixesPresent(argMultimap, PREFIX_JOB)) {
@@ -108,7 +108,7 @@ public class AddCommandParser implements Parser<AddCommand> {
                 job = ParserUtil.parseJob(argMultimap.getValue(PREFIX_JOB).get());
             }
         } else {
-            job = new Job();
+            job = Job.empty();
         }
 
         if (arePrefixesPresent(argMultimap, PREFIX_PLATFORM)) {
@@ -118,7 +118,7 @@ public class AddCommandParser implements Parser<AddCommand> {
                 stockPlatform = ParserUtil.parseStockPlatform(argMultimap.getValue(PREFIX_PLATFORM).get());
             }
         } else {
-            stockPlatform = new StockPlatform();
+            stockPlatform = StockPlatform.empty();
         }
 
         if (arePrefixesPresent(argMultimap, PREFIX_NETWORTH)) {
@@ -128,7 +128,7 @@ public class AddCommandParser implements Parser<AddCommand> {
                 networth = ParserUtil.parseNetworth(argMultimap.getValue(PREFIX_NETWORTH).get());
             }
         } else {
-            networth = new Networth();
+            networth = Networth.empty();
         }
 
         Person person = new Person(name, phoneList, email, address, order, remark, tagList, company, job,
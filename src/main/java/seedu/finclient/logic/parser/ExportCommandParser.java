@@ -0,0 +1,31 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.finclient.logic.commands.ExportCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.storage.DataFileFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        Path filePath = ParserUtil.parseFilePath(args);
+        if (DataFileFormat.fromFileName(filePath).isEmpty()) {
+            throw new ParseException(DataFileFormat.MESSAGE_CONSTRAINTS);
+        }
+        return new ExportCommand(filePath);
+    }
+}
@@ -14,13 +14,21 @@ import seedu.finclient.logic.commands.Command;
 import seedu.finclient.logic.commands.DeleteCommand;
 import seedu.finclient.logic.commands.EditCommand;
 import seedu.finclient.logic.commands.ExitCommand;
+import seedu.finclient.logic.commands.ExportCommand;
 import seedu.finclient.logic.commands.FindCommand;
 import seedu.finclient.logic.commands.HelpCommand;
 import seedu.finclient.logic.commands.HideCommand;
+import seedu.finclient.logic.commands.ImportCommand;
 import seedu.finclient.logic.commands.ListCommand;
+import seedu.finclient.logic.commands.LookupCommand;
 import seedu.finclient.logic.commands.OrderCommand;
+import seedu.finclient.logic.commands.RedoCommand;
 import seedu.finclient.logic.commands.RevealCommand;
+import seedu.finclient.logic.commands.SearchCommand;
 import seedu.finclient.logic.commands.SortCommand;
+import seedu.finclient.logic.commands.StatsCommand;
+import seedu.finclient.logic.commands.SwitchCommand;
+import seedu.finclient.logic.commands.UndoCommand;
 import seedu.finclient.logic.parser.exceptions.ParseException;
 
 /**
@@ -93,6 +101,30 @@ public class FinClientParser {
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case LookupCommand.COMMAND_WORD:
+            return new LookupCommandParser().parse(arguments);
+
+        case SwitchCommand.COMMAND_WORD:
+            return new SwitchCommandParser().parse(arguments);
+
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
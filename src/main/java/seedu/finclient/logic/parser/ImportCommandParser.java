@@ -0,0 +1,24 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.finclient.logic.commands.ImportCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(ParserUtil.parseFilePath(args));
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.finclient.logic.parser;
+
+import java.util.Optional;
+
+import seedu.finclient.logic.commands.LookupCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.person.PhoneIndex;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns a LookupCommand object for execution.
+     * Non-digit characters in the phone number, such as spaces and dashes, are ignored.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LookupCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new LookupCommand(Optional.empty());
+        }
+        return new LookupCommand(Optional.of(ParserUtil.parsePhone(PhoneIndex.normalize(trimmedArgs))));
+    }
+}
@@ -3,6 +3,8 @@ package seedu.finclient.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.finclient.model.person.Remark.FORMATTER;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -13,6 +15,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import seedu.finclient.commons.core.index.Index;
+import seedu.finclient.commons.util.FileUtil;
 import seedu.finclient.commons.util.StringUtil;
 import seedu.finclient.logic.commands.remark.CommandType;
 import seedu.finclient.logic.parser.exceptions.ParseException;
@@ -35,6 +38,7 @@ import seedu.finclient.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not valid.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -49,6 +53,21 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is blank or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -227,7 +246,7 @@ public class ParserUtil {
         if (!Company.isValidCompany(trimmedCompany)) {
             throw new ParseException(Company.MESSAGE_CONSTRAINTS);
         }
-        return new Company(trimmedCompany);
+        return Company.of(trimmedCompany);
     }
 
     /**
@@ -242,7 +261,7 @@ public class ParserUtil {
         if (!Job.isValidJob(trimmedJob)) {
             throw new ParseException(Job.MESSAGE_CONSTRAINTS);
         }
-        return new Job(trimmedJob);
+        return Job.of(trimmedJob);
     }
 
     /**
@@ -257,7 +276,7 @@ public class ParserUtil {
         if (!StockPlatform.isValidStockPlatform(trimmedPlatform)) {
             throw new ParseException(StockPlatform.MESSAGE_CONSTRAINTS);
         }
-        return new StockPlatform(trimmedPlatform);
+        return StockPlatform.of(trimmedPlatform);
     }
 
     /**
@@ -279,7 +298,7 @@ public class ParserUtil {
             }
         }
 
-        return new Networth(trimmedNetworth);
+        return Networth.of(trimmedNetworth);
     }
 
     /**
@@ -294,7 +313,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -3,27 +3,56 @@ package seedu.finclient.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.finclient.logic.commands.SortCommand;
 import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.sort.SortCriterion;
+import seedu.finclient.model.sort.SortField;
 
 /**
  * Parses input arguments and creates a new SortCommand object
  */
 public class SortCommandParser implements Parser<SortCommand> {
+
+    private static final String FIELD_SEPARATOR = ",";
+
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns a SortCommand object for execution.
+     * Arguments are comma-separated criteria, each optionally followed by a direction,
+     * e.g. "networth desc, deadline asc, name".
      * @throws ParseException if the user input does not conform the expected format
      */
     public SortCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        String criteria = args.trim();
+        List<SortField> fields = new ArrayList<>();
+        for (String field : args.split(FIELD_SEPARATOR, -1)) {
+            fields.add(parseSortField(field.trim()));
+        }
+
+        return new SortCommand(new PersonSorter(fields));
+    }
 
-        if (!SortCommand.isValidCriteria(criteria)) {
+    /**
+     * Parses a single criteria with an optional direction, e.g. "networth desc".
+     */
+    private static SortField parseSortField(String field) throws ParseException {
+        String[] tokens = field.split("\\s+");
+        if (tokens.length > 2 || !SortCommand.isValidCriteria(tokens[0])) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        return new SortCommand(criteria);
+        SortCriterion criterion = SortCriterion.fromKeyword(tokens[0]).get();
+        if (tokens.length == 1 || tokens[1].equals(SortField.ASCENDING)) {
+            return SortField.ascending(criterion);
+        }
+        if (tokens[1].equals(SortField.DESCENDING)) {
+            return new SortField(criterion, true);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
     }
 }
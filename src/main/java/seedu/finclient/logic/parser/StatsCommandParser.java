@@ -0,0 +1,41 @@
+package seedu.finclient.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.finclient.logic.commands.StatsCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.stats.StatsField;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    private static final String FIELD_SEPARATOR = ",";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * Arguments are comma-separated fields without repeats, e.g. "networth, tag".
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        List<StatsField> fields = new ArrayList<>();
+        for (String keyword : args.split(FIELD_SEPARATOR, -1)) {
+            Optional<StatsField> field = StatsField.fromKeyword(keyword.trim());
+            if (field.isEmpty() || fields.contains(field.get())) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+            }
+            fields.add(field.get());
+        }
+
+        return new StatsCommand(fields);
+    }
+}
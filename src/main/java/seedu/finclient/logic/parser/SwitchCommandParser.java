@@ -0,0 +1,34 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.finclient.logic.commands.SwitchCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.book.BookShelf;
+
+/**
+ * Parses input arguments and creates a new SwitchCommand object
+ */
+public class SwitchCommandParser implements Parser<SwitchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SwitchCommand
+     * and returns a SwitchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SwitchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new SwitchCommand(Optional.empty());
+        }
+        if (trimmedArgs.split("\\s+").length > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+        }
+        if (!BookShelf.isValidBookName(trimmedArgs)) {
+            throw new ParseException(BookShelf.MESSAGE_CONSTRAINTS);
+        }
+        return new SwitchCommand(Optional.of(trimmedArgs));
+    }
+}
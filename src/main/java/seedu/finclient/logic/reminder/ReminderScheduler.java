@@ -0,0 +1,131 @@
+package seedu.finclient.logic.reminder;
+
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Notifies a listener when remark timestamps of persons in the {@code Model} are reached.
+ *
+ * Only one timer is pending at any time: it is set for the earliest remark timestamp after the last reminder,
+ * taken from the model's deadline index. When it fires, every person due since the last reminder is passed to the
+ * listener and the timer is set for the next timestamp. Changes to the person list reschedule the timer, so there
+ * is no polling and an idle scheduler costs nothing regardless of how many remarks are scheduled.
+ *
+ * The model is only read through {@code modelExecutor}, which should run tasks on the thread that mutates the
+ * model (the JavaFX application thread in the app). The timer thread itself never touches the model.
+ */
+public class ReminderScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final Consumer<List<Person>> listener;
+    private final Clock clock;
+    private final ScheduledThreadPoolExecutor timer;
+    private final ListChangeListener<Person> personListListener = change -> reschedule();
+
+    /** Remark timestamps up to and including this time have already been reminded of. */
+    private LocalDateTime remindedUpTo;
+    private ScheduledFuture<?> pendingReminder;
+
+    /**
+     * Creates a {@code ReminderScheduler} using the system clock.
+     */
+    public ReminderScheduler(Model model, Executor modelExecutor, Consumer<List<Person>> listener) {
+        this(model, modelExecutor, listener, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code ReminderScheduler} that reads the current time from {@code clock}.
+     */
+    public ReminderScheduler(Model model, Executor modelExecutor, Consumer<List<Person>> listener, Clock clock) {
+        requireAllNonNull(model, modelExecutor, listener, clock);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.listener = listener;
+        this.clock = clock;
+
+        timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts scheduling reminders for remarks due after now. Must be called on the model thread.
+     */
+    public void start() {
+        remindedUpTo = LocalDateTime.now(clock);
+        model.getFinClient().getPersonList().addListener(personListListener);
+        reschedule();
+    }
+
+    /**
+     * Stops the scheduler. Pending reminders are discarded.
+     */
+    public void stop() {
+        model.getFinClient().getPersonList().removeListener(personListListener);
+        timer.shutdownNow();
+    }
+
+    /**
+     * Sets the timer for the earliest remark timestamp that has not been reminded of yet.
+     * Must be called on the model thread.
+     */
+    void reschedule() {
+        if (pendingReminder != null) {
+            pendingReminder.cancel(false);
+            pendingReminder = null;
+        }
+        if (timer.isShutdown()) {
+            return;
+        }
+
+        Optional<LocalDateTime> next = model.getNextDeadlineAfter(remindedUpTo);
+        if (next.isEmpty()) {
+            return;
+        }
+
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(clock), next.get()).toMillis());
+        logger.fine("Next reminder at " + next.get() + " in " + delayMillis + "ms");
+        pendingReminder = timer.schedule(() -> modelExecutor.execute(this::remindDuePersons),
+                delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Notifies the listener of persons whose remark timestamps have passed since the last reminder.
+     * Must be called on the model thread.
+     */
+    void remindDuePersons() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (now.isAfter(remindedUpTo)) {
+            List<Person> duePersons = model.getPersonsWithDeadlineBetween(remindedUpTo.plusNanos(1),
+                    now.plusNanos(1));
+            remindedUpTo = now;
+            if (!duePersons.isEmpty()) {
+                logger.info("Reminding of " + duePersons.size() + " due event(s)");
+                listener.accept(duePersons);
+            }
+        }
+        reschedule();
+    }
+}
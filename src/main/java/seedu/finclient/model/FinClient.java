@@ -2,14 +2,22 @@ package seedu.finclient.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.finclient.commons.util.ToStringBuilder;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonBatch;
+import seedu.finclient.model.person.PersonVector;
 import seedu.finclient.model.person.UniquePersonList;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.stats.GroupStats;
+import seedu.finclient.model.stats.StatsField;
 
 /**
  * Wraps all data at the address-book level
@@ -95,6 +103,13 @@ public class FinClient implements ReadOnlyFinClient {
         persons.remove(key);
     }
 
+    /**
+     * Applies the mutations in {@code batch} in order, as a single transaction with a single change to the list.
+     */
+    public void applyBatch(PersonBatch batch) {
+        persons.applyBatch(batch);
+    }
+
     /**
      * Hides details of the person that satisfies the predicate.
      */
@@ -130,13 +145,103 @@ public class FinClient implements ReadOnlyFinClient {
         return persons.calculateClearingPrice();
     }
 
-    public void sortPersons(String criteria) {
-        persons.sortPersons(criteria);
+    /**
+     * Sorts the persons with {@code sorter}, in parallel if there are at least {@code parallelThreshold} persons.
+     */
+    public void sortPersons(PersonSorter sorter, int parallelThreshold) {
+        persons.sortPersons(sorter, parallelThreshold);
     }
+
     public List<Person> getUpcomingPersons(int count) {
         return persons.upcomingPersons(count);
     }
 
+    /**
+     * Returns the persons whose remarks have timestamps at or after {@code start} and before {@code end},
+     * earliest first.
+     */
+    public List<Person> getPersonsWithDeadlineBetween(LocalDateTime start, LocalDateTime end) {
+        return persons.personsWithDeadlineBetween(start, end);
+    }
+
+    /**
+     * Returns the earliest remark timestamp strictly after {@code time}, if any.
+     */
+    public Optional<LocalDateTime> getNextDeadlineAfter(LocalDateTime time) {
+        return persons.nextDeadlineAfter(time);
+    }
+
+    /**
+     * Returns the persons with a networth from {@code min} to {@code max} inclusive, poorest first.
+     */
+    public List<Person> getPersonsWithNetworthBetween(long min, long max) {
+        return persons.personsWithNetworthBetween(min, max);
+    }
+
+    /**
+     * Returns up to {@code count} persons with the highest networth, richest first.
+     */
+    public List<Person> getRichestPersons(int count) {
+        return persons.richestPersons(count);
+    }
+
+    /**
+     * Returns the networth amount at {@code percentile} (from 0 to 100).
+     */
+    public OptionalLong getNetworthPercentile(double percentile) {
+        return persons.networthPercentile(percentile);
+    }
+
+    /**
+     * Returns the visible persons with the phone number {@code number}.
+     */
+    public List<Person> getPersonsWithPhone(String number) {
+        return persons.personsWithPhone(number);
+    }
+
+    /**
+     * Returns the phone numbers shared by more than one visible person, each with its persons.
+     */
+    public Map<String, List<Person>> getSharedPhoneNumbers() {
+        return persons.sharedPhoneNumbers();
+    }
+
+    /**
+     * Returns the aggregates of the persons grouped by {@code fields}.
+     */
+    public List<GroupStats> getGroupStats(List<StatsField> fields) {
+        return persons.groupStats(fields);
+    }
+
+    /**
+     * Returns the number of changes made to the data so far. Equal versions mean the data is unchanged.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current data. Safe to call from any thread.
+     */
+    public FinClientSnapshot getSnapshot() {
+        return new FinClientSnapshot(persons.snapshot());
+    }
+
+    /**
+     * Returns the sorter the persons are currently kept sorted by, if any.
+     */
+    Optional<PersonSorter> getActiveSorter() {
+        return persons.getActiveSorter();
+    }
+
+    /**
+     * Restores the persons to {@code snapshot}, kept sorted by {@code sorter} if it is not null.
+     * {@code snapshot} must have been taken from this {@code FinClient}.
+     */
+    void restore(PersonVector snapshot, PersonSorter sorter) {
+        persons.restore(snapshot, sorter);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,88 @@
+package seedu.finclient.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonVector;
+
+/**
+ * An immutable view of a {@code FinClient} at a point in time.
+ * Snapshots share their structure with the live data, so taking one is O(1), and they can be read from any thread.
+ */
+public class FinClientSnapshot implements ReadOnlyFinClient {
+
+    private final PersonVector persons;
+    private final ObservableList<Person> personList;
+
+    /**
+     * Creates a snapshot holding {@code persons}.
+     */
+    public FinClientSnapshot(PersonVector persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.personList = new ImmutablePersonList(persons);
+    }
+
+    public PersonVector getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the persons in the snapshot. The list never changes, so listeners added to it are never notified.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FinClientSnapshot)) {
+            return false;
+        }
+
+        FinClientSnapshot otherSnapshot = (FinClientSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+
+    /**
+     * An {@code ObservableList} view of a {@code PersonVector}. Mutators are unsupported.
+     */
+    private static class ImmutablePersonList extends ObservableListBase<Person> {
+        private final PersonVector persons;
+
+        ImmutablePersonList(PersonVector persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package seedu.finclient.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.finclient.commons.core.GuiSettings;
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.book.BookLoader;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonBatch;
+import seedu.finclient.model.person.PersonPage;
+import seedu.finclient.model.person.exceptions.InvalidCursorException;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.stats.GroupStats;
+import seedu.finclient.model.stats.StatsField;
 
 /**
  * The API of the Model component.
@@ -54,6 +66,18 @@ public interface Model {
     /** Returns the FinClient */
     ReadOnlyFinClient getFinClient();
 
+    /**
+     * Returns an immutable snapshot of the FinClient as of the last completed mutation.
+     * Unlike {@link #getFinClient()}, the snapshot is safe to read from any thread.
+     */
+    FinClientSnapshot getFinClientSnapshot();
+
+    /**
+     * Returns the number of changes made to the address book data so far.
+     * The version only increases when the data really changes, so equal versions mean there is nothing new to save.
+     */
+    long getFinClientVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -78,6 +102,12 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Applies the mutations in {@code batch} in order, as a single transaction.
+     * The person list publishes a single change, and is left unchanged if any mutation fails.
+     */
+    void batch(PersonBatch batch);
+
     /**
      * Hides details of person(s) that matches the predicate
      * @param predicate
@@ -118,9 +148,115 @@ public interface Model {
     Optional<Double> calculateClearingPrice();
 
     /**
-     * Sorts the persons in the address book by the given criteria.
+     * Sorts the persons in the address book with the given sorter.
+     */
+    void sortPersons(PersonSorter sorter);
+
+    /**
+     * Returns the visible persons with a networth from {@code min} to {@code max} inclusive, poorest first.
+     * Only persons whose exact networth is known are included.
+     */
+    List<Person> getPersonsWithNetworthBetween(long min, long max);
+
+    /**
+     * Returns up to {@code count} visible persons with the highest known networth, richest first.
+     */
+    List<Person> getRichestPersons(int count);
+
+    /**
+     * Returns the networth amount at {@code percentile} (from 0 to 100) among persons whose exact networth is known,
+     * or an empty value if there are none.
+     */
+    OptionalLong getNetworthPercentile(double percentile);
+
+    /**
+     * Returns the visible persons with the phone number {@code number}, ignoring any non-digit characters in it.
+     * Takes constant time however many persons there are.
+     */
+    List<Person> getPersonsWithPhone(String number);
+
+    /**
+     * Returns the phone numbers shared by more than one visible person in ascending order, each with its persons.
      */
-    void sortPersons(String criteria);
+    Map<String, List<Person>> getSharedPhoneNumbers();
+
+    /**
+     * Returns the client count and order quantities of all persons, grouped by {@code fields}.
+     * {@code fields} must not be empty or repeat a field.
+     */
+    List<GroupStats> getGroupStats(List<StatsField> fields);
+
+    /**
+     * Returns the name of the active client book, which is the name of its data file.
+     */
+    String getBookName();
+
+    /**
+     * Returns the names of every client book stored alongside the active book, including the active book.
+     */
+    List<String> getBookNames();
+
+    /**
+     * Makes the book named {@code name} the active book, creating an empty book if there is none.
+     * The current book must already have been saved. Its undo history is discarded.
+     *
+     * @return true if the book already existed.
+     * @throws DataLoadingException if the book could not be read, in which case the active book is unchanged.
+     */
+    boolean switchBook(String name) throws DataLoadingException;
+
+    /**
+     * Returns the persons whose names contain any of {@code keywords} in each client book, active book first.
+     * Books without matches are left out.
+     */
+    Map<String, List<Person>> searchBooks(List<String> keywords);
+
+    /**
+     * Sets the loader used to read client books other than the active one.
+     */
+    void setBookLoader(BookLoader bookLoader);
+
+    /**
+     * Writes a copy of the address book data to {@code filePath} through the book loader, in the format given by
+     * the extension of the file name.
+     *
+     * @throws IOException if the file could not be written, or there is no book loader.
+     */
+    void exportFinClient(Path filePath) throws IOException;
+
+    /**
+     * Replaces the address book data with the data in the file at {@code filePath}, read through the book loader
+     * in whichever format the file is in.
+     *
+     * @return false if there is no such file, in which case the address book is unchanged.
+     * @throws DataLoadingException if the file could not be read, in which case the address book is unchanged.
+     */
+    boolean importFinClient(Path filePath) throws DataLoadingException;
+
+    /**
+     * Saves the current state of the address book for undo/redo, if it has changed since the last saved state.
+     */
+    void commitFinClient();
+
+    /**
+     * Returns true if there is a saved state of the address book to go back to.
+     */
+    boolean canUndoFinClient();
+
+    /**
+     * Returns true if there is an undone state of the address book to restore.
+     */
+    boolean canRedoFinClient();
+
+    /**
+     * Restores the address book to its previous saved state.
+     */
+    void undoFinClient();
+
+    /**
+     * Restores the address book to its most recently undone state.
+     */
+    void redoFinClient();
 
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
@@ -130,5 +266,30 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the first {@code pageSize} persons of the filtered person list, in display order.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    PersonPage getFirstPersonPage(int pageSize);
+
+    /**
+     * Returns the {@code pageSize} persons of the filtered person list that follow the page that issued
+     * {@code cursor}.
+     * @throws InvalidCursorException if {@code cursor} is malformed or has expired.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    PersonPage getNextPersonPage(String cursor, int pageSize);
     List<Person> getUpcomingPersons(int count);
+
+    /**
+     * Returns the persons whose remarks have timestamps at or after {@code start} and before {@code end},
+     * earliest first.
+     */
+    List<Person> getPersonsWithDeadlineBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the earliest remark timestamp strictly after {@code time}, if any.
+     */
+    Optional<LocalDateTime> getNextDeadlineAfter(LocalDateTime time);
 }
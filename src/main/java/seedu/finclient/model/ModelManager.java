@@ -1,11 +1,17 @@
 package seedu.finclient.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
 import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,7 +19,17 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.finclient.commons.core.GuiSettings;
 import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.book.BookLoader;
+import seedu.finclient.model.book.BookShelf;
+import seedu.finclient.model.person.NameContainsKeywordsPredicate;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonBatch;
+import seedu.finclient.model.person.PersonPage;
+import seedu.finclient.model.person.PersonPager;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.stats.GroupStats;
+import seedu.finclient.model.stats.StatsField;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,9 +37,12 @@ import seedu.finclient.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final FinClient finClient;
+    private final VersionedFinClient finClient;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final BookShelf bookShelf;
+    private final PersonPager personPager;
+    private BookLoader bookLoader;
 
     /**
      * Initializes a ModelManager with the given finClient and userPrefs.
@@ -33,9 +52,11 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.finClient = new FinClient(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.finClient = new VersionedFinClient(addressBook, this.userPrefs.getUndoHistoryDepth());
         filteredPersons = new FilteredList<>(this.finClient.getPersonList());
+        personPager = new PersonPager(filteredPersons);
+        bookShelf = new BookShelf(this.userPrefs.getBookCacheBudget());
     }
 
     public ModelManager() {
@@ -48,6 +69,8 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        finClient.setMaxHistory(this.userPrefs.getUndoHistoryDepth());
+        bookShelf.setCacheBudget(this.userPrefs.getBookCacheBudget());
     }
 
     @Override
@@ -89,6 +112,16 @@ public class ModelManager implements Model {
         return finClient;
     }
 
+    @Override
+    public FinClientSnapshot getFinClientSnapshot() {
+        return finClient.getSnapshot();
+    }
+
+    @Override
+    public long getFinClientVersion() {
+        return finClient.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -112,6 +145,15 @@ public class ModelManager implements Model {
         finClient.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void batch(PersonBatch batch) {
+        requireNonNull(batch);
+        finClient.applyBatch(batch);
+        if (batch.hasAdditions()) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
     @Override
     public void hidePerson(Predicate<Person> predicate) {
         requireNonNull(predicate);
@@ -152,13 +194,151 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortPersons(String criteria) {
-        finClient.sortPersons(criteria);
+    public void sortPersons(PersonSorter sorter) {
+        requireNonNull(sorter);
+        finClient.sortPersons(sorter, userPrefs.getParallelSortThreshold());
     }
     @Override
     public List<Person> getUpcomingPersons(int count) {
         return finClient.getUpcomingPersons(count);
     }
+
+    @Override
+    public List<Person> getPersonsWithDeadlineBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return finClient.getPersonsWithDeadlineBetween(start, end);
+    }
+
+    @Override
+    public Optional<LocalDateTime> getNextDeadlineAfter(LocalDateTime time) {
+        requireNonNull(time);
+        return finClient.getNextDeadlineAfter(time);
+    }
+
+    @Override
+    public List<Person> getPersonsWithNetworthBetween(long min, long max) {
+        return finClient.getPersonsWithNetworthBetween(min, max);
+    }
+
+    @Override
+    public List<Person> getRichestPersons(int count) {
+        return finClient.getRichestPersons(count);
+    }
+
+    @Override
+    public OptionalLong getNetworthPercentile(double percentile) {
+        return finClient.getNetworthPercentile(percentile);
+    }
+
+    @Override
+    public List<Person> getPersonsWithPhone(String number) {
+        requireNonNull(number);
+        return finClient.getPersonsWithPhone(number);
+    }
+
+    @Override
+    public Map<String, List<Person>> getSharedPhoneNumbers() {
+        return finClient.getSharedPhoneNumbers();
+    }
+
+    @Override
+    public List<GroupStats> getGroupStats(List<StatsField> fields) {
+        requireNonNull(fields);
+        return finClient.getGroupStats(fields);
+    }
+
+    //=========== Client books =============================================================================
+
+    @Override
+    public String getBookName() {
+        return BookShelf.nameOf(getFinClientFilePath());
+    }
+
+    @Override
+    public List<String> getBookNames() {
+        return bookShelf.getBookNames(getFinClientFilePath());
+    }
+
+    @Override
+    public boolean switchBook(String name) throws DataLoadingException {
+        requireNonNull(name);
+        checkArgument(BookShelf.isValidBookName(name), BookShelf.MESSAGE_CONSTRAINTS);
+        String currentName = getBookName();
+        Path bookFile = BookShelf.pathOf(getFinClientFilePath(), name);
+        Optional<ReadOnlyFinClient> book = bookShelf.take(bookFile);
+
+        bookShelf.put(currentName, finClient.getSnapshot());
+        finClient.switchTo(book.orElseGet(FinClient::new));
+        userPrefs.setFinClientFilePath(bookFile);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        logger.info("Switched from book " + currentName + " to " + name);
+        return book.isPresent();
+    }
+
+    @Override
+    public Map<String, List<Person>> searchBooks(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<String, List<Person>> matches = new LinkedHashMap<>();
+        List<Person> activeMatches = List.copyOf(
+                finClient.getPersonList().filtered(new NameContainsKeywordsPredicate(keywords)));
+        if (!activeMatches.isEmpty()) {
+            matches.put(getBookName(), activeMatches);
+        }
+        matches.putAll(bookShelf.search(getFinClientFilePath(), keywords));
+        return matches;
+    }
+
+    @Override
+    public void setBookLoader(BookLoader bookLoader) {
+        this.bookLoader = bookLoader;
+        bookShelf.setLoader(bookLoader);
+    }
+
+    @Override
+    public void exportFinClient(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (bookLoader == null) {
+            throw new IOException("There is no storage to export to");
+        }
+        bookLoader.exportBook(finClient.getSnapshot(), filePath);
+        logger.info("Exported book " + getBookName() + " to " + filePath);
+    }
+
+    @Override
+    public boolean importFinClient(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyFinClient> book = bookLoader == null ? Optional.empty() : bookLoader.loadBook(filePath);
+        book.ifPresent(this::setFinClient);
+        return book.isPresent();
+    }
+
+    //=========== Undo/Redo ================================================================================
+
+    @Override
+    public void commitFinClient() {
+        finClient.commit();
+    }
+
+    @Override
+    public boolean canUndoFinClient() {
+        return finClient.canUndo();
+    }
+
+    @Override
+    public boolean canRedoFinClient() {
+        return finClient.canRedo();
+    }
+
+    @Override
+    public void undoFinClient() {
+        finClient.undo();
+    }
+
+    @Override
+    public void redoFinClient() {
+        finClient.redo();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -176,6 +356,16 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public PersonPage getFirstPersonPage(int pageSize) {
+        return personPager.getFirstPage(pageSize);
+    }
+
+    @Override
+    public PersonPage getNextPersonPage(String cursor, int pageSize) {
+        return personPager.getNextPage(cursor, pageSize);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,7 @@ package seedu.finclient.model;
 import java.nio.file.Path;
 
 import seedu.finclient.commons.core.GuiSettings;
+import seedu.finclient.commons.core.StorageMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,30 @@ public interface ReadOnlyUserPrefs {
 
     Path getFinClientFilePath();
 
+    /**
+     * Returns the number of persons from which sorts run in parallel.
+     */
+    int getParallelSortThreshold();
+
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    int getUndoHistoryDepth();
+
+    /**
+     * Returns the number of persons of inactive books that may be kept in memory.
+     */
+    int getBookCacheBudget();
+
+    /**
+     * Returns the way that the data file is saved in.
+     */
+    StorageMode getStorageMode();
+
+    /**
+     * Returns the level that the data file is compressed at when saved, or 0 if it is saved uncompressed.
+     * Ignored for the binary storage mode, which is already compact and is read through a memory mapping.
+     */
+    int getDataCompressionLevel();
+
 }
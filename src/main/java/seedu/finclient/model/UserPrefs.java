@@ -1,12 +1,17 @@
 package seedu.finclient.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.finclient.commons.core.GuiSettings;
+import seedu.finclient.commons.core.StorageMode;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.model.book.BookCache;
+import seedu.finclient.model.sort.PersonSorter;
 
 /**
  * Represents User's preferences.
@@ -15,6 +20,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path finClientFilePath = Paths.get("data" , "finclient.json");
+    private int parallelSortThreshold = PersonSorter.DEFAULT_PARALLEL_THRESHOLD;
+    private int undoHistoryDepth = VersionedFinClient.DEFAULT_MAX_HISTORY;
+    private int bookCacheBudget = BookCache.DEFAULT_BUDGET;
+    private StorageMode storageMode = StorageMode.JSON;
+    private int dataCompressionLevel = FileUtil.NO_COMPRESSION;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +46,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setFinClientFilePath(newUserPrefs.getFinClientFilePath());
+        setParallelSortThreshold(newUserPrefs.getParallelSortThreshold());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setBookCacheBudget(newUserPrefs.getBookCacheBudget());
+        setStorageMode(newUserPrefs.getStorageMode());
+        setDataCompressionLevel(newUserPrefs.getDataCompressionLevel());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +71,64 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.finClientFilePath = finClientFilePath;
     }
 
+    public int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    /**
+     * Sets the number of persons from which sorts run in parallel.
+     */
+    public void setParallelSortThreshold(int parallelSortThreshold) {
+        checkArgument(parallelSortThreshold > 0, "Parallel sort threshold must be positive");
+        this.parallelSortThreshold = parallelSortThreshold;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of commands that can be undone.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth > 0, "Undo history depth must be positive");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getBookCacheBudget() {
+        return bookCacheBudget;
+    }
+
+    /**
+     * Sets the number of persons of inactive books that may be kept in memory.
+     */
+    public void setBookCacheBudget(int bookCacheBudget) {
+        checkArgument(bookCacheBudget >= 0, "Book cache budget must not be negative");
+        this.bookCacheBudget = bookCacheBudget;
+    }
+
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        requireNonNull(storageMode);
+        this.storageMode = storageMode;
+    }
+
+    public int getDataCompressionLevel() {
+        return dataCompressionLevel;
+    }
+
+    /**
+     * Sets the level that the data file is compressed at when saved, from 0 for uncompressed to 9.
+     */
+    public void setDataCompressionLevel(int dataCompressionLevel) {
+        checkArgument(FileUtil.isValidCompressionLevel(dataCompressionLevel),
+                FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.dataCompressionLevel = dataCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +142,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && finClientFilePath.equals(otherUserPrefs.finClientFilePath);
+                && finClientFilePath.equals(otherUserPrefs.finClientFilePath)
+                && parallelSortThreshold == otherUserPrefs.parallelSortThreshold
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && bookCacheBudget == otherUserPrefs.bookCacheBudget
+                && storageMode == otherUserPrefs.storageMode
+                && dataCompressionLevel == otherUserPrefs.dataCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, finClientFilePath);
+        return Objects.hash(guiSettings, finClientFilePath, parallelSortThreshold, undoHistoryDepth,
+                bookCacheBudget, storageMode, dataCompressionLevel);
     }
 
     @Override
@@ -82,6 +161,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + finClientFilePath);
+        sb.append("\nParallel sort threshold : " + parallelSortThreshold);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nBook cache budget : " + bookCacheBudget);
+        sb.append("\nStorage mode : " + storageMode);
+        sb.append("\nData compression level : " + dataCompressionLevel);
         return sb.toString();
     }
 
@@ -0,0 +1,136 @@
+package seedu.finclient.model;
+
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.finclient.model.person.PersonVector;
+import seedu.finclient.model.sort.PersonSorter;
+
+/**
+ * A {@code FinClient} with an undo/redo history of committed states.
+ *
+ * States are {@code PersonVector} snapshots, which share all unchanged structure with each other, so each commit
+ * only costs memory in proportion to the size of the change. Hiding and revealing persons replaces them with
+ * hidden or revealed copies, so those changes are part of the states as well.
+ */
+public class VersionedFinClient extends FinClient {
+
+    public static final int DEFAULT_MAX_HISTORY = 50;
+
+    private final List<State> states = new ArrayList<>();
+    private int currentStatePointer;
+    private int maxHistory;
+
+    /**
+     * Creates a {@code VersionedFinClient} holding the persons in {@code initialState}, keeping at most
+     * {@code maxHistory} undoable states.
+     */
+    public VersionedFinClient(ReadOnlyFinClient initialState, int maxHistory) {
+        super(initialState);
+        setMaxHistory(maxHistory);
+        states.add(currentState());
+    }
+
+    /**
+     * Sets the number of undoable states to keep, discarding the oldest states if there are more.
+     */
+    public void setMaxHistory(int maxHistory) {
+        checkArgument(maxHistory > 0, "Undo history depth must be positive");
+        this.maxHistory = maxHistory;
+        discardExcessHistory();
+    }
+
+    /**
+     * Saves the current state in the history, discarding any undone states.
+     * Does nothing if nothing has changed since the last committed state.
+     *
+     * @return true if a new state was saved.
+     */
+    public boolean commit() {
+        State committed = states.get(currentStatePointer);
+        State current = currentState();
+        if (committed.persons == current.persons && committed.sorter == current.sorter) {
+            return false;
+        }
+
+        states.subList(currentStatePointer + 1, states.size()).clear();
+        states.add(current);
+        currentStatePointer++;
+        discardExcessHistory();
+        return true;
+    }
+
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    public boolean canRedo() {
+        return currentStatePointer < states.size() - 1;
+    }
+
+    /**
+     * Restores the previous committed state, discarding any uncommitted changes.
+     *
+     * @throws IllegalStateException if there is no state to undo.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no state to undo");
+        }
+        currentStatePointer--;
+        State previous = states.get(currentStatePointer);
+        restore(previous.persons, previous.sorter);
+    }
+
+    /**
+     * Restores the most recently undone state.
+     *
+     * @throws IllegalStateException if there is no state to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no state to redo");
+        }
+        currentStatePointer++;
+        State next = states.get(currentStatePointer);
+        restore(next.persons, next.sorter);
+    }
+
+    /**
+     * Replaces the data with {@code book}, in its stored order, and starts a new history from it.
+     * {@code book} must not contain duplicate persons.
+     */
+    public void switchTo(ReadOnlyFinClient book) {
+        restore(PersonVector.of(book.getPersonList()), null);
+        states.clear();
+        states.add(currentState());
+        currentStatePointer = 0;
+    }
+
+    private State currentState() {
+        return new State(getSnapshot().getPersons(), getActiveSorter().orElse(null));
+    }
+
+    private void discardExcessHistory() {
+        int excess = states.size() - 1 - maxHistory;
+        if (excess > 0) {
+            states.subList(0, excess).clear();
+            currentStatePointer -= excess;
+        }
+    }
+
+    /**
+     * A committed state: the persons in order, and the sorter they are kept sorted by, if any.
+     */
+    private static class State {
+        private final PersonVector persons;
+        private final PersonSorter sorter;
+
+        State(PersonVector persons, PersonSorter sorter) {
+            this.persons = persons;
+            this.sorter = sorter;
+        }
+    }
+}
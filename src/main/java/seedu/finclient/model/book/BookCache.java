@@ -0,0 +1,101 @@
+package seedu.finclient.model.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.finclient.model.ReadOnlyFinClient;
+
+/**
+ * A least-recently-used cache of loaded client books, holding at most a budgeted number of persons in total.
+ * Books are only cached once they have been saved, so evicting one just drops it; it is reloaded on demand.
+ */
+public class BookCache {
+
+    public static final int DEFAULT_BUDGET = 100_000;
+
+    /** Books in order of use, least recently used first. */
+    private final Map<String, ReadOnlyFinClient> books = new LinkedHashMap<>(16, 0.75f, true);
+    private int budget;
+    private long cachedPersonCount;
+
+    /**
+     * Creates an empty cache holding at most {@code budget} persons.
+     */
+    public BookCache(int budget) {
+        setBudget(budget);
+    }
+
+    /**
+     * Sets the number of persons the cache may hold, evicting the least recently used books if it holds more.
+     */
+    public void setBudget(int budget) {
+        checkArgument(budget >= 0, "Book cache budget must not be negative");
+        this.budget = budget;
+        evictOverBudget();
+    }
+
+    /**
+     * Returns the book named {@code name} if it is cached, marking it as the most recently used.
+     */
+    public Optional<ReadOnlyFinClient> get(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(books.get(name));
+    }
+
+    /**
+     * Caches {@code book} as {@code name}, replacing any book cached as {@code name}, then evicts the least recently
+     * used books until the cache is within its budget. A book larger than the whole budget is not cached.
+     */
+    public void put(String name, ReadOnlyFinClient book) {
+        requireAllNonNull(name, book);
+        remove(name);
+        books.put(name, book);
+        cachedPersonCount += sizeOf(book);
+        evictOverBudget();
+    }
+
+    /**
+     * Removes the book named {@code name} from the cache, if it is cached.
+     */
+    public void remove(String name) {
+        requireNonNull(name);
+        ReadOnlyFinClient removed = books.remove(name);
+        if (removed != null) {
+            cachedPersonCount -= sizeOf(removed);
+        }
+    }
+
+    public boolean contains(String name) {
+        return books.containsKey(name);
+    }
+
+    /**
+     * Returns the names of the cached books, least recently used first.
+     */
+    public List<String> getBookNames() {
+        return List.copyOf(books.keySet());
+    }
+
+    public long getCachedPersonCount() {
+        return cachedPersonCount;
+    }
+
+    private void evictOverBudget() {
+        Iterator<ReadOnlyFinClient> leastRecentlyUsed = books.values().iterator();
+        while (cachedPersonCount > budget && leastRecentlyUsed.hasNext()) {
+            cachedPersonCount -= sizeOf(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static int sizeOf(ReadOnlyFinClient book) {
+        return book.getPersonList().size();
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.finclient.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.finclient.model.ReadOnlyFinClient;
+
+/**
+ * The words in the names of the persons of one client book.
+ * Indexes are small next to the books themselves, so they are kept for every book that has been loaded, and a search
+ * across books only loads the books whose index contains one of the keywords.
+ */
+public class BookIndex {
+
+    private final Set<String> nameWords;
+
+    private BookIndex(Set<String> nameWords) {
+        this.nameWords = nameWords;
+    }
+
+    /**
+     * Returns the index of {@code book}.
+     */
+    public static BookIndex of(ReadOnlyFinClient book) {
+        requireNonNull(book);
+        return new BookIndex(book.getPersonList().stream()
+                .flatMap(person -> Arrays.stream(person.getName().fullName.split("\\s+")))
+                .map(word -> word.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * Returns true if the name of a person in the book contains one of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    public boolean matchesAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream()
+                .anyMatch(keyword -> nameWords.contains(keyword.trim().toLowerCase(Locale.ROOT)));
+    }
+}
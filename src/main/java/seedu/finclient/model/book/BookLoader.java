@@ -0,0 +1,36 @@
+package seedu.finclient.model.book;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.ReadOnlyFinClient;
+
+/**
+ * Reads client books that are not loaded into memory, and writes copies of books to other files.
+ */
+public interface BookLoader {
+
+    /**
+     * Returns the book stored at {@code filePath}, or {@code Optional.empty()} if there is none.
+     *
+     * @throws DataLoadingException if the book could not be read.
+     */
+    Optional<ReadOnlyFinClient> loadBook(Path filePath) throws DataLoadingException;
+
+    /**
+     * Returns the files of every book stored in {@code directory}.
+     *
+     * @throws IOException if the directory could not be read.
+     */
+    List<Path> listBooks(Path directory) throws IOException;
+
+    /**
+     * Writes a copy of {@code book} to {@code filePath}, in the format given by the extension of the file name.
+     *
+     * @throws IOException if the file could not be written, or its extension is not that of any format.
+     */
+    void exportBook(ReadOnlyFinClient book, Path filePath) throws IOException;
+}
@@ -0,0 +1,173 @@
+package seedu.finclient.model.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.NameContainsKeywordsPredicate;
+import seedu.finclient.model.person.Person;
+
+/**
+ * The client books stored alongside the active book, each in its own file named after the book.
+ * Books are loaded on demand and kept in a {@link BookCache}; every book that has been loaded also keeps a
+ * {@link BookIndex}, so that searches across books skip the books that cannot match.
+ */
+public class BookShelf {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Book names should only contain letters, digits, hyphens and underscores, and should not be blank";
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+    public static final String BOOK_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BookShelf.class);
+
+    private final BookCache cache;
+    private final Map<String, BookIndex> indexes = new HashMap<>();
+    private BookLoader loader;
+
+    /**
+     * Creates a shelf that caches at most {@code cacheBudget} persons of inactive books.
+     */
+    public BookShelf(int cacheBudget) {
+        cache = new BookCache(cacheBudget);
+    }
+
+    /**
+     * Returns true if {@code test} is a valid book name.
+     */
+    public static boolean isValidBookName(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the name of the book stored at {@code bookFile}.
+     */
+    public static String nameOf(Path bookFile) {
+        String fileName = bookFile.getFileName().toString();
+        return fileName.endsWith(BOOK_FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - BOOK_FILE_EXTENSION.length())
+                : fileName;
+    }
+
+    /**
+     * Returns the file of the book named {@code name}, in the same directory as {@code siblingFile}.
+     */
+    public static Path pathOf(Path siblingFile, String name) {
+        return siblingFile.resolveSibling(name + BOOK_FILE_EXTENSION);
+    }
+
+    /**
+     * Sets the loader used to read books that are not cached. Without one, only cached books can be opened.
+     */
+    public void setLoader(BookLoader loader) {
+        this.loader = loader;
+    }
+
+    public void setCacheBudget(int cacheBudget) {
+        cache.setBudget(cacheBudget);
+    }
+
+    /**
+     * Returns the names of the books stored alongside {@code activeFile}, including the active book itself,
+     * in alphabetical order.
+     */
+    public List<String> getBookNames(Path activeFile) {
+        requireNonNull(activeFile);
+        TreeSet<String> names = new TreeSet<>(cache.getBookNames());
+        names.add(nameOf(activeFile));
+        if (loader != null) {
+            Path directory = activeFile.toAbsolutePath().getParent();
+            try {
+                loader.listBooks(directory).stream()
+                        .map(BookShelf::nameOf)
+                        .filter(BookShelf::isValidBookName)
+                        .forEach(names::add);
+            } catch (IOException e) {
+                logger.warning("Could not list the books in " + directory + ": " + e.getMessage());
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Removes the book stored at {@code bookFile} from the shelf so that it can become the active book,
+     * loading it if it is not cached. Returns {@code Optional.empty()} if there is no such book.
+     *
+     * @throws DataLoadingException if the book could not be read.
+     */
+    public Optional<ReadOnlyFinClient> take(Path bookFile) throws DataLoadingException {
+        requireNonNull(bookFile);
+        String name = nameOf(bookFile);
+        Optional<ReadOnlyFinClient> book = cache.get(name);
+        cache.remove(name);
+        if (book.isEmpty()) {
+            book = load(bookFile);
+        }
+        return book;
+    }
+
+    /**
+     * Puts {@code book}, which has already been saved as {@code name}, back on the shelf.
+     */
+    public void put(String name, ReadOnlyFinClient book) {
+        requireAllNonNull(name, book);
+        indexes.put(name, BookIndex.of(book));
+        cache.put(name, book);
+    }
+
+    /**
+     * Returns the persons whose names contain any of {@code keywords} in each book stored alongside
+     * {@code activeFile}, other than the active book itself. Books without matches are left out, and books that
+     * cannot be read are skipped.
+     */
+    public Map<String, List<Person>> search(Path activeFile, List<String> keywords) {
+        requireAllNonNull(activeFile, keywords);
+        String activeName = nameOf(activeFile);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        Map<String, List<Person>> matches = new LinkedHashMap<>();
+        for (String name : getBookNames(activeFile)) {
+            BookIndex index = indexes.get(name);
+            if (name.equals(activeName) || (index != null && !index.matchesAny(keywords))) {
+                continue;
+            }
+            Optional<ReadOnlyFinClient> book;
+            try {
+                book = cache.get(name).isPresent() ? cache.get(name) : load(pathOf(activeFile, name));
+            } catch (DataLoadingException e) {
+                logger.warning("Skipping book " + name + " in search: " + e.getMessage());
+                continue;
+            }
+            book.ifPresent(loaded -> cache.put(name, loaded));
+            List<Person> bookMatches = book.map(loaded -> loaded.getPersonList().filtered(predicate))
+                    .map(List::copyOf)
+                    .orElse(List.of());
+            if (!bookMatches.isEmpty()) {
+                matches.put(name, bookMatches);
+            }
+        }
+        return matches;
+    }
+
+    private Optional<ReadOnlyFinClient> load(Path bookFile) throws DataLoadingException {
+        if (loader == null) {
+            return Optional.empty();
+        }
+        logger.info("Loading book from " + bookFile);
+        Optional<ReadOnlyFinClient> book = loader.loadBook(bookFile);
+        book.ifPresent(loaded -> indexes.put(nameOf(bookFile), BookIndex.of(loaded)));
+        return book;
+    }
+}
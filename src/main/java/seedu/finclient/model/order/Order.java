@@ -19,9 +19,9 @@ public class Order {
 
     public static final String MESSAGE_CONSTRAINTS = "Order should be with amount and price";
 
-    private OrderType orderType;
-    private String price;
-    private long quantity;
+    private final OrderType orderType;
+    private final String price;
+    private final long quantity;
 
     /**
      * Constructs a {@code Order}.
@@ -118,25 +118,21 @@ public class Order {
         return Double.parseDouble(price);
     }
 
-    public long getQuantity() {
-        return quantity;
-    }
-
-    public void setOrderType(OrderType orderType) {
-        requireNonNull(orderType);
-        this.orderType = orderType;
-    }
-
-    public void setPrice(String price) {
-        requireNonNull(price);
-        checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS_PRICE);
-        this.price = price;
+    /**
+     * Returns the price as a whole number of cents, parsed from the validated price string without rounding.
+     */
+    public long getPriceInCents() {
+        int decimalPointIndex = price.indexOf('.');
+        if (decimalPointIndex == -1) {
+            return Long.parseLong(price) * 100;
+        }
+        String fraction = price.substring(decimalPointIndex + 1);
+        long cents = Long.parseLong(fraction.length() == 1 ? fraction + "0" : fraction);
+        return Long.parseLong(price.substring(0, decimalPointIndex)) * 100 + cents;
     }
 
-    public void setQuantity(long quantity) {
-        requireNonNull(quantity);
-        checkArgument(isValidQuantity(quantity), MESSAGE_CONSTRAINTS_QUANTITY);
-        this.quantity = quantity;
+    public long getQuantity() {
+        return quantity;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.finclient.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
+import seedu.finclient.commons.util.WeakInternPool;
+
 /**
  * Represents a Person's company in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompany(String)}
@@ -11,6 +13,9 @@ public class Company {
     public static final String MESSAGE_CONSTRAINTS =
             "Company name can be any name, and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final WeakInternPool<Company> POOL = new WeakInternPool<>(Company::new);
+    private static final Company EMPTY = new Company();
+
     public final String value;
 
     /**
@@ -28,6 +33,22 @@ public class Company {
         value = "";
     }
 
+    /**
+     * Returns the shared {@code Company} with the given company name.
+     *
+     * @param companyName A valid company name.
+     */
+    public static Company of(String companyName) {
+        return POOL.intern(companyName);
+    }
+
+    /**
+     * Returns the shared empty {@code Company}, used when none is given.
+     */
+    public static Company empty() {
+        return EMPTY;
+    }
+
     /**
      * Returns true if a given string is a valid company.
      */
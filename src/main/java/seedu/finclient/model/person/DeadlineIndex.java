@@ -0,0 +1,117 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * An index of persons ordered by the timestamp of their remark.
+ * Persons without a remark timestamp are not indexed. Persons sharing a timestamp are kept in insertion order.
+ *
+ * Queries skip hidden persons, since their remarks are not visible.
+ */
+public class DeadlineIndex {
+
+    private final NavigableMap<LocalDateTime, List<Person>> personsByTimestamp = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index if its remark has a timestamp.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        timestampOf(person).ifPresent(timestamp ->
+                personsByTimestamp.computeIfAbsent(timestamp, unused -> new ArrayList<>(1)).add(person));
+    }
+
+    /**
+     * Removes {@code person} from the index if it was indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        timestampOf(person).ifPresent(timestamp -> {
+            List<Person> persons = personsByTimestamp.get(timestamp);
+            if (persons == null) {
+                return;
+            }
+            persons.removeIf(indexed -> indexed == person);
+            if (persons.isEmpty()) {
+                personsByTimestamp.remove(timestamp);
+            }
+        });
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        personsByTimestamp.clear();
+    }
+
+    /**
+     * Returns up to {@code count} persons whose remark timestamp is at or after {@code start}, earliest first.
+     * Runs in O(log n + count) time, plus any hidden persons skipped along the way.
+     */
+    public List<Person> upcoming(LocalDateTime start, int count) {
+        requireNonNull(start);
+        List<Person> upcomingPersons = new ArrayList<>(Math.min(count, personsByTimestamp.size()));
+        for (List<Person> persons : personsByTimestamp.tailMap(start, true).values()) {
+            for (Person person : persons) {
+                if (upcomingPersons.size() >= count) {
+                    return upcomingPersons;
+                }
+                if (!person.getIsHidden()) {
+                    upcomingPersons.add(person);
+                }
+            }
+        }
+        return upcomingPersons;
+    }
+
+    /**
+     * Returns the persons whose remark timestamp is at or after {@code start} and before {@code end},
+     * earliest first.
+     */
+    public List<Person> between(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Person> personsInWindow = new ArrayList<>();
+        if (!start.isBefore(end)) {
+            return personsInWindow;
+        }
+        for (List<Person> persons : personsByTimestamp.subMap(start, true, end, false).values()) {
+            for (Person person : persons) {
+                if (!person.getIsHidden()) {
+                    personsInWindow.add(person);
+                }
+            }
+        }
+        return personsInWindow;
+    }
+
+    /**
+     * Returns the earliest indexed timestamp strictly after {@code time}, if any.
+     * Hidden persons are included, so the timestamp may turn out to have no visible persons.
+     */
+    public Optional<LocalDateTime> nextTimestampAfter(LocalDateTime time) {
+        requireNonNull(time);
+        return Optional.ofNullable(personsByTimestamp.higherKey(time));
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return personsByTimestamp.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static Optional<LocalDateTime> timestampOf(Person person) {
+        // Reads the unmasked remark, as hidden persons stay indexed by their real timestamps.
+        Remark remark = person.getUnmaskedRemark();
+        return remark == null ? Optional.empty() : remark.getTimestamp();
+    }
+}
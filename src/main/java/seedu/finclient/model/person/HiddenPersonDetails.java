@@ -0,0 +1,28 @@
+package seedu.finclient.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.finclient.model.order.Order;
+
+/**
+ * The placeholder details shown in place of a hidden person's details.
+ * The placeholders are immutable and shared by every hidden person, so hiding and revealing persons never
+ * allocates.
+ */
+final class HiddenPersonDetails {
+
+    static final PhoneList PHONE_LIST = new PhoneList(new ArrayList<>(List.of(new Phone("00000000"))))
+            .unmodifiableView();
+    static final Email EMAIL = new Email("hidden@example.com");
+    static final Address ADDRESS = new Address("Hidden");
+    static final Order ORDER = new Order(Order.OrderType.HIDDEN, "1", 1);
+    static final Remark REMARK = new Remark("Sensitive details are hidden", Optional.empty());
+    static final Company COMPANY = Company.of("Hidden");
+    static final Job JOB = Job.of("Hidden");
+    static final StockPlatform STOCK_PLATFORM = StockPlatform.of("Hidden");
+    static final Networth NETWORTH = Networth.of("Hidden");
+
+    private HiddenPersonDetails() {}
+}
@@ -3,6 +3,8 @@ package seedu.finclient.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
+import seedu.finclient.commons.util.WeakInternPool;
+
 /**
  * Represents a Person's job in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidJob(String)}
@@ -11,6 +13,9 @@ public class Job {
     public static final String MESSAGE_CONSTRAINTS =
             "Job title can be any string, and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final WeakInternPool<Job> POOL = new WeakInternPool<>(Job::new);
+    private static final Job EMPTY = new Job();
+
     public final String value;
 
     /**
@@ -28,6 +33,22 @@ public class Job {
         value = "";
     }
 
+    /**
+     * Returns the shared {@code Job} with the given job title.
+     *
+     * @param jobTitle A valid job title.
+     */
+    public static Job of(String jobTitle) {
+        return POOL.intern(jobTitle);
+    }
+
+    /**
+     * Returns the shared empty {@code Job}, used when none is given.
+     */
+    public static Job empty() {
+        return EMPTY;
+    }
+
     /**
      * Returns true if a given string is a valid job title.
      */
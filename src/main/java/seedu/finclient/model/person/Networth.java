@@ -5,12 +5,15 @@ import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.logging.Logger;
+import java.util.Objects;
+import java.util.Optional;
 
-import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.util.InternPool;
 
 /**
  * Represents a Person's networth in the address book.
+ * A networth given as a number keeps its exact amount along with its bracket. A networth given as a bracket name,
+ * such as one loaded from an older data file, only knows its bracket.
  * Guarantees: immutable; is valid as declared in {@link #isValidNetworth(String)}
  */
 public class Networth {
@@ -19,8 +22,21 @@ public class Networth {
                     + "should not contain any decimal points, and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    /** Networth bracket names in ascending order. */
+    public static final List<String> BRACKETS = Arrays.stream(Bracket.values())
+            .map(Bracket::getLabel)
+            .toList();
+
+    /** The amount of a networth whose exact amount is not known. */
+    public static final long UNKNOWN_AMOUNT = -1;
+
+    private static final InternPool<Networth> POOL = new InternPool<>(Networth::new);
+    private static final Networth EMPTY = new Networth();
+
+    /** The bracket name, or a special value such as "Hidden". */
     public final String value;
-    private final Logger logger = LogsCenter.getLogger(getClass());
+    private final long amount;
+    private final Bracket bracket;
 
     /**
      * Constructs an {@code Networth}.
@@ -30,18 +46,43 @@ public class Networth {
     public Networth(String networthAmount) {
         requireNonNull(networthAmount);
         if (isBracket(networthAmount)) {
-            logger.info("Networth inputted is bracket/special input");
             value = networthAmount;
+            amount = UNKNOWN_AMOUNT;
+            bracket = Bracket.fromLabel(networthAmount).orElse(null);
         } else {
             checkArgument(isValidNetworth(networthAmount), MESSAGE_CONSTRAINTS);
             checkArgument(isValidAmount(networthAmount), MESSAGE_CONSTRAINTS);
-            logger.info("Networth inputted is a number: " + networthAmount);
-            value = getNetworthBracket(networthAmount);
+            amount = Long.parseLong(networthAmount);
+            bracket = Bracket.of(amount);
+            value = bracket.getLabel();
         }
     }
 
+    /**
+     * Constructs an empty {@code Networth}.
+     */
     public Networth() {
         value = "";
+        amount = UNKNOWN_AMOUNT;
+        bracket = null;
+    }
+
+    /**
+     * Returns a {@code Networth} for the given amount.
+     * Bracket names and special values are shared instances; exact amounts share their bracket name.
+     *
+     * @param networthAmount A valid networth amount, either in number or the bracket name.
+     */
+    public static Networth of(String networthAmount) {
+        requireNonNull(networthAmount);
+        return isBracket(networthAmount) ? POOL.intern(networthAmount) : new Networth(networthAmount);
+    }
+
+    /**
+     * Returns the shared empty {@code Networth}, used when none is given.
+     */
+    public static Networth empty() {
+        return EMPTY;
     }
 
     /**
@@ -87,21 +128,44 @@ public class Networth {
      * @param networthAmount Integer numbers with no comma, dashes or other symbol
      * @return String of the bucket they belong in
      */
-    public String getNetworthBracket(String networthAmount) {
-        int networth = Integer.parseInt(networthAmount);
-        if (networth < 100000) {
-            return "< $100k";
-        } else if (networth >= 100000 && networth < 250000) {
-            return "$100k - $250k";
-        } else if (networth >= 250000 && networth < 500000) {
-            return "$250k - $500k";
-        } else if (networth >= 500000 && networth < 1000000) {
-            return "$500k - $1 million";
-        } else if (networth >= 1000000 && networth < 5000000) {
-            return "$1 million - $5 million";
-        } else {
-            return "> $5 million";
+    public static String getNetworthBracket(String networthAmount) {
+        return Bracket.of(Integer.parseInt(networthAmount)).getLabel();
+    }
+
+    /**
+     * Returns true if the exact amount of this networth is known.
+     */
+    public boolean hasAmount() {
+        return amount != UNKNOWN_AMOUNT;
+    }
+
+    /**
+     * Returns the exact amount of this networth, or {@link #UNKNOWN_AMOUNT} if it is not known.
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    public Optional<Bracket> getBracket() {
+        return Optional.ofNullable(bracket);
+    }
+
+    /**
+     * Returns the amount to order this networth by: the exact amount if known, otherwise the lower bound of its
+     * bracket, or -1 if it has no bracket (e.g. empty or hidden).
+     */
+    public long getComparableAmount() {
+        if (bracket == null) {
+            return -1;
         }
+        return hasAmount() ? amount : bracket.getLowerBound();
+    }
+
+    /**
+     * Returns the value to store this networth as: the exact amount if known, otherwise the bracket name.
+     */
+    public String toStorageString() {
+        return hasAmount() ? Long.toString(amount) : value;
     }
 
     @Override
@@ -121,22 +185,83 @@ public class Networth {
         }
 
         Networth otherNetworth = (Networth) other;
-        return value.equals(otherNetworth.value);
+        return value.equals(otherNetworth.value)
+                && amount == otherNetworth.amount;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Objects.hash(value, amount);
     }
 
+    /**
+     * Returns the position of this networth in {@link #BRACKETS}, or -1 if it is not a bracket
+     * (e.g. empty or hidden).
+     */
+    public int getBracketIndex() {
+        return bracket == null ? -1 : bracket.ordinal();
+    }
 
     /**
-     * Compares this networth with another networth.
+     * Compares this networth with another networth by {@link #getComparableAmount()}.
      */
     public int compareTo(Networth other) {
-        List<String> order = Arrays.asList("< $100k", "$100k - $250k", "$250k - $500k", "$500k - $1 million",
-                "$1 million - $5 million", "> $5 million");
         requireNonNull(other);
-        return Integer.compare(order.indexOf(this.value), order.indexOf(other.value));
+        return Long.compare(getComparableAmount(), other.getComparableAmount());
+    }
+
+    /**
+     * The networth brackets, in ascending order.
+     */
+    public enum Bracket {
+        BELOW_100K("< $100k", 0),
+        FROM_100K("$100k - $250k", 100_000),
+        FROM_250K("$250k - $500k", 250_000),
+        FROM_500K("$500k - $1 million", 500_000),
+        FROM_1M("$1 million - $5 million", 1_000_000),
+        FROM_5M("> $5 million", 5_000_000);
+
+        private final String label;
+        private final long lowerBound;
+
+        Bracket(String label, long lowerBound) {
+            this.label = label;
+            this.lowerBound = lowerBound;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getLowerBound() {
+            return lowerBound;
+        }
+
+        /**
+         * Returns the bracket that {@code amount} falls in.
+         */
+        public static Bracket of(long amount) {
+            Bracket[] brackets = values();
+            for (int i = brackets.length - 1; i > 0; i--) {
+                if (amount >= brackets[i].lowerBound) {
+                    return brackets[i];
+                }
+            }
+            return BELOW_100K;
+        }
+
+        /**
+         * Returns the bracket named {@code label}, if any.
+         */
+        public static Optional<Bracket> fromLabel(String label) {
+            return Arrays.stream(values())
+                    .filter(bracket -> bracket.label.equals(label))
+                    .findFirst();
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
     }
 }
@@ -0,0 +1,297 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * An index of persons ordered by the exact amount of their networth.
+ * Persons whose networth is only known as a bracket are not indexed. Persons sharing an amount are kept in insertion
+ * order.
+ *
+ * The index is an AVL tree with each node recording the number of persons in its subtree, so that counting and
+ * percentile queries run in O(log n) time. Listing queries skip hidden persons; counts and percentiles include them,
+ * since they do not reveal any one person's details.
+ */
+public class NetworthIndex {
+
+    private Node root;
+
+    /**
+     * Adds {@code person} to the index if the exact amount of its networth is known.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Networth networth = person.getUnmaskedNetworth();
+        if (networth.hasAmount()) {
+            root = insert(root, networth.getAmount(), person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index if it was indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Networth networth = person.getUnmaskedNetworth();
+        if (networth.hasAmount()) {
+            root = delete(root, networth.getAmount(), person);
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the persons with a networth from {@code min} to {@code max} inclusive, poorest first.
+     * Runs in O(log n + k) time, where k is the number of persons in the range.
+     */
+    public List<Person> between(long min, long max) {
+        List<Person> persons = new ArrayList<>();
+        collectBetween(root, min, max, persons);
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons with a networth from {@code min} to {@code max} inclusive.
+     */
+    public int countBetween(long min, long max) {
+        if (min > max) {
+            return 0;
+        }
+        int upToMax = max == Long.MAX_VALUE ? size() : countBelow(max + 1);
+        return upToMax - countBelow(min);
+    }
+
+    /**
+     * Returns up to {@code count} persons with the highest networth, richest first.
+     * Runs in O(log n + count) time, plus any hidden persons skipped along the way.
+     */
+    public List<Person> top(int count) {
+        List<Person> richest = new ArrayList<>(Math.min(Math.max(count, 0), size()));
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (richest.size() < count && (node != null || !path.isEmpty())) {
+            while (node != null) {
+                path.push(node);
+                node = node.right;
+            }
+            node = path.pop();
+            for (Person person : node.persons) {
+                if (richest.size() < count && !person.getIsHidden()) {
+                    richest.add(person);
+                }
+            }
+            node = node.left;
+        }
+        return richest;
+    }
+
+    /**
+     * Returns the networth amount at {@code percentile} (from 0 to 100) by the nearest-rank method,
+     * or an empty value if no persons are indexed.
+     */
+    public OptionalLong percentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        int size = size();
+        if (size == 0) {
+            return OptionalLong.empty();
+        }
+        int rank = Math.max(1, (int) Math.ceil(percentile / 100 * size));
+        return OptionalLong.of(amountAt(rank - 1));
+    }
+
+    /**
+     * Returns the number of persons with a networth below {@code amount}.
+     */
+    private int countBelow(long amount) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (amount <= node.amount) {
+                node = node.left;
+            } else {
+                count += sizeOf(node.left) + node.persons.size();
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the amount of the person at {@code index} in ascending order of networth.
+     */
+    private long amountAt(int index) {
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index < leftSize + node.persons.size()) {
+                return node.amount;
+            } else {
+                index -= leftSize + node.persons.size();
+                node = node.right;
+            }
+        }
+    }
+
+    private static void collectBetween(Node node, long min, long max, List<Person> persons) {
+        if (node == null) {
+            return;
+        }
+        if (min < node.amount) {
+            collectBetween(node.left, min, max, persons);
+        }
+        if (min <= node.amount && node.amount <= max) {
+            node.persons.stream()
+                    .filter(person -> !person.getIsHidden())
+                    .forEach(persons::add);
+        }
+        if (node.amount < max) {
+            collectBetween(node.right, min, max, persons);
+        }
+    }
+
+    private static Node insert(Node node, long amount, Person person) {
+        if (node == null) {
+            Node leaf = new Node(amount);
+            leaf.persons.add(person);
+            leaf.update();
+            return leaf;
+        }
+        if (amount < node.amount) {
+            node.left = insert(node.left, amount, person);
+        } else if (amount > node.amount) {
+            node.right = insert(node.right, amount, person);
+        } else {
+            node.persons.add(person);
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, long amount, Person person) {
+        if (node == null) {
+            return null;
+        }
+        if (amount < node.amount) {
+            node.left = delete(node.left, amount, person);
+        } else if (amount > node.amount) {
+            node.right = delete(node.right, amount, person);
+        } else {
+            node.persons.removeIf(indexed -> indexed == person);
+            if (node.persons.isEmpty()) {
+                return unlink(node);
+            }
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Returns the subtree of {@code node} with {@code node} itself removed.
+     */
+    private static Node unlink(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = removeFirst(node.right);
+        successor.left = node.left;
+        return rebalance(successor);
+    }
+
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = heightOf(node.left) - heightOf(node.right);
+        if (balance > 1) {
+            if (heightOf(node.left.left) < heightOf(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (heightOf(node.right.right) < heightOf(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A tree node holding every indexed person with one amount.
+     */
+    private static class Node {
+        private final long amount;
+        private final List<Person> persons = new ArrayList<>(1);
+        private Node left;
+        private Node right;
+        private int height;
+        private int size;
+
+        Node(long amount) {
+            this.amount = amount;
+        }
+
+        void update() {
+            height = 1 + Math.max(heightOf(left), heightOf(right));
+            size = persons.size() + sizeOf(left) + sizeOf(right);
+        }
+    }
+}
@@ -2,16 +2,15 @@ package seedu.finclient.model.person;
 
 import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.finclient.commons.util.ToStringBuilder;
 import seedu.finclient.model.order.Order;
+import seedu.finclient.model.sort.SortCriterion;
 import seedu.finclient.model.tag.Tag;
 
 /**
@@ -24,21 +23,22 @@ public class Person {
     // Identity fields
     private final Name name;
     private final PhoneList phoneList;
-    private final Email email;
 
     // Data fields
-    private final Address address;
     private final Order order;
     private final Remark remark;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Company company;
+    private final Job job;
+    private final StockPlatform stockPlatform;
+
+    // Email and address, which may only be decoded when first read
+    private final Supplier<PersonDetails> details;
 
     // Hidden detail flag
-    private boolean isHidden = false;
+    private final boolean isHidden;
 
     // Optional fields
-    private final Company company;
-    private final Job job;
-    private final StockPlatform stockPlatform;
     private final Networth networth;
 
     /**
@@ -46,20 +46,7 @@ public class Person {
      */
     public Person(Name name, PhoneList phoneList, Email email, Address address, Order order, Remark remark,
                   Set<Tag> tags, Company company, Job job, StockPlatform stockPlatform, Networth networth) {
-        requireAllNonNull(name, phoneList, email, address, tags, company, job, stockPlatform, networth);
-
-        this.name = name;
-        this.phoneList = phoneList;
-        this.email = email;
-        this.address = address;
-        this.order = order;
-        this.remark = remark;
-        this.tags.addAll(tags);
-
-        this.company = company;
-        this.job = job;
-        this.stockPlatform = stockPlatform;
-        this.networth = networth;
+        this(name, phoneList, email, address, order, remark, tags, company, job, stockPlatform, networth, false);
     }
 
     /**
@@ -68,22 +55,8 @@ public class Person {
     public Person(Name name, PhoneList phoneList, Email email, Address address, Order order, Remark remark,
                   Set<Tag> tags, Company company, Job job, StockPlatform stockPlatform, Networth networth,
                   boolean isHidden) {
-        requireAllNonNull(name, phoneList, email, address, tags, company, job, stockPlatform, networth);
-
-        this.name = name;
-        this.phoneList = phoneList;
-        this.email = email;
-        this.address = address;
-        this.order = order;
-        this.remark = remark;
-        this.tags.addAll(tags);
-
-        this.isHidden = isHidden;
-
-        this.company = company;
-        this.job = job;
-        this.stockPlatform = stockPlatform;
-        this.networth = networth;
+        this(name, phoneList, order, remark, tags, company, job, stockPlatform, networth, isHidden,
+                new PersonDetails(email, address));
     }
 
     /**
@@ -91,28 +64,47 @@ public class Person {
      */
     public Person(Name name, PhoneList phoneList, Email email, Address address, Remark remark, Set<Tag> tags,
                   Company company, Job job, StockPlatform stockPlatform, Networth networth) {
+        this(name, phoneList, email, address, new Order("NONE"), remark, tags, company, job, stockPlatform,
+                networth, false);
+    }
 
-        requireAllNonNull(name, phoneList, email, address, tags, company, job, stockPlatform, networth);
+    /**
+     * Alternate constructor for a person whose details are supplied by {@code details} each time they are read,
+     * such as a person loaded from a data file whose details are only decoded on demand.
+     * {@code details} must always supply equal details, and may be called from any thread.
+     */
+    public Person(Name name, PhoneList phoneList, Order order, Remark remark, Set<Tag> tags, Company company,
+                  Job job, StockPlatform stockPlatform, Networth networth, boolean isHidden,
+                  Supplier<PersonDetails> details) {
+        requireAllNonNull(name, phoneList, tags, company, job, stockPlatform, networth, details);
         this.name = name;
         this.phoneList = phoneList;
-        this.email = email;
-        this.address = address;
-        this.order = new Order("NONE");
+        this.order = order;
         this.remark = remark;
-        this.tags.addAll(tags);
-
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
         this.company = company;
         this.job = job;
         this.stockPlatform = stockPlatform;
         this.networth = networth;
+        this.isHidden = isHidden;
+        this.details = details;
     }
 
-    public void setHidden() {
-        this.isHidden = true;
+    /**
+     * Returns what supplies the details of this person, so that storages can save details they supplied themselves
+     * without decoding them.
+     */
+    public Supplier<PersonDetails> getDetailsSupplier() {
+        return details;
     }
 
-    public void setUnhidden() {
-        this.isHidden = false;
+    /**
+     * Returns a new person with the same details as this person, hidden if {@code isHidden}.
+     * Persons are hidden and revealed by replacing them with such a copy.
+     */
+    public Person withHidden(boolean isHidden) {
+        return new Person(name, phoneList, order, remark, tags, company, job, stockPlatform, networth, isHidden,
+                details);
     }
 
     public Name getName() {
@@ -120,23 +112,47 @@ public class Person {
     }
 
     public PhoneList getPhoneList() {
-        return isHidden ? new PhoneList(new ArrayList<>(Arrays.asList(new Phone("00000000")))) : phoneList;
+        return isHidden ? HiddenPersonDetails.PHONE_LIST : phoneList;
     }
 
     public Email getEmail() {
-        return isHidden ? new Email("hidden@example.com") : email;
+        return isHidden ? HiddenPersonDetails.EMAIL : details.get().email;
     }
 
     public Address getAddress() {
-        return isHidden ? new Address("Hidden") : address;
+        return isHidden ? HiddenPersonDetails.ADDRESS : details.get().address;
     }
 
     public Order getOrder() {
-        return isHidden ? new Order(Order.OrderType.HIDDEN, "1", 1) : order;
+        return isHidden ? HiddenPersonDetails.ORDER : order;
     }
 
     public Remark getRemark() {
-        return isHidden ? new Remark("Sensitive details are hidden", Optional.empty()) : remark;
+        return isHidden ? HiddenPersonDetails.REMARK : remark;
+    }
+
+    /**
+     * Returns the phone numbers regardless of whether this person is hidden.
+     * Only for indexes, which keep hidden persons by their real details and leave them out of query results.
+     */
+    PhoneList getUnmaskedPhoneList() {
+        return phoneList;
+    }
+
+    /**
+     * Returns the remark regardless of whether this person is hidden.
+     * Only for indexes, which keep hidden persons by their real details and leave them out of query results.
+     */
+    Remark getUnmaskedRemark() {
+        return remark;
+    }
+
+    /**
+     * Returns the networth regardless of whether this person is hidden.
+     * Only for indexes, which keep hidden persons by their real details and leave them out of query results.
+     */
+    Networth getUnmaskedNetworth() {
+        return networth;
     }
 
     /**
@@ -144,7 +160,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return isHidden ? Collections.emptySet() : Collections.unmodifiableSet(tags);
+        return isHidden ? Collections.emptySet() : tags;
     }
 
     /**
@@ -155,19 +171,19 @@ public class Person {
     }
 
     public Company getCompany() {
-        return isHidden ? new Company("Hidden") : company;
+        return isHidden ? HiddenPersonDetails.COMPANY : company;
     }
 
     public Job getJob() {
-        return isHidden ? new Job("Hidden") : job;
+        return isHidden ? HiddenPersonDetails.JOB : job;
     }
 
     public StockPlatform getStockPlatform() {
-        return isHidden ? new StockPlatform("Hidden") : stockPlatform;
+        return isHidden ? HiddenPersonDetails.STOCK_PLATFORM : stockPlatform;
     }
 
     public Networth getNetworth() {
-        return isHidden ? new Networth("Hidden") : networth;
+        return isHidden ? HiddenPersonDetails.NETWORTH : networth;
     }
 
     /**
@@ -202,50 +218,34 @@ public class Person {
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name)
                 && phoneList.equals(otherPerson.phoneList)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
                 && remark.equals(otherPerson.remark)
                 && tags.equals(otherPerson.tags)
                 && company.equals(otherPerson.company)
                 && job.equals(otherPerson.job)
                 && stockPlatform.equals(otherPerson.stockPlatform)
-                && networth.equals(otherPerson.networth);
+                && networth.equals(otherPerson.networth)
+                && details.get().equals(otherPerson.details.get());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phoneList, email, address, remark, tags, company, job, stockPlatform,
+        PersonDetails details = this.details.get();
+        return Objects.hash(name, phoneList, details.email, details.address, remark, tags, company, job, stockPlatform,
                 networth, isHidden);
     }
 
     /**
      * Compares this person with another person based on the given criteria.
+     * Unknown criteria treat both persons as equal.
+     *
+     * @see SortCriterion
      */
     public int compareTo(Person other, String criteria) {
         requireAllNonNull(other, criteria);
-        switch (criteria) {
-        case "name":
-            return name.toString().compareTo(other.name.toString());
-        case "price":
-            return order.compareTo(other.order, "price");
-        case "amount":
-            return order.compareTo(other.order, "amount");
-        case "networth":
-            return networth.compareTo(other.networth);
-        case "deadline":
-            if (getRemark() == null && other.getRemark() == null) {
-                return 0;
-            } else if (getRemark() == null && other.getRemark() != null) {
-                return 1;
-            } else if (getRemark() != null && other.getRemark() == null) {
-                return -1;
-            } else {
-                return getRemark().compareTo(other.getRemark());
-            }
-        default:
-            return 0;
-        }
+        return SortCriterion.fromKeyword(criteria)
+                .map(criterion -> criterion.compare(this, other))
+                .orElse(0);
     }
 
     @Override
@@ -257,11 +257,12 @@ public class Person {
                     .add("details", "Sensitive details are hidden")
                     .toString();
         } else {
+            PersonDetails details = this.details.get();
             return new ToStringBuilder(this)
                     .add("name", name)
                     .add("phones", phoneList)
-                    .add("email", email)
-                    .add("address", address)
+                    .add("email", details.email)
+                    .add("address", details.address)
                     .add("order", order)
                     .add("remark", remark)
                     .add("tags", tags)
@@ -0,0 +1,135 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * An ordered group of person mutations that is applied to a {@link UniquePersonList} as a single transaction.
+ * Either every mutation is applied and the list publishes one change, or none is applied.
+ */
+public class PersonBatch {
+
+    /**
+     * The kinds of mutation a batch can hold.
+     */
+    enum Kind {
+        ADD, SET, DELETE, HIDE, REVEAL
+    }
+
+    /**
+     * A single mutation in a batch.
+     */
+    static class Operation {
+        private final Kind kind;
+        private final Person target;
+        private final Person editedPerson;
+
+        private Operation(Kind kind, Person target, Person editedPerson) {
+            this.kind = kind;
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        Kind getKind() {
+            return kind;
+        }
+
+        Person getTarget() {
+            return target;
+        }
+
+        Person getEditedPerson() {
+            return editedPerson;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("kind", kind)
+                    .add("target", target)
+                    .add("editedPerson", editedPerson)
+                    .toString();
+        }
+    }
+
+    private final List<Operation> operations = new ArrayList<>();
+    private boolean hasAdditions;
+
+    /**
+     * Adds {@code person} to the list.
+     */
+    public PersonBatch add(Person person) {
+        requireNonNull(person);
+        operations.add(new Operation(Kind.ADD, person, person));
+        hasAdditions = true;
+        return this;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     */
+    public PersonBatch set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        operations.add(new Operation(Kind.SET, target, editedPerson));
+        return this;
+    }
+
+    /**
+     * Removes {@code target} from the list.
+     */
+    public PersonBatch delete(Person target) {
+        requireNonNull(target);
+        operations.add(new Operation(Kind.DELETE, target, null));
+        return this;
+    }
+
+    /**
+     * Hides details of {@code target}.
+     */
+    public PersonBatch hide(Person target) {
+        requireNonNull(target);
+        operations.add(new Operation(Kind.HIDE, target, null));
+        return this;
+    }
+
+    /**
+     * Reveals details of {@code target}.
+     */
+    public PersonBatch reveal(Person target) {
+        requireNonNull(target);
+        operations.add(new Operation(Kind.REVEAL, target, null));
+        return this;
+    }
+
+    /**
+     * Returns true if the batch adds at least one person.
+     */
+    public boolean hasAdditions() {
+        return hasAdditions;
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operations", operations)
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.finclient.model.person;
+
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * The details of a {@code Person} that are not needed to identify, sort, group or match the person in an auction:
+ * the email and address. The tags, company, job and stock platform are kept by the person itself, as sorting and
+ * statistics read them from every person.
+ *
+ * A person holds its details through a {@code Supplier}, so that a person loaded from a data file can decode them
+ * only when they are first read. Details that are already at hand supply themselves.
+ * Guarantees: immutable; fields are not null.
+ */
+public class PersonDetails implements Supplier<PersonDetails> {
+
+    final Email email;
+    final Address address;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonDetails(Email email, Address address) {
+        requireAllNonNull(email, address);
+        this.email = email;
+        this.address = address;
+    }
+
+    /**
+     * Returns these details.
+     */
+    @Override
+    public PersonDetails get() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonDetails)) {
+            return false;
+        }
+
+        PersonDetails otherDetails = (PersonDetails) other;
+        return email.equals(otherDetails.email)
+                && address.equals(otherDetails.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(email, address);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("email", email)
+                .add("address", address)
+                .toString();
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} is one of the given persons, by reference, such as the persons an index lookup found.
+ * Each test is a single hash lookup, so filtering the list to an index result does not repeat the search.
+ */
+public class PersonIsOneOfPredicate implements Predicate<Person> {
+    private final Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a predicate that matches exactly {@code persons}.
+     */
+    public PersonIsOneOfPredicate(Collection<Person> persons) {
+        requireNonNull(persons);
+        this.persons.addAll(persons);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return persons.contains(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIsOneOfPredicate)) {
+            return false;
+        }
+
+        PersonIsOneOfPredicate otherPersonIsOneOfPredicate = (PersonIsOneOfPredicate) other;
+        return persons.equals(otherPersonIsOneOfPredicate.persons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("persons", persons).toString();
+    }
+}
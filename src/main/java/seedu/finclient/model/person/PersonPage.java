@@ -0,0 +1,78 @@
+package seedu.finclient.model.person;
+
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * One page of the displayed person list, with the cursor of the next page if there is one.
+ */
+public class PersonPage {
+
+    private final List<Person> persons;
+    private final Optional<String> nextCursor;
+    private final int totalSize;
+
+    /**
+     * Creates a page holding {@code persons} out of a list of {@code totalSize} persons.
+     */
+    public PersonPage(List<Person> persons, Optional<String> nextCursor, int totalSize) {
+        requireAllNonNull(persons, nextCursor);
+        this.persons = List.copyOf(persons);
+        this.nextCursor = nextCursor;
+        this.totalSize = totalSize;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the cursor of the next page, or {@code Optional.empty()} if this is the last page.
+     */
+    public Optional<String> getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Returns the number of persons in the whole list when this page was read.
+     */
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonPage)) {
+            return false;
+        }
+
+        PersonPage otherPersonPage = (PersonPage) other;
+        return persons.equals(otherPersonPage.persons)
+                && nextCursor.equals(otherPersonPage.nextCursor)
+                && totalSize == otherPersonPage.totalSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, nextCursor, totalSize);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("nextCursor", nextCursor.orElse(null))
+                .add("totalSize", totalSize)
+                .toString();
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.finclient.model.person.exceptions.InvalidCursorException;
+
+/**
+ * Reads a person list one page at a time, in the order in which the list is displayed.
+ *
+ * A cursor records the version of the list it was issued for, the position of the next page and the identity, that
+ * is the name and phones, of the last person on its page. While the list is unchanged the next page starts at that
+ * position. Once the list has changed, the next page starts after the person with that identity nearest to the old
+ * position instead, so adding or removing other persons, namesakes included, does not make the pages skip or repeat
+ * anyone. Only one page of persons is copied at a time.
+ */
+public class PersonPager {
+
+    public static final String MESSAGE_INVALID_CURSOR = "The cursor is not a valid page cursor";
+    public static final String MESSAGE_EXPIRED_CURSOR = "The page cursor has expired, as its last person was removed";
+
+    private static final String SEPARATOR = ":";
+    private static final String PHONE_SEPARATOR = ",";
+
+    private final ObservableList<Person> persons;
+    private long version;
+
+    /**
+     * Creates a pager over {@code persons}, which must not be modified except through its own observable changes.
+     */
+    public PersonPager(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener((ListChangeListener<Person>) change -> version++);
+    }
+
+    /**
+     * Returns the first {@code pageSize} persons of the list.
+     */
+    public PersonPage getFirstPage(int pageSize) {
+        return getPageFrom(0, pageSize);
+    }
+
+    /**
+     * Returns the {@code pageSize} persons following the page that issued {@code cursor}.
+     *
+     * @throws InvalidCursorException if {@code cursor} is malformed, or the last person of its page is no longer
+     *     in the list.
+     */
+    public PersonPage getNextPage(String cursor, int pageSize) {
+        requireNonNull(cursor);
+        String[] parts = decode(cursor);
+        long cursorVersion;
+        int offset;
+        try {
+            cursorVersion = Long.parseLong(parts[0]);
+            offset = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(MESSAGE_INVALID_CURSOR);
+        }
+        if (offset <= 0) {
+            throw new InvalidCursorException(MESSAGE_INVALID_CURSOR);
+        }
+
+        if (cursorVersion != version) {
+            offset = findNearest(parts[2], parts[3], offset - 1) + 1;
+        }
+        return getPageFrom(offset, pageSize);
+    }
+
+    private PersonPage getPageFrom(int offset, int pageSize) {
+        checkArgument(pageSize > 0, "Page size must be positive");
+        int size = persons.size();
+        int start = Math.min(offset, size);
+        int end = (int) Math.min((long) start + pageSize, size);
+        Optional<String> nextCursor = end < size
+                ? Optional.of(encode(version, end, persons.get(end - 1)))
+                : Optional.empty();
+        return new PersonPage(persons.subList(start, end), nextCursor, size);
+    }
+
+    /**
+     * Returns the index of the person with the given {@code phones} and {@code name} nearest to {@code index}.
+     */
+    private int findNearest(String phones, String name, int index) {
+        int size = persons.size();
+        for (int distance = 0; distance <= Math.max(index, size - index); distance++) {
+            if (isIdentifiedBy(index - distance, phones, name)) {
+                return index - distance;
+            }
+            if (isIdentifiedBy(index + distance, phones, name)) {
+                return index + distance;
+            }
+        }
+        throw new InvalidCursorException(MESSAGE_EXPIRED_CURSOR);
+    }
+
+    private boolean isIdentifiedBy(int index, String phones, String name) {
+        if (index < 0 || index >= persons.size()) {
+            return false;
+        }
+        Person person = persons.get(index);
+        return person.getName().fullName.equals(name) && phonesOf(person).equals(phones);
+    }
+
+    /**
+     * Returns the phones of {@code person} as shown, so that a cursor does not reveal those of a hidden person.
+     */
+    private static String phonesOf(Person person) {
+        return String.join(PHONE_SEPARATOR, person.getPhoneList().getPhoneStringList());
+    }
+
+    private static String encode(long version, int offset, Person last) {
+        String cursor = version + SEPARATOR + offset + SEPARATOR + phonesOf(last)
+                + SEPARATOR + last.getName().fullName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 4);
+            if (parts.length == 4) {
+                return parts;
+            }
+        } catch (IllegalArgumentException e) {
+            // falls through to the exception below
+        }
+        throw new InvalidCursorException(MESSAGE_INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable, persistent list of persons.
+ * Every update returns a new vector that shares all but O(log n) of its structure with the original, so older
+ * vectors stay valid and can be read from any thread without locking.
+ *
+ * The vector is backed by an AVL tree ordered by position, with each node recording the size of its subtree.
+ */
+public final class PersonVector extends AbstractList<Person> {
+
+    private static final PersonVector EMPTY = new PersonVector(null);
+
+    private final Node root;
+
+    private PersonVector(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty vector.
+     */
+    public static PersonVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a vector holding {@code persons} in order.
+     */
+    public static PersonVector of(List<Person> persons) {
+        requireNonNull(persons);
+        Person[] array = persons.toArray(new Person[0]);
+        return array.length == 0 ? EMPTY : new PersonVector(build(array, 0, array.length));
+    }
+
+    @Override
+    public Person get(int index) {
+        Objects.checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.person;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a vector with the person at {@code index} replaced by {@code person}.
+     */
+    public PersonVector withPersonAt(int index, Person person) {
+        requireNonNull(person);
+        Objects.checkIndex(index, size());
+        return new PersonVector(replace(root, index, person));
+    }
+
+    /**
+     * Returns a vector with {@code person} inserted at {@code index}, shifting later persons back.
+     */
+    public PersonVector withPersonInserted(int index, Person person) {
+        requireNonNull(person);
+        Objects.checkIndex(index, size() + 1);
+        return new PersonVector(insert(root, index, person));
+    }
+
+    /**
+     * Returns a vector without the person at {@code index}, shifting later persons forward.
+     */
+    public PersonVector withPersonRemoved(int index) {
+        Objects.checkIndex(index, size());
+        Node newRoot = remove(root, index);
+        return newRoot == null ? EMPTY : new PersonVector(newRoot);
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Person next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = path.pop();
+                pushLeftSpine(node.right);
+                return node.person;
+            }
+
+            private void pushLeftSpine(Node node) {
+                for (Node current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    private static Node build(Person[] persons, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(requireNonNull(persons[mid]), build(persons, from, mid), build(persons, mid + 1, to));
+    }
+
+    private static Node replace(Node node, int index, Person person) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node(node.person, replace(node.left, index, person), node.right);
+        } else if (index > leftSize) {
+            return new Node(node.person, node.left, replace(node.right, index - leftSize - 1, person));
+        }
+        return new Node(person, node.left, node.right);
+    }
+
+    private static Node insert(Node node, int index, Person person) {
+        if (node == null) {
+            return new Node(person, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.person, insert(node.left, index, person), node.right);
+        }
+        return balance(node.person, node.left, insert(node.right, index - leftSize - 1, person));
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.person, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.person, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.person, node.left, removeFirst(node.right));
+    }
+
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.person, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node holding {@code person} over {@code left} and {@code right}, rotating if their heights differ
+     * by more than one.
+     */
+    private static Node balance(Person person, Node left, Node right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.person, left.left, new Node(person, left.right, right));
+            }
+            Node pivot = left.right;
+            return new Node(pivot.person, new Node(left.person, left.left, pivot.left),
+                    new Node(person, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(right.person, new Node(person, left, right.left), right.right);
+            }
+            Node pivot = right.left;
+            return new Node(pivot.person, new Node(person, left, pivot.left),
+                    new Node(right.person, pivot.right, right.right));
+        }
+        return new Node(person, left, right);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node.
+     */
+    private static final class Node {
+        private final Person person;
+        private final Node left;
+        private final Node right;
+        private final int height;
+        private final int size;
+
+        Node(Person person, Node left, Node right) {
+            this.person = person;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(heightOf(left), heightOf(right));
+            this.size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+}
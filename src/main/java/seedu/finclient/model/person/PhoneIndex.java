@@ -0,0 +1,99 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of persons by each of their phone numbers.
+ *
+ * Each number maps to the few persons having it, so a lookup takes constant time however many persons there are.
+ * The numbers shared by more than one person are tracked as persons are added and removed, so reporting them does
+ * not scan the whole index. Hidden persons stay indexed by their real numbers, but queries leave them out.
+ */
+public class PhoneIndex {
+
+    private final Map<String, List<Person>> personsByNumber = new HashMap<>();
+    private final Set<String> sharedNumbers = new HashSet<>();
+
+    /**
+     * Returns {@code number} with everything but its digits removed, e.g. "+65 9123-4567" becomes "6591234567".
+     */
+    public static String normalize(String number) {
+        requireNonNull(number);
+        return number.replaceAll("\\D", "");
+    }
+
+    /**
+     * Adds {@code person} to the index under each of its phone numbers.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Phone phone : person.getUnmaskedPhoneList().phoneList) {
+            List<Person> persons = personsByNumber.computeIfAbsent(phone.value, number -> new ArrayList<>(1));
+            persons.add(person);
+            if (persons.size() == 2) {
+                sharedNumbers.add(phone.value);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index if it was indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Phone phone : person.getUnmaskedPhoneList().phoneList) {
+            List<Person> persons = personsByNumber.get(phone.value);
+            if (persons == null || !persons.removeIf(indexed -> indexed == person)) {
+                continue;
+            }
+            if (persons.isEmpty()) {
+                personsByNumber.remove(phone.value);
+            } else if (persons.size() == 1) {
+                sharedNumbers.remove(phone.value);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        personsByNumber.clear();
+        sharedNumbers.clear();
+    }
+
+    /**
+     * Returns the visible persons with the phone number {@code number}, which is normalized first.
+     */
+    public List<Person> lookup(String number) {
+        return visible(personsByNumber.getOrDefault(normalize(number), List.of()));
+    }
+
+    /**
+     * Returns the phone numbers shared by more than one visible person in ascending order, each with its persons.
+     */
+    public Map<String, List<Person>> sharedNumbers() {
+        Map<String, List<Person>> shared = new TreeMap<>();
+        for (String number : sharedNumbers) {
+            List<Person> persons = visible(personsByNumber.get(number));
+            if (persons.size() > 1) {
+                shared.put(number, persons);
+            }
+        }
+        return shared;
+    }
+
+    private static List<Person> visible(List<Person> persons) {
+        return persons.stream()
+                .filter(person -> !person.getIsHidden())
+                .toList();
+    }
+}
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a list of unique phone numbers with constraints.
@@ -21,8 +24,8 @@ public class PhoneList {
      */
     public static final String SIZE_CONSTRAINTS = "There can only be a maximum of 3 numbers";
 
-    public final ArrayList<Phone> phoneList;
-    public final HashSet<Phone> phoneSet;
+    public final List<Phone> phoneList;
+    public final Set<Phone> phoneSet;
 
     /**
      * Constructs an empty PhoneList.
@@ -51,6 +54,19 @@ public class PhoneList {
         }
     }
 
+    private PhoneList(List<Phone> phoneList, Set<Phone> phoneSet) {
+        this.phoneList = phoneList;
+        this.phoneSet = phoneSet;
+    }
+
+    /**
+     * Returns a view of this list that cannot be modified, for a list shared by many persons.
+     * Adding a phone number to the view throws an {@code UnsupportedOperationException}.
+     */
+    public PhoneList unmodifiableView() {
+        return new PhoneList(Collections.unmodifiableList(phoneList), Collections.unmodifiableSet(phoneSet));
+    }
+
     /**
      * Adds a phone number to the list.
      *
@@ -3,6 +3,8 @@ package seedu.finclient.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
+import seedu.finclient.commons.util.InternPool;
+
 /**
  * Represents a Person's chosen stock platform in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStockPlatform(String)}
@@ -11,6 +13,9 @@ public class StockPlatform {
     public static final String MESSAGE_CONSTRAINTS =
             "Stock platform can be any name, and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final InternPool<StockPlatform> POOL = new InternPool<>(StockPlatform::new);
+    private static final StockPlatform EMPTY = new StockPlatform();
+
     public final String value;
 
     /**
@@ -28,6 +33,22 @@ public class StockPlatform {
         value = "";
     }
 
+    /**
+     * Returns the shared {@code StockPlatform} with the given platform name.
+     *
+     * @param platformName A valid platform name.
+     */
+    public static StockPlatform of(String platformName) {
+        return POOL.intern(platformName);
+    }
+
+    /**
+     * Returns the shared empty {@code StockPlatform}, used when none is given.
+     */
+    public static StockPlatform empty() {
+        return EMPTY;
+    }
+
     /**
      * Returns true if a given string is a valid stock platform.
      */
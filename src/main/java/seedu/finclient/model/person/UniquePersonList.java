@@ -4,10 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
@@ -16,6 +25,11 @@ import seedu.finclient.model.order.CallAuctionCalculator;
 import seedu.finclient.model.order.Order;
 import seedu.finclient.model.person.exceptions.DuplicatePersonException;
 import seedu.finclient.model.person.exceptions.PersonNotFoundException;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.sort.SortCriterion;
+import seedu.finclient.model.stats.ColumnStore;
+import seedu.finclient.model.stats.GroupStats;
+import seedu.finclient.model.stats.StatsField;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -26,6 +40,13 @@ import seedu.finclient.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Indexes are updated before the backing list changes, so listeners of the list always see consistent indexes.
+ * Each mutation also publishes an immutable {@link PersonVector} snapshot of the list, which background threads can
+ * read through {@link #snapshot()} without locking, and bumps the {@link #getVersion() version} of the list.
+ *
+ * Once {@link #sortPersons(String)} has been called, the list stays sorted by that criteria: added and edited persons
+ * are placed by binary insertion, so each mutation only fires a single fine-grained change event.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -34,6 +55,18 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The currently active sort, or null if the list keeps insertion order. */
+    private PersonSorter activeSorter;
+    private Comparator<Person> sortComparator;
+    private int parallelSortThreshold;
+
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+    private final NetworthIndex networthIndex = new NetworthIndex();
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+    private final ColumnStore columnStore = new ColumnStore();
+    private final AtomicReference<PersonVector> snapshot = new AtomicReference<>(PersonVector.empty());
+    private long version;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
@@ -51,7 +84,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        int index = sortComparator == null ? internalList.size() : insertionIndexOf(toAdd);
+        addToIndexes(toAdd);
+        snapshot.set(snapshot.get().withPersonInserted(index, toAdd));
+        version++;
+        internalList.add(index, toAdd);
     }
 
     /**
@@ -71,7 +108,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        replaceAt(index, editedPerson);
     }
 
     /**
@@ -80,14 +117,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(internalList.get(index));
+        snapshot.set(snapshot.get().withPersonRemoved(index));
+        version++;
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setAllSorted(replacement.internalList);
     }
 
     /**
@@ -100,7 +142,72 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        setAllSorted(persons);
+    }
+
+    /**
+     * Applies the mutations in {@code batch} in order, as a single transaction.
+     * The mutations are applied to a working copy, uniqueness is validated once over the result and the list then
+     * publishes a single change. If any mutation fails, the list is left unchanged.
+     *
+     * @throws PersonNotFoundException if a mutation targets a person that is not in the list at that point.
+     * @throws DuplicatePersonException if the result would contain duplicate persons.
+     */
+    public void applyBatch(PersonBatch batch) {
+        requireNonNull(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Person> working = new ArrayList<>(internalList);
+        Map<Person, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < working.size(); i++) {
+            positions.put(working.get(i), i);
+        }
+        Map<Person, Boolean> visibilityChanges = new IdentityHashMap<>();
+
+        // Removed persons are nulled out rather than shifted, so that recorded positions stay valid.
+        for (PersonBatch.Operation operation : batch.getOperations()) {
+            switch (operation.getKind()) {
+            case ADD:
+                positions.put(operation.getEditedPerson(), working.size());
+                working.add(operation.getEditedPerson());
+                break;
+            case SET:
+                int setIndex = positionOf(operation.getTarget(), working, positions);
+                Person replaced = working.get(setIndex);
+                positions.remove(replaced);
+                visibilityChanges.remove(replaced);
+                working.set(setIndex, operation.getEditedPerson());
+                positions.put(operation.getEditedPerson(), setIndex);
+                break;
+            case DELETE:
+                int deleteIndex = positionOf(operation.getTarget(), working, positions);
+                positions.remove(working.get(deleteIndex));
+                visibilityChanges.remove(working.get(deleteIndex));
+                working.set(deleteIndex, null);
+                break;
+            case HIDE:
+                visibilityChanges.put(working.get(positionOf(operation.getTarget(), working, positions)), true);
+                break;
+            case REVEAL:
+                visibilityChanges.put(working.get(positionOf(operation.getTarget(), working, positions)), false);
+                break;
+            default:
+                throw new IllegalStateException("Unknown batch operation: " + operation.getKind());
+            }
+        }
+
+        List<Person> result = working.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (!personsAreUnique(result)) {
+            throw new DuplicatePersonException();
+        }
+
+        setAllSorted(result.stream()
+                .map(person -> withVisibility(person, visibilityChanges.get(person)))
+                .toList());
     }
 
     /**
@@ -108,8 +215,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void hidePerson(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        internalList.filtered(predicate)
-                .forEach(Person::setHidden);
+        setVisibility(predicate, true);
     }
 
     /**
@@ -117,8 +223,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void hidePerson(Person person) {
         requireNonNull(person);
-        internalList.filtered(person::isSamePerson)
-                .forEach(Person::setHidden);
+        setVisibility(person::isSamePerson, true);
     }
 
     /**
@@ -126,8 +231,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void revealPerson(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        internalList.filtered(predicate)
-                .forEach(Person::setUnhidden);
+        setVisibility(predicate, false);
     }
 
     /**
@@ -135,8 +239,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void revealPerson(Person person) {
         requireNonNull(person);
-        internalList.filtered(person::isSamePerson)
-                .forEach(Person::setUnhidden);
+        setVisibility(person::isSamePerson, false);
     }
 
     /**
@@ -150,20 +253,163 @@ public class UniquePersonList implements Iterable<Person> {
         return CallAuctionCalculator.calculateClearingPrice(orders);
     }
 
+    /**
+     * Sorts the list by the given criteria and keeps it sorted by that criteria across later mutations.
+     */
     public void sortPersons(String criteria) {
-        internalList.setAll(internalList.sorted((p1, p2) -> p1.compareTo(p2, criteria)));
+        requireNonNull(criteria);
+        SortCriterion criterion = SortCriterion.fromKeyword(criteria)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown sort criteria: " + criteria));
+        sortPersons(PersonSorter.by(criterion));
+    }
+
+    /**
+     * Sorts the list with {@code sorter} and keeps it sorted that way across later mutations.
+     */
+    public void sortPersons(PersonSorter sorter) {
+        sortPersons(sorter, PersonSorter.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the list with {@code sorter} and keeps it sorted that way across later mutations.
+     * The sort keys of every person are extracted once, the sort runs in parallel if the list has at least
+     * {@code parallelThreshold} persons, and the list is updated in a single change.
+     */
+    public void sortPersons(PersonSorter sorter, int parallelThreshold) {
+        requireNonNull(sorter);
+        activeSorter = sorter;
+        sortComparator = sorter.comparator();
+        parallelSortThreshold = parallelThreshold;
+        List<Person> sorted = sorter.sort(internalList, parallelThreshold);
+        if (isInSameOrder(sorted)) {
+            return;
+        }
+        Map<Person, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            positions.put(sorted.get(i), i);
+        }
+        snapshot.set(PersonVector.of(sorted));
+        version++;
+        // applied as a permutation, so listeners see the persons move instead of the whole list being replaced
+        FXCollections.sort(internalList, Comparator.comparingInt(positions::get));
+    }
+
+    /**
+     * Returns the sorter the list is currently kept sorted by, if any.
+     */
+    public Optional<PersonSorter> getActiveSorter() {
+        return Optional.ofNullable(activeSorter);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons} exactly as ordered, and keeps the list sorted by
+     * {@code sorter} from then on, or in insertion order if {@code sorter} is null.
+     * {@code persons} must be a snapshot previously taken from this list, and so already unique and in order.
+     * Only the persons between the longest common prefix and suffix of the two lists are replaced.
+     */
+    public void restore(PersonVector persons, PersonSorter sorter) {
+        requireNonNull(persons);
+        activeSorter = sorter;
+        sortComparator = sorter == null ? null : sorter.comparator();
+
+        int prefix = commonPrefixLength(persons);
+        int suffix = commonSuffixLength(persons, prefix);
+        int removedEnd = internalList.size() - suffix;
+        List<Person> added = persons.subList(prefix, persons.size() - suffix);
+        internalList.subList(prefix, removedEnd).forEach(this::removeFromIndexes);
+        added.forEach(this::addToIndexes);
+        snapshot.set(persons);
+        version++;
+        if (prefix < removedEnd) {
+            internalList.remove(prefix, removedEnd);
+        }
+        if (!added.isEmpty()) {
+            internalList.addAll(prefix, added);
+        }
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * Any change to the persons or their order, including hiding or revealing them, increases the version, while
+     * reading the list leaves it as is, so equal versions mean the contents are unchanged.
+     */
+    public long getVersion() {
+        return version;
     }
+
     /**
-     * Returns a list of persons who have remarks with upcoming timestamps.
+     * Returns up to {@code count} persons whose remarks have timestamps from the start of today onwards,
+     * earliest first.
      */
     public List<Person> upcomingPersons(int count) {
-        LocalDate today = LocalDate.now();
-        return internalList.stream()
-                .filter(p -> p.getRemark().getTimestamp().isPresent())
-                .filter(p -> !p.getRemark().getTimestamp().get().toLocalDate().isBefore(today))
-                .sorted(Comparator.comparing(a -> a.getRemark().getTimestamp().get()))
-                .limit(count)
-                .toList();
+        return deadlineIndex.upcoming(LocalDate.now().atStartOfDay(), count);
+    }
+
+    /**
+     * Returns the persons whose remarks have timestamps at or after {@code start} and before {@code end},
+     * earliest first.
+     */
+    public List<Person> personsWithDeadlineBetween(LocalDateTime start, LocalDateTime end) {
+        return deadlineIndex.between(start, end);
+    }
+
+    /**
+     * Returns the earliest remark timestamp strictly after {@code time}, if any.
+     */
+    public Optional<LocalDateTime> nextDeadlineAfter(LocalDateTime time) {
+        return deadlineIndex.nextTimestampAfter(time);
+    }
+
+    /**
+     * Returns an immutable snapshot of the list as of the last completed mutation.
+     * Safe to call from any thread.
+     */
+    public PersonVector snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Returns the persons with a networth from {@code min} to {@code max} inclusive, poorest first.
+     * Only persons whose exact networth is known are included.
+     */
+    public List<Person> personsWithNetworthBetween(long min, long max) {
+        return networthIndex.between(min, max);
+    }
+
+    /**
+     * Returns up to {@code count} persons with the highest known networth, richest first.
+     */
+    public List<Person> richestPersons(int count) {
+        return networthIndex.top(count);
+    }
+
+    /**
+     * Returns the networth amount at {@code percentile} (from 0 to 100) among persons whose exact networth is known.
+     */
+    public OptionalLong networthPercentile(double percentile) {
+        return networthIndex.percentile(percentile);
+    }
+
+    /**
+     * Returns the visible persons with the phone number {@code number}, ignoring any non-digit characters in it.
+     */
+    public List<Person> personsWithPhone(String number) {
+        return phoneIndex.lookup(number);
+    }
+
+    /**
+     * Returns the phone numbers shared by more than one visible person in ascending order, each with its persons.
+     */
+    public Map<String, List<Person>> sharedPhoneNumbers() {
+        return phoneIndex.sharedNumbers();
+    }
+
+    /**
+     * Returns the aggregates of the persons grouped by {@code fields}.
+     * Hidden persons are grouped by their masked details.
+     */
+    public List<GroupStats> groupStats(List<StatsField> fields) {
+        return columnStore.groupBy(fields);
     }
 
     /**
@@ -203,17 +449,205 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Replaces the contents of the backing list with {@code persons}, sorted by the active sort if there is one.
+     */
+    private void setAllSorted(List<Person> persons) {
+        rebuildIndexes(persons);
+        List<Person> ordered = sortComparator == null ? persons : activeSorter.sort(persons, parallelSortThreshold);
+        snapshot.set(PersonVector.of(ordered));
+        version++;
+        internalList.setAll(ordered);
+    }
+
+    private void addToIndexes(Person person) {
+        deadlineIndex.add(person);
+        networthIndex.add(person);
+        phoneIndex.add(person);
+        columnStore.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        deadlineIndex.remove(person);
+        networthIndex.remove(person);
+        phoneIndex.remove(person);
+        columnStore.remove(person);
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        deadlineIndex.clear();
+        networthIndex.clear();
+        phoneIndex.clear();
+        columnStore.clear();
+        persons.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Replaces the persons that satisfy {@code predicate} with copies hidden if {@code isHidden}, leaving persons
+     * that are already so as they are. A single person is replaced and moved if its masked details sort elsewhere;
+     * several are replaced and re-sorted in a single change.
+     */
+    private void setVisibility(Predicate<Person> predicate, boolean isHidden) {
+        List<Integer> toggled = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            if (person.getIsHidden() != isHidden && predicate.test(person)) {
+                toggled.add(i);
+            }
+        }
+        if (toggled.isEmpty()) {
+            return;
+        }
+        if (toggled.size() > 1) {
+            List<Person> result = new ArrayList<>(internalList);
+            toggled.forEach(i -> result.set(i, result.get(i).withHidden(isHidden)));
+            setAllSorted(result);
+            return;
+        }
+
+        int index = toggled.get(0);
+        replaceAt(index, internalList.get(index).withHidden(isHidden));
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code replacement}, moving it if the active sort requires.
+     */
+    private void replaceAt(int index, Person replacement) {
+        // the indexes hold the stored person, which may differ from an equal target in its unmasked details
+        removeFromIndexes(internalList.get(index));
+        addToIndexes(replacement);
+        version++;
+
+        if (sortComparator == null || isInSortedPosition(index, replacement)) {
+            snapshot.set(snapshot.get().withPersonAt(index, replacement));
+            internalList.set(index, replacement);
+            return;
+        }
+
+        // Positions after the target shift forward once the target is removed.
+        int newIndex = insertionIndexOf(replacement);
+        if (newIndex > index) {
+            newIndex--;
+        }
+        snapshot.set(snapshot.get().withPersonRemoved(index).withPersonInserted(newIndex, replacement));
+        internalList.remove(index);
+        internalList.add(newIndex, replacement);
+    }
+
+    /**
+     * Returns {@code person} hidden if {@code isHidden}, or as it is if {@code isHidden} is null.
+     */
+    private static Person withVisibility(Person person, Boolean isHidden) {
+        return isHidden == null || isHidden == person.getIsHidden() ? person : person.withHidden(isHidden);
+    }
+
+    /**
+     * Returns true if {@code persons} holds the same persons as the list, in the same order.
+     */
+    private boolean isInSameOrder(List<Person> persons) {
+        if (persons.size() != internalList.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != internalList.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the length of the longest common prefix of the list and {@code persons}, comparing by reference.
+     */
+    private int commonPrefixLength(List<Person> persons) {
+        int prefix = 0;
+        Iterator<Person> iterator = persons.iterator();
+        while (prefix < internalList.size() && iterator.hasNext() && iterator.next() == internalList.get(prefix)) {
+            prefix++;
+        }
+        return prefix;
+    }
+
+    /**
+     * Returns the length of the longest common suffix of the list and {@code persons}, comparing by reference, that
+     * does not overlap their common prefix of length {@code prefix}.
+     */
+    private int commonSuffixLength(List<Person> persons, int prefix) {
+        int size = internalList.size();
+        int otherSize = persons.size();
+        int suffix = 0;
+        while (suffix < Math.min(size, otherSize) - prefix
+                && persons.get(otherSize - 1 - suffix) == internalList.get(size - 1 - suffix)) {
+            suffix++;
+        }
+        return suffix;
+    }
+
+    /**
+     * Returns the index at which {@code person} should be inserted to keep the list sorted.
+     * Persons that compare equal to {@code person} stay in front of it, so insertion is stable.
+     */
+    private int insertionIndexOf(Person person) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortComparator.compare(internalList.get(mid), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code person} can replace the person at {@code index} without breaking the sort order.
+     */
+    private boolean isInSortedPosition(int index, Person person) {
+        boolean isAfterPrevious = index == 0
+                || sortComparator.compare(internalList.get(index - 1), person) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1
+                || sortComparator.compare(person, internalList.get(index + 1)) <= 0;
+        return isAfterPrevious && isBeforeNext;
+    }
+
+    /**
+     * Returns the position of {@code target} in {@code working}, looking it up by reference first and by
+     * {@code Person#equals(Object)} otherwise.
+     *
+     * @throws PersonNotFoundException if {@code target} is not in {@code working}.
+     */
+    private static int positionOf(Person target, List<Person> working, Map<Person, Integer> positions) {
+        Integer position = positions.get(target);
+        if (position != null) {
+            return position;
+        }
+        for (int i = 0; i < working.size(); i++) {
+            if (target.equals(working.get(i))) {
+                return i;
+            }
+        }
+        throw new PersonNotFoundException();
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static boolean personsAreUnique(List<Person> persons) {
+        Set<List<Object>> identities = new HashSet<>();
+        for (Person person : persons) {
+            if (!identities.add(identityOf(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns a key that is equal for two persons exactly when {@code Person#isSamePerson(Person)} holds for them.
+     */
+    private static List<Object> identityOf(Person person) {
+        return List.of(person.getName(), new HashSet<>(person.getPhoneList().phoneList));
+    }
 }
@@ -0,0 +1,10 @@
+package seedu.finclient.model.person.exceptions;
+
+/**
+ * Signals that a page cursor is malformed, or that the page it points to no longer exists.
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
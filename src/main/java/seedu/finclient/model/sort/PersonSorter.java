@@ -0,0 +1,179 @@
+package seedu.finclient.model.sort;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Sorts persons by one or more {@code SortField}s, applied in order as tie-breakers.
+ * Bulk sorts decorate every person with its precomputed keys, sort the decorated persons and then undecorate them,
+ * so each key is extracted once per person instead of once per comparison.
+ * Sorts are stable: persons with equal keys keep their relative order.
+ * From a configurable number of persons upwards, decoration and sorting run in parallel; the parallel sort is a
+ * stable merge sort, so it produces the same order as the sequential one.
+ */
+public class PersonSorter {
+
+    /** Default number of persons from which {@link #sort(List)} runs in parallel. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+
+    private final List<SortField> fields;
+
+    /**
+     * Creates a {@code PersonSorter} using {@code fields}, highest priority first.
+     */
+    public PersonSorter(List<SortField> fields) {
+        requireAllNonNull(fields);
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one sort field is required");
+        }
+        this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * Returns a {@code PersonSorter} that sorts by {@code criterion} in ascending order.
+     */
+    public static PersonSorter by(SortCriterion criterion) {
+        return new PersonSorter(List.of(SortField.ascending(criterion)));
+    }
+
+    public List<SortField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns a comparator that extracts keys on every comparison.
+     * Suited for placing a few persons into an already sorted list; use {@link #sort(List)} for bulk sorts.
+     */
+    public Comparator<Person> comparator() {
+        return (first, second) -> {
+            for (SortField field : fields) {
+                int result = field.getCriterion().compare(first, second);
+                if (result != 0) {
+                    return field.isDescending() ? -result : result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Returns a new list containing {@code persons} in sorted order.
+     */
+    public List<Person> sort(List<Person> persons) {
+        return sort(persons, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns a new list containing {@code persons} in sorted order,
+     * sorting in parallel if there are at least {@code parallelThreshold} persons.
+     */
+    public List<Person> sort(List<Person> persons, int parallelThreshold) {
+        requireNonNull(persons);
+        boolean isParallel = persons.size() >= parallelThreshold;
+        KeyedPerson[] keyedPersons = decorate(persons, isParallel);
+        if (isParallel) {
+            Arrays.parallelSort(keyedPersons, this::compareKeys);
+        } else {
+            Arrays.sort(keyedPersons, this::compareKeys);
+        }
+        return undecorate(keyedPersons);
+    }
+
+    /**
+     * Extracts the sort keys of every person in {@code persons}.
+     */
+    private KeyedPerson[] decorate(List<Person> persons, boolean isParallel) {
+        Person[] personArray = persons.toArray(new Person[0]);
+        KeyedPerson[] keyedPersons = new KeyedPerson[personArray.length];
+        IntStream indices = IntStream.range(0, personArray.length);
+        if (isParallel) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> keyedPersons[i] = new KeyedPerson(personArray[i], fields));
+        return keyedPersons;
+    }
+
+    private static List<Person> undecorate(KeyedPerson[] keyedPersons) {
+        List<Person> sortedPersons = new ArrayList<>(keyedPersons.length);
+        for (KeyedPerson keyedPerson : keyedPersons) {
+            sortedPersons.add(keyedPerson.person);
+        }
+        return sortedPersons;
+    }
+
+    /**
+     * Compares two decorated persons by their precomputed keys.
+     */
+    private int compareKeys(KeyedPerson first, KeyedPerson second) {
+        for (int i = 0; i < fields.size(); i++) {
+            SortField field = fields.get(i);
+            int result = first.keys[i].compareTo(second.keys[i]);
+            if (result != 0) {
+                return field.isDescending() ? -result : result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns a user-facing description of the sort, e.g. "networth desc, name".
+     */
+    public String getDescription() {
+        return fields.stream()
+                .map(SortField::getDescription)
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSorter)) {
+            return false;
+        }
+
+        PersonSorter otherPersonSorter = (PersonSorter) other;
+        return fields.equals(otherPersonSorter.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fields", fields)
+                .toString();
+    }
+
+    /**
+     * A person decorated with its sort keys, one slot per sort field.
+     */
+    private static class KeyedPerson {
+        final Person person;
+        final SortKey[] keys;
+
+        KeyedPerson(Person person, List<SortField> fields) {
+            this.person = person;
+            keys = new SortKey[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                keys[i] = fields.get(i).getCriterion().keyOf(person);
+            }
+        }
+    }
+}
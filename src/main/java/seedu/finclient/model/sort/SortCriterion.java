@@ -0,0 +1,110 @@
+package seedu.finclient.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.Remark;
+
+/**
+ * Registry of the criteria that persons can be sorted by.
+ * Each criterion extracts a {@link SortKey} from a person, either a primitive {@code long} or a {@code String},
+ * which bulk sorts extract once per person so that comparisons during a sort only compare precomputed keys.
+ */
+public enum SortCriterion {
+    NAME("name") {
+        @Override
+        public SortKey keyOf(Person person) {
+            return SortKey.of(person.getName().fullName);
+        }
+    },
+    PRICE("price") {
+        @Override
+        public SortKey keyOf(Person person) {
+            Order order = person.getOrder();
+            return SortKey.of(order == null ? NO_ORDER_KEY : orderKey(order, order.getPriceInCents()));
+        }
+    },
+    AMOUNT("amount") {
+        @Override
+        public SortKey keyOf(Person person) {
+            Order order = person.getOrder();
+            return SortKey.of(order == null ? NO_ORDER_KEY : orderKey(order, order.getQuantity()));
+        }
+    },
+    NETWORTH("networth") {
+        @Override
+        public SortKey keyOf(Person person) {
+            return SortKey.of(person.getNetworth().getComparableAmount());
+        }
+    },
+    DEADLINE("deadline") {
+        @Override
+        public SortKey keyOf(Person person) {
+            Remark remark = person.getRemark();
+            if (remark == null) {
+                return SortKey.of(Long.MAX_VALUE);
+            }
+            return SortKey.of(remark.getTimestamp()
+                    .map(timestamp -> timestamp.toEpochSecond(ZoneOffset.UTC))
+                    .orElse(Long.MAX_VALUE));
+        }
+    };
+
+    /** Bits available for an order value once the order type is packed into the top of the key. */
+    private static final int ORDER_VALUE_BITS = 60;
+    private static final long MAX_ORDER_VALUE = (1L << ORDER_VALUE_BITS) - 1;
+    private static final long NO_ORDER_KEY = Long.MAX_VALUE;
+
+    private static final Map<String, SortCriterion> BY_KEYWORD = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(criterion -> criterion.keyword, Function.identity()));
+
+    private final String keyword;
+
+    SortCriterion(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the criterion with the given keyword, e.g. "networth".
+     */
+    public static Optional<SortCriterion> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Optional.ofNullable(BY_KEYWORD.get(keyword));
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the sort key of {@code person} for this criterion.
+     */
+    public abstract SortKey keyOf(Person person);
+
+    /**
+     * Compares two persons by this criterion in ascending order.
+     */
+    public int compare(Person first, Person second) {
+        return keyOf(first).compareTo(keyOf(second));
+    }
+
+    /**
+     * Packs the order type into the top bits so that BUY orders come first, followed by the other types.
+     */
+    private static long orderKey(Order order, long value) {
+        return ((long) order.getOrderType().ordinal() << ORDER_VALUE_BITS) | Math.min(value, MAX_ORDER_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
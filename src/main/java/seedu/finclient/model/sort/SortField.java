@@ -0,0 +1,80 @@
+package seedu.finclient.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * A single key of a sort: a {@code SortCriterion} together with its direction.
+ * Guarantees: immutable.
+ */
+public class SortField {
+
+    public static final String ASCENDING = "asc";
+    public static final String DESCENDING = "desc";
+
+    private final SortCriterion criterion;
+    private final boolean isDescending;
+
+    /**
+     * Creates a {@code SortField} sorting by {@code criterion} in the given direction.
+     */
+    public SortField(SortCriterion criterion, boolean isDescending) {
+        requireNonNull(criterion);
+        this.criterion = criterion;
+        this.isDescending = isDescending;
+    }
+
+    /**
+     * Returns a {@code SortField} sorting by {@code criterion} in ascending order.
+     */
+    public static SortField ascending(SortCriterion criterion) {
+        return new SortField(criterion, false);
+    }
+
+    public SortCriterion getCriterion() {
+        return criterion;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    /**
+     * Returns a user-facing description of this field, e.g. "networth desc" or "name".
+     */
+    public String getDescription() {
+        return isDescending ? criterion.getKeyword() + " " + DESCENDING : criterion.getKeyword();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortField)) {
+            return false;
+        }
+
+        SortField otherSortField = (SortField) other;
+        return criterion == otherSortField.criterion
+                && isDescending == otherSortField.isDescending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(criterion, isDescending);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criterion", criterion)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+}
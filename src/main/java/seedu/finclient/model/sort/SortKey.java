@@ -0,0 +1,68 @@
+package seedu.finclient.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * The key of a person for one {@link SortCriterion}: a primitive {@code long}, or a {@code String} for criteria
+ * that sort by text. The keys of a criterion are always of the same kind, so only keys of the same kind are compared.
+ */
+public final class SortKey implements Comparable<SortKey> {
+    private final long number;
+    private final String text;
+
+    private SortKey(long number, String text) {
+        this.number = number;
+        this.text = text;
+    }
+
+    /**
+     * Returns a key that sorts by {@code number}.
+     */
+    public static SortKey of(long number) {
+        return new SortKey(number, null);
+    }
+
+    /**
+     * Returns a key that sorts by {@code text}.
+     */
+    public static SortKey of(String text) {
+        requireNonNull(text);
+        return new SortKey(0, text);
+    }
+
+    @Override
+    public int compareTo(SortKey other) {
+        return text != null ? text.compareTo(other.text) : Long.compare(number, other.number);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortKey)) {
+            return false;
+        }
+
+        SortKey otherSortKey = (SortKey) other;
+        return number == otherSortKey.number && Objects.equals(text, otherSortKey.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, text);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key", text != null ? text : number)
+                .toString();
+    }
+}
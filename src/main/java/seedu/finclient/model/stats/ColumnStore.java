@@ -0,0 +1,539 @@
+package seedu.finclient.model.stats;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Person;
+
+/**
+ * A columnar copy of the groupable fields of a list of persons, for computing statistics without walking persons.
+ * Each {@link StatsField} is dictionary-encoded into an array of {@code int} codes with one entry per row, and order
+ * quantities are kept in {@code long} arrays, so a group-by is a scan over primitive arrays. Large scans are split
+ * into chunks that are aggregated in parallel and then merged.
+ *
+ * Rows are kept dense: removing a person moves the last row into its place. The store must only be read and changed
+ * from one thread at a time; the parallel scans only read it.
+ *
+ * A row is only encoded when the store is next scanned, so adding persons, such as all persons of a data file that
+ * has just been loaded, does not read their fields until statistics are asked for.
+ */
+public class ColumnStore {
+
+    /** The number of rows from which scans are split across threads. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+    private static final int MAX_DENSE_GROUPS = 1 << 16;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final StatsField[] FIELDS = StatsField.values();
+
+    private final Map<Person, Integer> rows = new IdentityHashMap<>();
+    private final Dictionary[] dictionaries = new Dictionary[FIELDS.length];
+    /** The codes of each single-valued field, indexed by field ordinal and then row. */
+    private final int[][] codes = new int[FIELDS.length][];
+    /** The codes of each multi-valued field, indexed by field ordinal and then row. */
+    private final int[][][] codeSets = new int[FIELDS.length][][];
+    /** The rows that have yet to be encoded. */
+    private final BitSet unencodedRows = new BitSet();
+    private long[] buyQuantities;
+    private long[] sellQuantities;
+    private Person[] persons;
+    private int size;
+
+    /**
+     * Creates an empty store.
+     */
+    public ColumnStore() {
+        for (StatsField field : FIELDS) {
+            dictionaries[field.ordinal()] = new Dictionary();
+        }
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds a row for {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (size == persons.length) {
+            grow();
+        }
+        rows.put(person, size);
+        persons[size] = person;
+        unencodedRows.set(size);
+        size++;
+    }
+
+    /**
+     * Removes the row of {@code person}, if it has one.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer row = rows.remove(person);
+        if (row == null) {
+            return;
+        }
+        int last = size - 1;
+        if (row != last) {
+            moveRow(last, row);
+            rows.put(persons[row], row);
+        }
+        persons[last] = null;
+        unencodedRows.clear(last);
+        for (StatsField field : FIELDS) {
+            if (field.isMultiValued()) {
+                codeSets[field.ordinal()][last] = null;
+            }
+        }
+        size = last;
+    }
+
+    /**
+     * Removes all rows.
+     */
+    public void clear() {
+        rows.clear();
+        unencodedRows.clear();
+        for (StatsField field : FIELDS) {
+            dictionaries[field.ordinal()] = new Dictionary();
+        }
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the aggregates of the persons grouped by {@code fields}, ordered by the labels of each field in turn.
+     * Groups without persons are left out.
+     */
+    public List<GroupStats> groupBy(List<StatsField> fields) {
+        return groupBy(fields, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns the aggregates of the persons grouped by {@code fields}, scanning in parallel if there are at least
+     * {@code parallelThreshold} rows.
+     */
+    public List<GroupStats> groupBy(List<StatsField> fields, int parallelThreshold) {
+        requireNonNull(fields);
+        checkArgument(!fields.isEmpty(), "At least one field is needed to group by");
+        checkArgument(fields.stream().distinct().count() == fields.size(), "Fields must not be repeated");
+        encodeRows();
+
+        StatsField[] groupFields = fields.toArray(new StatsField[0]);
+        Supplier<Accumulator> accumulators = accumulatorsFor(groupFields);
+
+        int minChunkSize = Math.max(1, Math.min(MIN_CHUNK_SIZE, parallelThreshold));
+        int maxChunks = ForkJoinPool.getCommonPoolParallelism() * 4;
+        int chunkCount = size < parallelThreshold ? 1 : Math.min(maxChunks, (size + minChunkSize - 1) / minChunkSize);
+        int chunkSize = Math.max(1, (size + chunkCount - 1) / chunkCount);
+        IntStream chunks = IntStream.range(0, Math.max(1, chunkCount));
+        if (chunkCount > 1) {
+            chunks = chunks.parallel();
+        }
+        Accumulator total = chunks.mapToObj(chunk -> scan(groupFields, accumulators.get(),
+                Math.min(size, chunk * chunkSize), Math.min(size, (chunk + 1) * chunkSize)))
+                .reduce(Accumulator::merge)
+                .orElseThrow();
+
+        List<GroupStats> stats = new ArrayList<>();
+        total.forEach((groupCodes, aggregates) -> stats.add(new GroupStats(decode(groupCodes, groupFields),
+                aggregates[0], aggregates[1], aggregates[2])));
+        stats.sort(groupOrder(groupFields));
+        return stats;
+    }
+
+    /**
+     * Returns a supplier of empty accumulators for grouping by {@code groupFields}. Each group is numbered from the
+     * codes of its fields if all possible groups can be numbered by a {@code long}, and keyed by its codes otherwise.
+     */
+    private Supplier<Accumulator> accumulatorsFor(StatsField[] groupFields) {
+        long[] strides = new long[groupFields.length];
+        long groupCount = 1;
+        try {
+            for (int i = groupFields.length - 1; i >= 0; i--) {
+                strides[i] = groupCount;
+                groupCount = Math.multiplyExact(groupCount,
+                        Math.max(1, dictionaries[groupFields[i].ordinal()].size()));
+            }
+        } catch (ArithmeticException e) {
+            return CompositeAccumulator::new;
+        }
+        if (groupCount <= MAX_DENSE_GROUPS) {
+            int denseGroupCount = (int) groupCount;
+            return () -> new DenseAccumulator(strides, denseGroupCount);
+        }
+        return () -> new SparseAccumulator(strides);
+    }
+
+    /**
+     * Aggregates the rows from {@code from} (inclusive) to {@code to} (exclusive) into {@code accumulator}.
+     */
+    private Accumulator scan(StatsField[] groupFields, Accumulator accumulator, int from, int to) {
+        int[][] singleCodes = new int[groupFields.length][];
+        int[][][] multiCodes = new int[groupFields.length][][];
+        for (int i = 0; i < groupFields.length; i++) {
+            if (groupFields[i].isMultiValued()) {
+                multiCodes[i] = codeSets[groupFields[i].ordinal()];
+            } else {
+                singleCodes[i] = codes[groupFields[i].ordinal()];
+            }
+        }
+
+        int[] groupCodes = new int[groupFields.length];
+        for (int row = from; row < to; row++) {
+            for (int i = 0; i < singleCodes.length; i++) {
+                if (singleCodes[i] != null) {
+                    groupCodes[i] = singleCodes[i][row];
+                }
+            }
+            accumulateRow(accumulator, multiCodes, groupCodes, row, 0);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Adds {@code row} to every group formed by combining {@code groupCodes} with each of its multi-valued codes,
+     * starting from the field at {@code fieldIndex}.
+     */
+    private void accumulateRow(Accumulator accumulator, int[][][] multiCodes, int[] groupCodes, int row,
+            int fieldIndex) {
+        int next = fieldIndex;
+        while (next < multiCodes.length && multiCodes[next] == null) {
+            next++;
+        }
+        if (next == multiCodes.length) {
+            accumulator.add(groupCodes, buyQuantities[row], sellQuantities[row]);
+            return;
+        }
+        for (int code : multiCodes[next][row]) {
+            groupCodes[next] = code;
+            accumulateRow(accumulator, multiCodes, groupCodes, row, next + 1);
+        }
+    }
+
+    private List<String> decode(int[] groupCodes, StatsField[] groupFields) {
+        List<String> labels = new ArrayList<>(groupFields.length);
+        for (int i = 0; i < groupFields.length; i++) {
+            labels.add(dictionaries[groupFields[i].ordinal()].valueOf(groupCodes[i]));
+        }
+        return labels;
+    }
+
+    private static Comparator<GroupStats> groupOrder(StatsField[] groupFields) {
+        Comparator<GroupStats> order = (first, second) -> 0;
+        for (int i = 0; i < groupFields.length; i++) {
+            int index = i;
+            Comparator<String> labelOrder = groupFields[i].labelOrder();
+            order = order.thenComparing(stats -> stats.getLabels().get(index), labelOrder);
+        }
+        return order;
+    }
+
+    /**
+     * Encodes every row that has yet to be encoded.
+     */
+    private void encodeRows() {
+        for (int row = unencodedRows.nextSetBit(0); row >= 0; row = unencodedRows.nextSetBit(row + 1)) {
+            encode(row, persons[row]);
+        }
+        unencodedRows.clear();
+    }
+
+    private void encode(int row, Person person) {
+        for (StatsField field : FIELDS) {
+            Dictionary dictionary = dictionaries[field.ordinal()];
+            if (field.isMultiValued()) {
+                codeSets[field.ordinal()][row] = field.labels(person).stream()
+                        .mapToInt(dictionary::codeOf)
+                        .toArray();
+            } else {
+                codes[field.ordinal()][row] = dictionary.codeOf(field.labels(person).get(0));
+            }
+        }
+        Order order = person.getOrder();
+        Order.OrderType orderType = order == null ? Order.OrderType.NONE : order.getOrderType();
+        buyQuantities[row] = orderType == Order.OrderType.BUY ? order.getQuantity() : 0;
+        sellQuantities[row] = orderType == Order.OrderType.SELL ? order.getQuantity() : 0;
+    }
+
+    private void moveRow(int from, int to) {
+        persons[to] = persons[from];
+        unencodedRows.set(to, unencodedRows.get(from));
+        for (StatsField field : FIELDS) {
+            if (field.isMultiValued()) {
+                codeSets[field.ordinal()][to] = codeSets[field.ordinal()][from];
+            } else {
+                codes[field.ordinal()][to] = codes[field.ordinal()][from];
+            }
+        }
+        buyQuantities[to] = buyQuantities[from];
+        sellQuantities[to] = sellQuantities[from];
+    }
+
+    private void allocate(int capacity) {
+        for (StatsField field : FIELDS) {
+            if (field.isMultiValued()) {
+                codeSets[field.ordinal()] = new int[capacity][];
+            } else {
+                codes[field.ordinal()] = new int[capacity];
+            }
+        }
+        buyQuantities = new long[capacity];
+        sellQuantities = new long[capacity];
+        persons = new Person[capacity];
+    }
+
+    private void grow() {
+        int capacity = persons.length * 2;
+        for (StatsField field : FIELDS) {
+            if (field.isMultiValued()) {
+                codeSets[field.ordinal()] = Arrays.copyOf(codeSets[field.ordinal()], capacity);
+            } else {
+                codes[field.ordinal()] = Arrays.copyOf(codes[field.ordinal()], capacity);
+            }
+        }
+        buyQuantities = Arrays.copyOf(buyQuantities, capacity);
+        sellQuantities = Arrays.copyOf(sellQuantities, capacity);
+        persons = Arrays.copyOf(persons, capacity);
+    }
+
+    /**
+     * Assigns each distinct label of a field a code, counting up from 0.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int codeOf(String value) {
+            return codes.computeIfAbsent(value, newValue -> {
+                values.add(newValue);
+                return values.size() - 1;
+            });
+        }
+
+        String valueOf(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * Receives the aggregates of each group, given by the codes of its fields: the count, buy quantity and sell
+     * quantity.
+     */
+    private interface GroupConsumer {
+        void accept(int[] groupCodes, long[] aggregates);
+    }
+
+    /**
+     * The running aggregates of one chunk of rows.
+     */
+    private interface Accumulator {
+        /**
+         * Adds a row to the group given by {@code groupCodes}, which the accumulator does not keep.
+         */
+        void add(int[] groupCodes, long buyQuantity, long sellQuantity);
+
+        /**
+         * Adds the aggregates of {@code other} into this accumulator and returns it.
+         */
+        Accumulator merge(Accumulator other);
+
+        /**
+         * Passes the aggregates of every group with at least one person to {@code consumer}.
+         */
+        void forEach(GroupConsumer consumer);
+    }
+
+    /**
+     * An accumulator that numbers each group from the codes of its fields, as a number in a mixed radix whose digits
+     * are the codes.
+     */
+    private abstract static class NumberedAccumulator implements Accumulator {
+        private final long[] strides;
+
+        NumberedAccumulator(long[] strides) {
+            this.strides = strides;
+        }
+
+        long keyOf(int[] groupCodes) {
+            long key = 0;
+            for (int i = 0; i < strides.length; i++) {
+                key += groupCodes[i] * strides[i];
+            }
+            return key;
+        }
+
+        int[] codesOf(long key) {
+            int[] groupCodes = new int[strides.length];
+            for (int i = 0; i < strides.length; i++) {
+                groupCodes[i] = (int) (key / strides[i]);
+                key %= strides[i];
+            }
+            return groupCodes;
+        }
+    }
+
+    /**
+     * Aggregates into arrays indexed by group number, for when there are few possible groups.
+     */
+    private static class DenseAccumulator extends NumberedAccumulator {
+        private final long[] counts;
+        private final long[] buyQuantities;
+        private final long[] sellQuantities;
+
+        DenseAccumulator(long[] strides, int groupCount) {
+            super(strides);
+            counts = new long[groupCount];
+            buyQuantities = new long[groupCount];
+            sellQuantities = new long[groupCount];
+        }
+
+        @Override
+        public void add(int[] groupCodes, long buyQuantity, long sellQuantity) {
+            int index = (int) keyOf(groupCodes);
+            counts[index]++;
+            buyQuantities[index] += buyQuantity;
+            sellQuantities[index] += sellQuantity;
+        }
+
+        @Override
+        public Accumulator merge(Accumulator other) {
+            other.forEach((groupCodes, aggregates) -> {
+                int index = (int) keyOf(groupCodes);
+                counts[index] += aggregates[0];
+                buyQuantities[index] += aggregates[1];
+                sellQuantities[index] += aggregates[2];
+            });
+            return this;
+        }
+
+        @Override
+        public void forEach(GroupConsumer consumer) {
+            for (int index = 0; index < counts.length; index++) {
+                if (counts[index] > 0) {
+                    consumer.accept(codesOf(index),
+                            new long[] {counts[index], buyQuantities[index], sellQuantities[index]});
+                }
+            }
+        }
+    }
+
+    /**
+     * Aggregates into a map from group number, for when there are too many possible groups for arrays.
+     */
+    private static class SparseAccumulator extends NumberedAccumulator {
+        private final Map<Long, long[]> aggregatesByKey = new HashMap<>();
+
+        SparseAccumulator(long[] strides) {
+            super(strides);
+        }
+
+        @Override
+        public void add(int[] groupCodes, long buyQuantity, long sellQuantity) {
+            long[] aggregates = aggregatesByKey.computeIfAbsent(keyOf(groupCodes), unused -> new long[3]);
+            aggregates[0]++;
+            aggregates[1] += buyQuantity;
+            aggregates[2] += sellQuantity;
+        }
+
+        @Override
+        public Accumulator merge(Accumulator other) {
+            other.forEach((groupCodes, otherAggregates) -> addAll(
+                    aggregatesByKey.computeIfAbsent(keyOf(groupCodes), unused -> new long[3]), otherAggregates));
+            return this;
+        }
+
+        @Override
+        public void forEach(GroupConsumer consumer) {
+            aggregatesByKey.forEach((key, aggregates) -> consumer.accept(codesOf(key), aggregates));
+        }
+    }
+
+    /**
+     * Aggregates into a map from the codes of each group, for when there are too many possible groups to number
+     * them with a {@code long}.
+     */
+    private static class CompositeAccumulator implements Accumulator {
+        private final Map<GroupKey, long[]> aggregatesByKey = new HashMap<>();
+
+        @Override
+        public void add(int[] groupCodes, long buyQuantity, long sellQuantity) {
+            long[] aggregates = aggregatesByKey.computeIfAbsent(new GroupKey(groupCodes.clone()),
+                    unused -> new long[3]);
+            aggregates[0]++;
+            aggregates[1] += buyQuantity;
+            aggregates[2] += sellQuantity;
+        }
+
+        @Override
+        public Accumulator merge(Accumulator other) {
+            other.forEach((groupCodes, otherAggregates) -> addAll(
+                    aggregatesByKey.computeIfAbsent(new GroupKey(groupCodes), unused -> new long[3]),
+                    otherAggregates));
+            return this;
+        }
+
+        @Override
+        public void forEach(GroupConsumer consumer) {
+            aggregatesByKey.forEach((key, aggregates) -> consumer.accept(key.groupCodes, aggregates));
+        }
+    }
+
+    /**
+     * The codes of a group, compared by value.
+     */
+    private static class GroupKey {
+        private final int[] groupCodes;
+
+        GroupKey(int[] groupCodes) {
+            this.groupCodes = groupCodes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof GroupKey)) {
+                return false;
+            }
+
+            GroupKey otherGroupKey = (GroupKey) other;
+            return Arrays.equals(groupCodes, otherGroupKey.groupCodes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(groupCodes);
+        }
+    }
+
+    private static void addAll(long[] aggregates, long[] otherAggregates) {
+        for (int i = 0; i < aggregates.length; i++) {
+            aggregates[i] += otherAggregates[i];
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.finclient.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * The aggregates of one group of persons, identified by their labels for each grouped field.
+ * Guarantees: immutable.
+ */
+public class GroupStats {
+
+    private final List<String> labels;
+    private final long count;
+    private final long buyQuantity;
+    private final long sellQuantity;
+
+    /**
+     * Creates the aggregates of the group with the given {@code labels}, one per grouped field.
+     */
+    public GroupStats(List<String> labels, long count, long buyQuantity, long sellQuantity) {
+        requireNonNull(labels);
+        this.labels = List.copyOf(labels);
+        this.count = count;
+        this.buyQuantity = buyQuantity;
+        this.sellQuantity = sellQuantity;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    /**
+     * Returns the number of persons in the group.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the total quantity of the buy orders of the persons in the group.
+     */
+    public long getBuyQuantity() {
+        return buyQuantity;
+    }
+
+    /**
+     * Returns the total quantity of the sell orders of the persons in the group.
+     */
+    public long getSellQuantity() {
+        return sellQuantity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GroupStats)) {
+            return false;
+        }
+
+        GroupStats otherStats = (GroupStats) other;
+        return labels.equals(otherStats.labels)
+                && count == otherStats.count
+                && buyQuantity == otherStats.buyQuantity
+                && sellQuantity == otherStats.sellQuantity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(labels, count, buyQuantity, sellQuantity);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("labels", labels)
+                .add("count", count)
+                .add("buyQuantity", buyQuantity)
+                .add("sellQuantity", sellQuantity)
+                .toString();
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.finclient.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Networth;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Registry of the fields that persons can be grouped by when computing statistics.
+ * Each field extracts a label from a person once, when its row in a {@link ColumnStore} is first scanned,
+ * so that grouping only compares dictionary codes. Hidden persons are grouped by their masked details.
+ */
+public enum StatsField {
+    PLATFORM("platform") {
+        @Override
+        public List<String> labels(Person person) {
+            return List.of(person.getStockPlatform().value);
+        }
+    },
+    NETWORTH("networth") {
+        @Override
+        public List<String> labels(Person person) {
+            return List.of(person.getNetworth().value);
+        }
+
+        @Override
+        public Comparator<String> labelOrder() {
+            return Comparator.comparingInt(StatsField::bracketOrder).thenComparing(Comparator.naturalOrder());
+        }
+    },
+    COMPANY("company") {
+        @Override
+        public List<String> labels(Person person) {
+            return List.of(person.getCompany().value);
+        }
+    },
+    JOB("job") {
+        @Override
+        public List<String> labels(Person person) {
+            return List.of(person.getJob().value);
+        }
+    },
+    ORDER("order") {
+        @Override
+        public List<String> labels(Person person) {
+            Order order = person.getOrder();
+            return List.of(order == null ? Order.OrderType.NONE.name() : order.getOrderType().name());
+        }
+    },
+    TAG("tag") {
+        @Override
+        public boolean isMultiValued() {
+            return true;
+        }
+
+        @Override
+        public List<String> labels(Person person) {
+            if (person.getIsHidden()) {
+                return List.of(HIDDEN_LABEL);
+            }
+            if (person.getTags().isEmpty()) {
+                return List.of("");
+            }
+            return person.getTags().stream()
+                    .map(tag -> tag.tagName)
+                    .toList();
+        }
+    };
+
+    private static final String HIDDEN_LABEL = "Hidden";
+
+    private static final Map<String, StatsField> BY_KEYWORD = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(field -> field.keyword, Function.identity()));
+
+    private final String keyword;
+
+    StatsField(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the field with the given keyword, e.g. "platform".
+     */
+    public static Optional<StatsField> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Optional.ofNullable(BY_KEYWORD.get(keyword));
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns true if a person can have several labels for this field, and so be counted in several groups.
+     */
+    public boolean isMultiValued() {
+        return false;
+    }
+
+    /**
+     * Returns every label of {@code person} for this field. A person without any has a single empty label, and
+     * a field that is not {@link #isMultiValued() multi-valued} always returns exactly one label.
+     */
+    public abstract List<String> labels(Person person);
+
+    /**
+     * Returns the order that groups are listed in for this field.
+     */
+    public Comparator<String> labelOrder() {
+        return Comparator.naturalOrder();
+    }
+
+    /**
+     * Returns the position of a networth label among the brackets, with other labels after every bracket.
+     */
+    private static int bracketOrder(String label) {
+        int index = Networth.BRACKETS.indexOf(label);
+        return index == -1 ? Networth.BRACKETS.size() : index;
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
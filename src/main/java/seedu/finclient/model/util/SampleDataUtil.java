@@ -27,10 +27,10 @@ import seedu.finclient.model.tag.Tag;
  */
 public class SampleDataUtil {
     public static final Remark EMPTY_REMARK = new Remark("", Optional.empty());
-    public static final Company EMPTY_COMPANY = new Company();
-    public static final Job EMPTY_JOB = new Job();
-    public static final StockPlatform EMPTY_STOCK_PLATFORM = new StockPlatform();
-    public static final Networth EMPTY_NEWWORTH = new Networth();
+    public static final Company EMPTY_COMPANY = Company.empty();
+    public static final Job EMPTY_JOB = Job.empty();
+    public static final StockPlatform EMPTY_STOCK_PLATFORM = StockPlatform.empty();
+    public static final Networth EMPTY_NEWWORTH = Networth.empty();
 
     public static Person[] getSamplePersons() {
         return new Person[] {
@@ -40,10 +40,10 @@ public class SampleDataUtil {
                     new Order("BUY 30 @ $5.50"),
                     new Remark("Loves cycling and photography.", Optional.empty()),
                     getTagSet("friends"),
-                    new Company("Nimbus Technologies"),
-                    new Job("Software Engineer"),
-                    new StockPlatform("TradeHubX"),
-                    new Networth("120000")),
+                    Company.of("Nimbus Technologies"),
+                    Job.of("Software Engineer"),
+                    StockPlatform.of("TradeHubX"),
+                    Networth.of("120000")),
 
             new Person(new Name("Bernice Yu"), getPhoneList("99272758"),
                     new Email("berniceyu@example.com"),
@@ -51,10 +51,10 @@ public class SampleDataUtil {
                     new Order("SELL 30 @ $5.70"),
                     new Remark("Volunteers at animal shelters.", Optional.empty()),
                     getTagSet("colleagues", "friends"),
-                    new Company("Zenith Finance"),
-                    new Job("Financial Analyst"),
-                    new StockPlatform("WealthGo"),
-                    new Networth("85000")),
+                    Company.of("Zenith Finance"),
+                    Job.of("Financial Analyst"),
+                    StockPlatform.of("WealthGo"),
+                    Networth.of("85000")),
 
             new Person(new Name("Charlotte Oliveiro"), getPhoneList("93210283", "81234567"),
                     new Email("charlotte@example.com"),
@@ -63,8 +63,8 @@ public class SampleDataUtil {
                     getTagSet("neighbours"),
                     EMPTY_COMPANY,
                     EMPTY_JOB,
-                    new StockPlatform("BullBear App"),
-                    new Networth("40000")),
+                    StockPlatform.of("BullBear App"),
+                    Networth.of("40000")),
 
             new Person(new Name("David Li"), getPhoneList("91031282"),
                     new Email("lidavid@example.com"),
@@ -72,10 +72,10 @@ public class SampleDataUtil {
                     new Order("BUY 50 @ $5.60"),
                     new Remark("Looking to switch industries.", Optional.empty()),
                     getTagSet("family"),
-                    new Company("BrightSpark Learning"),
-                    new Job("Education Consultant"),
+                    Company.of("BrightSpark Learning"),
+                    Job.of("Education Consultant"),
                     EMPTY_STOCK_PLATFORM,
-                    new Networth("60000")),
+                    Networth.of("60000")),
 
             new Person(new Name("Irfan Ibrahim"), getPhoneList("92492021", "82345678"),
                     new Email("irfan@example.com"),
@@ -83,9 +83,9 @@ public class SampleDataUtil {
                     new Order("SELL 50 @ $5.50"),
                     new Remark("Active in coding meetups.", Optional.empty()),
                     getTagSet("classmates"),
-                    new Company("Arcade Labs"),
-                    new Job("UX Designer"),
-                    new StockPlatform("AlphaInvest"),
+                    Company.of("Arcade Labs"),
+                    Job.of("UX Designer"),
+                    StockPlatform.of("AlphaInvest"),
                     EMPTY_NEWWORTH),
 
             new Person(new Name("Roy Balakrishnan"), getPhoneList("92624417"),
@@ -97,7 +97,7 @@ public class SampleDataUtil {
                     EMPTY_COMPANY,
                     EMPTY_JOB,
                     EMPTY_STOCK_PLATFORM,
-                    new Networth("22500"))
+                    Networth.of("22500"))
         };
     }
 
@@ -115,7 +115,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,176 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.model.FinClientSnapshot;
+import seedu.finclient.model.ReadOnlyFinClient;
+
+/**
+ * Saves client books to a {@code FinClientStorage} on a background thread, so that saving never holds up the thread
+ * that mutates the model.
+ *
+ * Books are submitted as snapshots, which later changes to the model leave as they are. At most one
+ * save per file waits at any time, and a newer submission for a file replaces the waiting one, so a burst of changes
+ * is written once. Failures are passed to the error listener through {@code listenerExecutor}, which should run
+ * tasks on the UI thread. A failed save stays waiting and is retried by the next pass over the waiting saves.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final FinClientStorage storage;
+    private final Executor listenerExecutor;
+    private final Consumer<IOException> errorListener;
+    private final ExecutorService saver;
+
+    // Guarded by this.
+    private final Map<Path, ReadOnlyFinClient> waitingSaves = new LinkedHashMap<>();
+    private boolean isPassScheduled;
+    private IOException lastError;
+
+    /**
+     * Creates a {@code BackgroundSaver} that saves to {@code storage}, passing any failure to {@code errorListener}
+     * through {@code listenerExecutor}.
+     */
+    public BackgroundSaver(FinClientStorage storage, Executor listenerExecutor, Consumer<IOException> errorListener) {
+        requireAllNonNull(storage, listenerExecutor, errorListener);
+        this.storage = storage;
+        this.listenerExecutor = listenerExecutor;
+        this.errorListener = errorListener;
+        saver = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "background-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Saves {@code snapshot} to {@code filePath} in the background.
+     */
+    public synchronized void submit(FinClientSnapshot snapshot, Path filePath) {
+        requireAllNonNull(snapshot, filePath);
+        waitingSaves.put(filePath, snapshot);
+        schedulePass();
+    }
+
+    /**
+     * Saves everything submitted so far, retrying failed saves, and waits until it is written.
+     *
+     * @throws IOException if a save still fails.
+     */
+    public synchronized void flush() throws IOException {
+        awaitSaves();
+        if (!waitingSaves.isEmpty()) {
+            throw lastError;
+        }
+    }
+
+    /**
+     * Similar to {@link #flush()}, but only fails if the save of {@code filePath} still fails.
+     * Files must be flushed before they are read, so that a book is never read from a file that a waiting save is
+     * about to overwrite with newer data.
+     *
+     * @throws IOException if the save of {@code filePath} still fails.
+     */
+    public synchronized void flush(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        awaitSaves();
+        if (waitingSaves.containsKey(filePath)) {
+            throw lastError;
+        }
+    }
+
+    /**
+     * Flushes the waiting saves and stops the background thread. Later submissions are not saved.
+     *
+     * @throws IOException if a save still fails.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            saver.shutdown();
+        }
+    }
+
+    /**
+     * Waits for the pass in progress, if any, then for one more pass if saves are still waiting.
+     */
+    private synchronized void awaitSaves() throws InterruptedIOException {
+        try {
+            awaitPass();
+            if (!waitingSaves.isEmpty()) {
+                schedulePass();
+                awaitPass();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data to be saved");
+        }
+    }
+
+    private synchronized void schedulePass() {
+        if (!isPassScheduled && !saver.isShutdown()) {
+            isPassScheduled = true;
+            saver.execute(this::saveWaiting);
+        }
+    }
+
+    private synchronized void awaitPass() throws InterruptedException {
+        while (isPassScheduled) {
+            wait();
+        }
+    }
+
+    /**
+     * Writes the waiting saves until none is left, trying each file at most once in the pass.
+     */
+    private void saveWaiting() {
+        Set<Path> failedFiles = new HashSet<>();
+        while (true) {
+            Path filePath;
+            ReadOnlyFinClient finClient;
+            synchronized (this) {
+                Optional<Path> next = waitingSaves.keySet().stream()
+                        .filter(file -> !failedFiles.contains(file))
+                        .findFirst();
+                if (next.isEmpty()) {
+                    isPassScheduled = false;
+                    notifyAll();
+                    return;
+                }
+                filePath = next.get();
+                finClient = waitingSaves.remove(filePath);
+            }
+
+            try {
+                storage.saveFinClient(finClient, filePath);
+            } catch (IOException e) {
+                logger.warning("Could not save data to " + filePath + ": " + e.getMessage());
+                failedFiles.add(filePath);
+                synchronized (this) {
+                    // a newer submission made in the meantime supersedes the failed one
+                    waitingSaves.putIfAbsent(filePath, finClient);
+                    lastError = e;
+                }
+                listenerExecutor.execute(() -> errorListener.accept(e));
+            }
+        }
+    }
+}
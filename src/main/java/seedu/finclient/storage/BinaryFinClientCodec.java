@@ -0,0 +1,488 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonDetails;
+
+/**
+ * Reads and writes FinClient data files in a compact binary format.
+ *
+ * The file starts with {@link #MAGIC}, followed by one record per person, each prefixed with its length in bytes.
+ * Values that repeat across persons, such as tags, companies and networth brackets, are stored once in a dictionary
+ * and referred to by their index in it. The dictionary follows the records, so that the file is written in a single
+ * pass, and the file ends with the offset of the dictionary as a fixed-size number. Every other number is a varint.
+ *
+ * Persons are converted through {@link JsonAdaptedPerson}, so both formats hold the same fields and are validated
+ * the same way when read.
+ *
+ * A file can also be read lazily, for a quicker start on large files: only the fields that identify, sort, group and
+ * match a person are decoded up front, and its {@link PersonDetails} are decoded from a copy of its record when
+ * first read.
+ */
+class BinaryFinClientCodec {
+
+    /** The bytes every binary data file starts with: "FCB" and the version of the format. */
+    static final byte[] MAGIC = {'F', 'C', 'B', 1};
+
+    private static final int FOOTER_SIZE = Long.BYTES;
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+    private static final int MAX_VARLONG_SIZE = 10;
+
+    private static final int FLAG_HIDDEN = 1;
+    private static final int FLAG_NETWORTH_AMOUNT = 1 << 1;
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, are those of a binary data file.
+     */
+    static boolean hasMagic(byte[] header) {
+        return Arrays.equals(header, MAGIC);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but the details of each person are only decoded and validated when first read,
+     * and the most recently read details are kept in {@code cache}.
+     * As files are only written from valid persons, details that turn out to be invalid mean that the file was
+     * damaged; reading them throws an {@code IllegalStateException}.
+     */
+    static FinClient readLazily(Path file, PersonDetailsCache cache) throws IOException, IllegalValueException {
+        requireNonNull(cache);
+        return read(file, MAX_WINDOW_SIZE, cache);
+    }
+
+    /**
+     * Reads the data file at {@code file}.
+     *
+     * The file is memory-mapped rather than read through a stream, and each record is decoded straight from the
+     * mapping, so record bytes are never copied to the heap. Only the field values themselves are copied, as strings.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if a person is invalid, or the persons contain duplicates.
+     */
+    static FinClient read(Path file) throws IOException, IllegalValueException {
+        return read(file, MAX_WINDOW_SIZE);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, mapping the records at most {@code windowSize} bytes at a time.
+     */
+    static FinClient read(Path file, int windowSize) throws IOException, IllegalValueException {
+        return read(file, windowSize, null);
+    }
+
+    /**
+     * Reads the data file at {@code file}, lazily if {@code cache} is not null.
+     */
+    private static FinClient read(Path file, int windowSize, PersonDetailsCache cache)
+            throws IOException, IllegalValueException {
+        PersonConverter converter = new PersonConverter();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAGIC.length + FOOTER_SIZE) {
+                throw new IOException(file + " is too short to be a binary data file");
+            }
+            if (!hasMagic(readFully(channel, 0, MAGIC.length).array())) {
+                throw new IOException(file + " is not a binary data file");
+            }
+            long dictionaryOffset = readFully(channel, size - FOOTER_SIZE, FOOTER_SIZE).getLong();
+            long dictionarySize = size - FOOTER_SIZE - dictionaryOffset;
+            if (dictionaryOffset < MAGIC.length || dictionarySize < 0 || dictionarySize > MAX_WINDOW_SIZE) {
+                throw new IOException(file + " has a damaged footer");
+            }
+
+            long personCount;
+            String[] symbols;
+            ByteBuffer dictionary = channel.map(FileChannel.MapMode.READ_ONLY, dictionaryOffset, dictionarySize);
+            try {
+                personCount = readVarLong(dictionary);
+                symbols = new String[toLength(readVarLong(dictionary), dictionary.remaining())];
+                for (int i = 0; i < symbols.length; i++) {
+                    symbols[i] = readString(dictionary);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IOException(file + " has a damaged dictionary");
+            }
+
+            RecordWindow records = new RecordWindow(channel, MAGIC.length, dictionaryOffset, windowSize);
+            for (long i = 0; i < personCount; i++) {
+                try {
+                    ByteBuffer record = records.next();
+                    if (cache == null) {
+                        converter.add(decode(record, symbols, true));
+                    } else {
+                        LazyDetails details = new LazyDetails(copyOf(record), symbols, cache);
+                        JsonAdaptedPerson summary = decode(record, symbols, false);
+                        converter.add(() -> summary.toModelType(details));
+                    }
+                } catch (BufferUnderflowException e) {
+                    throw new IOException("Record " + i + " of " + file + " is cut short");
+                }
+            }
+            if (records.hasNext()) {
+                throw new IOException(file + " holds more records than it lists");
+            }
+        }
+        return converter.toFinClient();
+    }
+
+    /**
+     * Writes {@code source} to {@code file}, replacing the file atomically.
+     */
+    static void write(ReadOnlyFinClient source, Path file) throws IOException {
+        FileUtil.writeToFileAtomically(file, out -> write(source.getPersonList(), out));
+    }
+
+    private static void write(List<Person> persons, OutputStream out) throws IOException {
+        Map<String, Integer> symbols = new LinkedHashMap<>();
+        RecordBuffer record = new RecordBuffer();
+        RecordBuffer length = new RecordBuffer();
+        long position = MAGIC.length;
+        out.write(MAGIC);
+        for (Person person : persons) {
+            record.reset();
+            encode(new JsonAdaptedPerson(person), symbols, record);
+            length.reset();
+            length.writeVarLong(record.size());
+            length.writeTo(out);
+            record.writeTo(out);
+            position += length.size() + record.size();
+        }
+
+        RecordBuffer dictionary = new RecordBuffer();
+        dictionary.writeVarLong(persons.size());
+        dictionary.writeVarLong(symbols.size());
+        for (String symbol : symbols.keySet()) {
+            dictionary.writeString(symbol);
+        }
+        dictionary.writeTo(out);
+        out.write(ByteBuffer.allocate(FOOTER_SIZE).putLong(position).array());
+    }
+
+    private static void encode(JsonAdaptedPerson person, Map<String, Integer> symbols, RecordBuffer record) {
+        Long networthAmount = toAmount(person.getNetworth());
+        record.write((person.isHidden() ? FLAG_HIDDEN : 0) | (networthAmount != null ? FLAG_NETWORTH_AMOUNT : 0));
+        record.writeString(person.getName());
+        record.writeVarLong(person.getPhones().size());
+        for (String phone : person.getPhones()) {
+            record.writeString(phone);
+        }
+        record.writeString(person.getEmail());
+        record.writeString(person.getAddress());
+        record.writeString(person.getOrder());
+        record.writeString(person.getRemark());
+        record.writeString(person.getRemarkTimestamp());
+        List<String> tagNames = person.getTagNames();
+        record.writeVarLong(tagNames.size());
+        for (String tagName : tagNames) {
+            record.writeSymbol(tagName, symbols);
+        }
+        record.writeSymbol(person.getCompany(), symbols);
+        record.writeSymbol(person.getJob(), symbols);
+        record.writeSymbol(person.getStockPlatform(), symbols);
+        if (networthAmount != null) {
+            record.writeVarLong(networthAmount);
+        } else {
+            record.writeSymbol(person.getNetworth(), symbols);
+        }
+    }
+
+    /**
+     * Decodes {@code record}, skipping the fields of its {@link PersonDetails} unless {@code withDetails}.
+     */
+    private static JsonAdaptedPerson decode(ByteBuffer record, String[] symbols, boolean withDetails)
+            throws IOException {
+        try {
+            int flags = record.get();
+            String name = readString(record);
+            List<String> phones = new ArrayList<>();
+            for (int i = toLength(readVarLong(record), record.remaining()); i > 0; i--) {
+                phones.add(readString(record));
+            }
+            String email = withDetails ? readString(record) : skipString(record);
+            String address = withDetails ? readString(record) : skipString(record);
+            String order = readString(record);
+            String remark = readString(record);
+            String remarkTimestamp = readString(record);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int i = toLength(readVarLong(record), record.remaining()); i > 0; i--) {
+                tags.add(new JsonAdaptedTag(readSymbol(record, symbols)));
+            }
+            String company = readSymbol(record, symbols);
+            String job = readSymbol(record, symbols);
+            String stockPlatform = readSymbol(record, symbols);
+            String networth = (flags & FLAG_NETWORTH_AMOUNT) != 0
+                    ? Long.toString(readVarLong(record))
+                    : readSymbol(record, symbols);
+            if (record.hasRemaining()) {
+                throw new IOException("A record has " + record.remaining() + " unexpected bytes at its end");
+            }
+            return new JsonAdaptedPerson(name, phones, email, address, order, remark, remarkTimestamp, tags,
+                    company, job, stockPlatform, networth, (flags & FLAG_HIDDEN) != 0);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("A record is shorter than its fields");
+        }
+    }
+
+    /**
+     * Returns the fields of {@code person} as they are in the record it was lazily read from, without decoding them
+     * into its {@link PersonDetails}, or {@code Optional.empty()} if its details were not read lazily.
+     * Only the fields of its {@code PersonDetails} are meant to be used, as it may have been edited since.
+     */
+    static Optional<JsonAdaptedPerson> undecodedDetailsOf(Person person) {
+        if (!(person.getDetailsSupplier() instanceof LazyDetails)) {
+            return Optional.empty();
+        }
+        return Optional.of(((LazyDetails) person.getDetailsSupplier()).decodeFields());
+    }
+
+    private static byte[] copyOf(ByteBuffer record) {
+        byte[] bytes = new byte[record.remaining()];
+        record.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns {@code networth} as an amount if it is stored as one, so that it can be written as a number.
+     */
+    private static Long toAmount(String networth) {
+        if (networth == null || networth.isEmpty() || networth.length() > 18
+                || !networth.chars().allMatch(c -> c >= '0' && c <= '9')
+                || (networth.length() > 1 && networth.charAt(0) == '0')) {
+            return null;
+        }
+        return Long.parseLong(networth);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static long readVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if (next >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number");
+    }
+
+    /**
+     * Returns {@code length} as an int, checking that it is no more than the {@code available} bytes.
+     */
+    private static int toLength(long length, long available) throws IOException {
+        if (length < 0 || length > available) {
+            throw new IOException("Length " + length + " exceeds the " + available + " bytes left");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Reads a string written by {@link RecordBuffer#writeString(String)}.
+     */
+    private static String readString(ByteBuffer buffer) throws IOException {
+        long lengthPlusOne = readVarLong(buffer);
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[toLength(lengthPlusOne - 1, buffer.remaining())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Skips a string written by {@link RecordBuffer#writeString(String)}, returning null.
+     */
+    private static String skipString(ByteBuffer buffer) throws IOException {
+        long lengthPlusOne = readVarLong(buffer);
+        if (lengthPlusOne > 0) {
+            buffer.position(buffer.position() + toLength(lengthPlusOne - 1, buffer.remaining()));
+        }
+        return null;
+    }
+
+    /**
+     * Reads a dictionary value written by {@link RecordBuffer#writeSymbol(String, Map)}.
+     */
+    private static String readSymbol(ByteBuffer buffer, String[] symbols) throws IOException {
+        long indexPlusOne = readVarLong(buffer);
+        if (indexPlusOne == 0) {
+            return null;
+        }
+        if (indexPlusOne > symbols.length) {
+            throw new IOException("Dictionary index " + (indexPlusOne - 1) + " is out of range");
+        }
+        return symbols[(int) (indexPlusOne - 1)];
+    }
+
+    /**
+     * The details of a person read lazily, decoded from a copy of its record whenever they are not in the cache.
+     * The record is copied off the mapping so that the details can still be decoded after the file is replaced.
+     */
+    private static class LazyDetails implements Supplier<PersonDetails> {
+        private final byte[] record;
+        private final String[] symbols;
+        private final PersonDetailsCache cache;
+
+        LazyDetails(byte[] record, String[] symbols, PersonDetailsCache cache) {
+            this.record = record;
+            this.symbols = symbols;
+            this.cache = cache;
+        }
+
+        @Override
+        public PersonDetails get() {
+            return cache.get(this, this::decodeDetails);
+        }
+
+        /**
+         * Decodes the fields of the record, without validating them or going through the cache.
+         */
+        JsonAdaptedPerson decodeFields() {
+            try {
+                return decode(ByteBuffer.wrap(record), symbols, true);
+            } catch (IOException e) {
+                throw new IllegalStateException("The details of a loaded person are damaged: " + e.getMessage(), e);
+            }
+        }
+
+        private PersonDetails decodeDetails() {
+            try {
+                return decodeFields().toModelDetails();
+            } catch (IllegalValueException e) {
+                throw new IllegalStateException("The details of a loaded person are damaged: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * The length-prefixed records of a file, mapped one window at a time, as a single mapping cannot exceed 2GB.
+     * A record never straddles two windows: a new window is mapped from the start of any record that does not fit
+     * in the rest of the current one.
+     */
+    private static class RecordWindow {
+        private final FileChannel channel;
+        private final long end;
+        private final int windowSize;
+        private long windowStart;
+        private ByteBuffer window;
+
+        RecordWindow(FileChannel channel, long start, long end, int windowSize) throws IOException {
+            this.channel = channel;
+            this.end = end;
+            this.windowSize = windowSize;
+            map(start);
+        }
+
+        boolean hasNext() {
+            return windowStart + window.position() < end;
+        }
+
+        /**
+         * Returns the next record, as a view of the mapping.
+         */
+        ByteBuffer next() throws IOException {
+            if (!hasNext()) {
+                throw new EOFException("The records end before the last record");
+            }
+            if (window.remaining() < MAX_VARLONG_SIZE) {
+                map(windowStart + window.position());
+            }
+            long recordStart = windowStart + window.position();
+            long length = readVarLong(window);
+            long dataStart = windowStart + window.position();
+            if (length < 0 || length > end - dataStart) {
+                throw new IOException("The record at " + recordStart + " runs past the records");
+            }
+            if (length > window.remaining()) {
+                if (dataStart - recordStart + length > windowSize) {
+                    throw new IOException("The record at " + recordStart + " is larger than a window");
+                }
+                map(recordStart);
+                readVarLong(window);
+            }
+            ByteBuffer record = window.slice(window.position(), (int) length);
+            window.position(window.position() + (int) length);
+            return record;
+        }
+
+        private void map(long start) throws IOException {
+            windowStart = start;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(end - start, windowSize));
+        }
+    }
+
+    /**
+     * A growable buffer that a record is encoded into before its length is known.
+     */
+    private static class RecordBuffer extends ByteArrayOutputStream {
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        /**
+         * Writes {@code value}, which may be null, as its length in bytes plus one followed by its UTF-8 bytes.
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            write(bytes, 0, bytes.length);
+        }
+
+        /**
+         * Writes {@code value}, which may be null, as its index in {@code symbols} plus one, adding it to
+         * {@code symbols} if it is not there yet.
+         */
+        void writeSymbol(String value, Map<String, Integer> symbols) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            Integer index = symbols.get(value);
+            if (index == null) {
+                index = symbols.size();
+                symbols.put(value, index);
+            }
+            writeVarLong(index + 1L);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.model.ReadOnlyFinClient;
+
+/**
+ * A class to access FinClient data stored in the compact binary format of {@link BinaryFinClientCodec}.
+ * Files in any {@link DataFileFormat} are read, so a file saved in another format can still be loaded.
+ * Binary files are read lazily, decoding the details of each person only when they are first read.
+ */
+public class BinaryFinClientStorage implements FinClientStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFinClientStorage.class);
+
+    private Path filePath;
+
+    public BinaryFinClientStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getFinClientFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setFinClientFilePath(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFinClient> readFinClient() throws DataLoadingException {
+        return readFinClient(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFinClient()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyFinClient> readFinClient(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            DataFileFormat format = DataFileFormat.detect(filePath);
+            if (format != DataFileFormat.BINARY) {
+                return Optional.of(format.read(filePath));
+            }
+            PersonDetailsCache cache = new PersonDetailsCache(PersonDetailsCache.DEFAULT_CAPACITY);
+            return Optional.of(BinaryFinClientCodec.readLazily(filePath, cache));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveFinClient(ReadOnlyFinClient finclient) throws IOException {
+        saveFinClient(finclient, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFinClient(ReadOnlyFinClient)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveFinClient(ReadOnlyFinClient finclient, Path filePath) throws IOException {
+        requireNonNull(finclient);
+        requireNonNull(filePath);
+
+        BinaryFinClientCodec.write(finclient, filePath);
+    }
+
+    @Override
+    public void close() {
+        // every save is complete when it returns
+    }
+
+}
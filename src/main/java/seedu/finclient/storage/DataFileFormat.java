@@ -0,0 +1,120 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+
+/**
+ * The formats that a FinClient data file can be stored in.
+ * The format of an existing file is detected from its first bytes, so a file can be read whatever its name.
+ * JSON files may also be compressed, which is likewise detected from their first bytes.
+ */
+public enum DataFileFormat {
+    JSON(".json", true) {
+        @Override
+        FinClient read(Path file) throws IOException, IllegalValueException {
+            return JsonFinClientCodec.read(file).getFinClient();
+        }
+
+        @Override
+        void write(ReadOnlyFinClient finClient, Path file) throws IOException {
+            JsonFinClientCodec.write(finClient,
+                    isCompressedFileName(file) ? FileUtil.DEFAULT_COMPRESSION_LEVEL : FileUtil.NO_COMPRESSION, file);
+        }
+    },
+    BINARY(".fcb", false) {
+        @Override
+        FinClient read(Path file) throws IOException, IllegalValueException {
+            return BinaryFinClientCodec.read(file);
+        }
+
+        @Override
+        void write(ReadOnlyFinClient finClient, Path file) throws IOException {
+            BinaryFinClientCodec.write(finClient, file);
+        }
+    };
+
+    /** The suffix added to the extension of a file that is written compressed. */
+    public static final String COMPRESSED_FILE_SUFFIX = ".gz";
+
+    public static final String MESSAGE_CONSTRAINTS = "File names should end with one of: "
+            + String.join(", ", Arrays.stream(values()).flatMap(DataFileFormat::getFileNameEndings).toList());
+
+    private final String fileExtension;
+    private final boolean isCompressible;
+
+    DataFileFormat(String fileExtension, boolean isCompressible) {
+        this.fileExtension = fileExtension;
+        this.isCompressible = isCompressible;
+    }
+
+    /**
+     * Returns the extension that files in this format are named with.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format that the existing {@code file} is stored in.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static DataFileFormat detect(Path file) throws IOException {
+        requireNonNull(file);
+        try (InputStream in = FileUtil.openDecompressingInputStream(file)) {
+            return BinaryFinClientCodec.hasMagic(in.readNBytes(BinaryFinClientCodec.MAGIC.length)) ? BINARY : JSON;
+        }
+    }
+
+    /**
+     * Returns the format that a file named {@code file} should be written in, or {@code Optional.empty()} if its
+     * extension is not that of any format. A file whose extension is followed by {@link #COMPRESSED_FILE_SUFFIX}
+     * is written compressed, if its format can be.
+     */
+    public static Optional<DataFileFormat> fromFileName(Path file) {
+        requireNonNull(file);
+        String fileName = file.getFileName().toString();
+        return Arrays.stream(values())
+                .filter(format -> format.getFileNameEndings().anyMatch(fileName::endsWith))
+                .findFirst();
+    }
+
+    /**
+     * Returns true if a file named {@code file} is written compressed.
+     */
+    public static boolean isCompressedFileName(Path file) {
+        requireNonNull(file);
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_SUFFIX);
+    }
+
+    private Stream<String> getFileNameEndings() {
+        return isCompressible
+                ? Stream.of(fileExtension, fileExtension + COMPRESSED_FILE_SUFFIX)
+                : Stream.of(fileExtension);
+    }
+
+    /**
+     * Reads the data file at {@code file}, which must be in this format.
+     *
+     * @throws IOException if the file cannot be read or is not in this format.
+     * @throws IllegalValueException if a person is invalid, or the persons contain duplicates.
+     */
+    abstract FinClient read(Path file) throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code finClient} to {@code file} in this format, replacing the file atomically.
+     * The file is compressed if its name says so.
+     */
+    abstract void write(ReadOnlyFinClient finClient, Path file) throws IOException;
+}
@@ -18,6 +18,11 @@ public interface FinClientStorage {
      */
     Path getFinClientFilePath();
 
+    /**
+     * Sets the file path of the data file, such as when another client book becomes active.
+     */
+    void setFinClientFilePath(Path filePath);
+
     /**
      * Returns FinClient data as a {@link ReadOnlyFinClient}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -43,4 +48,10 @@ public interface FinClientStorage {
      */
     void saveFinClient(ReadOnlyFinClient addressBook, Path filePath) throws IOException;
 
+    /**
+     * Finishes writing any data saved so far and releases the files held open by this storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void close() throws IOException;
+
 }
@@ -0,0 +1,67 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.book.BookLoader;
+
+/**
+ * A {@code BookLoader} that reads and writes a book file only once the save of that file waiting in a
+ * {@code BackgroundSaver}, if any, is written.
+ * Without it, switching back to a book that is too large to be kept in memory could read the file before the
+ * changes made just before switching away are saved, and the next save would then overwrite those changes.
+ */
+public class FlushingBookLoader implements BookLoader {
+
+    private final BookLoader loader;
+    private final BackgroundSaver saver;
+
+    /**
+     * Creates a {@code FlushingBookLoader} that reads and writes books through {@code loader} once their waiting
+     * saves in {@code saver} are written.
+     */
+    public FlushingBookLoader(BookLoader loader, BackgroundSaver saver) {
+        requireAllNonNull(loader, saver);
+        this.loader = loader;
+        this.saver = saver;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws DataLoadingException also if the waiting save of {@code filePath} still fails.
+     */
+    @Override
+    public Optional<ReadOnlyFinClient> loadBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            saver.flush(filePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return loader.loadBook(filePath);
+    }
+
+    @Override
+    public List<Path> listBooks(Path directory) throws IOException {
+        return loader.listBooks(directory);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The copy is written after the waiting save of {@code filePath}, if any, so that it is not overwritten by it.
+     */
+    @Override
+    public void exportBook(ReadOnlyFinClient book, Path filePath) throws IOException {
+        requireAllNonNull(book, filePath);
+        saver.flush(filePath);
+        loader.exportBook(book, filePath);
+    }
+}
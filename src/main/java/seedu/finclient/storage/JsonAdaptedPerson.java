@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -20,6 +21,7 @@ import seedu.finclient.model.person.Job;
 import seedu.finclient.model.person.Name;
 import seedu.finclient.model.person.Networth;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonDetails;
 import seedu.finclient.model.person.Phone;
 import seedu.finclient.model.person.PhoneList;
 import seedu.finclient.model.person.Remark;
@@ -86,28 +88,86 @@ class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Person source) {
         isHidden = source.getIsHidden();
-        source.setUnhidden();
-        name = source.getName().fullName;
-        phones = source.getPhoneList().phoneList.stream()
+        // read the details from a revealed copy, as a hidden person masks them
+        Person details = isHidden ? source.withHidden(false) : source;
+        name = details.getName().fullName;
+        phones = details.getPhoneList().phoneList.stream()
                 .map(Phone::toString)
                 .collect(Collectors.toList());
-        email = source.getEmail().value;
-        address = source.getAddress().value;
-        order = source.getOrder().toString();
-        remark = source.getRemark().value;
-        remarkTimestamp = source.getRemark().getTimestamp()
+        order = details.getOrder().toString();
+        remark = details.getRemark().value;
+        remarkTimestamp = details.getRemark().getTimestamp()
                 .map(LocalDateTime::toString)
                 .orElse(null);
-        tags.addAll(source.getTags().stream()
+        networth = details.getNetworth().toStorageString();
+
+        // details still undecoded since a lazy read are copied from their record, rather than decoded just to save
+        Optional<JsonAdaptedPerson> undecoded = BinaryFinClientCodec.undecodedDetailsOf(source);
+        if (undecoded.isPresent()) {
+            email = undecoded.get().email;
+            address = undecoded.get().address;
+        } else {
+            email = details.getEmail().value;
+            address = details.getAddress().value;
+        }
+        tags.addAll(details.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        if (isHidden) {
-            source.setHidden();
-        }
-        company = source.getCompany().value;
-        job = source.getJob().value;
-        stockPlatform = source.getStockPlatform().value;
-        networth = source.getNetworth().value;
+        company = details.getCompany().value;
+        job = details.getJob().value;
+        stockPlatform = details.getStockPlatform().value;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<String> getPhones() {
+        return phones;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    String getOrder() {
+        return order;
+    }
+
+    String getRemark() {
+        return remark;
+    }
+
+    String getRemarkTimestamp() {
+        return remarkTimestamp;
+    }
+
+    List<String> getTagNames() {
+        return tags.stream().map(JsonAdaptedTag::getTagName).collect(Collectors.toList());
+    }
+
+    String getCompany() {
+        return company;
+    }
+
+    String getJob() {
+        return job;
+    }
+
+    String getStockPlatform() {
+        return stockPlatform;
+    }
+
+    String getNetworth() {
+        return networth;
+    }
+
+    boolean isHidden() {
+        return isHidden;
     }
 
     /**
@@ -116,19 +176,86 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        final Set<Tag> modelTags = toModelTags();
+        final Name modelName = toModelName();
+        final PhoneList modelPhoneList = toModelPhoneList();
+        final Email modelEmail = toModelEmail();
+        final Address modelAddress = toModelAddress();
+        final Order modelOrder = toModelOrder();
+        final Remark modelRemark = toModelRemark();
+        final Company modelCompany = toModelCompany();
+        final Job modelJob = toModelJob();
+        final StockPlatform modelStockPlatform = toModelStockPlatform();
+        final Networth modelNetworth = toModelNetworth();
+
+        return new Person(modelName, modelPhoneList, modelOrder, modelRemark, modelTags, modelCompany, modelJob,
+                modelStockPlatform, modelNetworth, isHidden, new PersonDetails(modelEmail, modelAddress));
+    }
+
+    /**
+     * Converts the fields of this adapted person other than its {@link PersonDetails} into a {@code Person} whose
+     * details are supplied by {@code details}. The email and address of this adapted person are neither read nor
+     * validated, so they may be null.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the converted fields.
+     */
+    Person toModelType(Supplier<PersonDetails> details) throws IllegalValueException {
+        final Set<Tag> modelTags = toModelTags();
+        final Name modelName = toModelName();
+        final PhoneList modelPhoneList = toModelPhoneList();
+        final Order modelOrder = toModelOrder();
+        final Remark modelRemark = toModelRemark();
+        final Company modelCompany = toModelCompany();
+        final Job modelJob = toModelJob();
+        final StockPlatform modelStockPlatform = toModelStockPlatform();
+        final Networth modelNetworth = toModelNetworth();
+
+        return new Person(modelName, modelPhoneList, modelOrder, modelRemark, modelTags, modelCompany, modelJob,
+                modelStockPlatform, modelNetworth, isHidden, details);
+    }
+
+    /**
+     * Converts the email and address of this adapted person into the model's {@code PersonDetails} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the converted fields.
+     */
+    PersonDetails toModelDetails() throws IllegalValueException {
+        final Email modelEmail = toModelEmail();
+        final Address modelAddress = toModelAddress();
+        return new PersonDetails(modelEmail, modelAddress);
+    }
+
+    private Company toModelCompany() {
+        return company.isEmpty() ? Company.empty() : Company.of(company);
+    }
+
+    private Job toModelJob() {
+        return job.isEmpty() ? Job.empty() : Job.of(job);
+    }
+
+    private StockPlatform toModelStockPlatform() {
+        return stockPlatform.isEmpty() ? StockPlatform.empty() : StockPlatform.of(stockPlatform);
+    }
+
+    private Set<Tag> toModelTags() throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
         }
+        return new HashSet<>(personTags);
+    }
 
+    private Name toModelName() throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        return new Name(name);
+    }
 
+    private PhoneList toModelPhoneList() throws IllegalValueException {
         if (phones == null || phones.isEmpty()) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "PhoneList"));
         }
@@ -140,32 +267,34 @@ class JsonAdaptedPerson {
             }
             modelPhoneList.addPhone(new Phone(phone));
         }
+        return modelPhoneList;
+    }
 
+    private Email toModelEmail() throws IllegalValueException {
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        return new Email(email);
+    }
 
+    private Address toModelAddress() throws IllegalValueException {
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
-
-        final Order modelOrder;
+        return new Address(address);
+    }
 
-        if (order == null) {
-            modelOrder = new Order("NONE");
-        } else {
-            modelOrder = new Order(order);
-        }
+    private Order toModelOrder() {
+        return order == null ? new Order("NONE") : new Order(order);
+    }
 
-        final Remark modelRemark;
+    private Remark toModelRemark() {
         final Optional<LocalDateTime> modelTimestamp;
 
         if (remarkTimestamp == null || remarkTimestamp.isEmpty()) {
@@ -174,24 +303,12 @@ class JsonAdaptedPerson {
             modelTimestamp = Optional.of(LocalDateTime.parse(remarkTimestamp));
         }
 
-        modelRemark = new Remark(remark == null ? "" : remark, modelTimestamp);
-        final boolean modelIsHidden = isHidden;
-
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-
-        final Company modelCompany = company.isEmpty() ? new Company() : new Company(company);
-
-        final Job modelJob = job.isEmpty() ? new Job() : new Job(job);
-
-        final StockPlatform modelStockPlatform = stockPlatform.isEmpty()
-                ? new StockPlatform()
-                : new StockPlatform(stockPlatform);
-
-        final Networth modelNetworth = networth.isEmpty()
-                ? new Networth()
-                : new Networth(networth);
+        return new Remark(remark == null ? "" : remark, modelTimestamp);
+    }
 
-        return new Person(modelName, modelPhoneList, modelEmail, modelAddress, modelOrder, modelRemark, modelTags,
-                modelCompany, modelJob, modelStockPlatform, modelNetworth, isHidden);
+    private Networth toModelNetworth() {
+        return networth.isEmpty()
+                ? Networth.empty()
+                : Networth.of(networth);
     }
 }
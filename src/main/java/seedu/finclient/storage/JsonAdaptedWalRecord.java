@@ -0,0 +1,71 @@
+package seedu.finclient.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to a person list, as recorded in a write-ahead log.
+ * The change removes {@code remove} persons starting at position {@code at}, then inserts the {@code add} persons
+ * there. Any change to a list can be described this way.
+ */
+class JsonAdaptedWalRecord {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Write-ahead log record %d changes positions outside the list";
+
+    private final long seq;
+    private final int at;
+    private final int remove;
+    private final List<JsonAdaptedPerson> add = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedWalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedWalRecord(@JsonProperty("seq") long seq, @JsonProperty("at") int at,
+                                @JsonProperty("remove") int remove, @JsonProperty("add") List<JsonAdaptedPerson> add) {
+        this.seq = seq;
+        this.at = at;
+        this.remove = remove;
+        if (add != null) {
+            this.add.addAll(add);
+        }
+    }
+
+    /**
+     * Returns the record numbered {@code seq} that replaces {@code remove} persons at {@code at} with {@code added}.
+     */
+    public static JsonAdaptedWalRecord of(long seq, int at, int remove, List<Person> added) {
+        return new JsonAdaptedWalRecord(seq, at, remove, added.stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code persons}, or a person in it is invalid.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (at < 0 || remove < 0 || at > persons.size() - remove) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_RANGE, seq));
+        }
+        List<Person> added = new ArrayList<>();
+        for (JsonAdaptedPerson person : add) {
+            added.add(person.toModelType());
+        }
+        List<Person> changed = persons.subList(at, at + remove);
+        changed.clear();
+        changed.addAll(added);
+    }
+}
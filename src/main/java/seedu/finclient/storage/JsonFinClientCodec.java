@@ -0,0 +1,198 @@
+package seedu.finclient.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.OptionalLong;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.commons.util.JsonUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+
+/**
+ * Reads and writes FinClient data files in the format of {@link JsonSerializableFinClient}, one person at a time.
+ *
+ * Unlike reading or writing a {@code JsonSerializableFinClient}, neither the document text nor the full list of
+ * {@code JsonAdaptedPerson} is ever held in memory: persons are handed to a {@link PersonConverter} as the stream
+ * reaches them, and converted a chunk at a time while the stream is read further.
+ */
+class JsonFinClientCodec {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String WAL_EPOCH_FIELD = "walEpoch";
+    private static final String WAL_SEQUENCE_FIELD = "walSequence";
+
+    /**
+     * The contents of a data file.
+     */
+    static class Contents {
+        private final FinClient finClient;
+        private final OptionalLong walEpoch;
+        private final long walSequence;
+
+        /**
+         * Creates the contents of a data file that is not a snapshot of a write-ahead log.
+         */
+        Contents(FinClient finClient) {
+            this(finClient, OptionalLong.empty(), 0);
+        }
+
+        private Contents(FinClient finClient, OptionalLong walEpoch, long walSequence) {
+            this.finClient = finClient;
+            this.walEpoch = walEpoch;
+            this.walSequence = walSequence;
+        }
+
+        FinClient getFinClient() {
+            return finClient;
+        }
+
+        /**
+         * @see JsonSerializableFinClient#getWalEpoch()
+         */
+        OptionalLong getWalEpoch() {
+            return walEpoch;
+        }
+
+        /**
+         * @see JsonSerializableFinClient#getWalSequence()
+         */
+        long getWalSequence() {
+            return walSequence;
+        }
+    }
+
+    /**
+     * Reads the data file at {@code file}, decompressing it if it is compressed. Fields other than the persons and
+     * the write-ahead log position are ignored.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if a person is invalid, or the persons contain duplicates.
+     */
+    static Contents read(Path file) throws IOException, IllegalValueException {
+        try (InputStream in = FileUtil.openDecompressingInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a data file from {@code in}.
+     *
+     * @see #read(Path)
+     */
+    static Contents read(InputStream in) throws IOException, IllegalValueException {
+        PersonConverter converter = new PersonConverter();
+        OptionalLong walEpoch = OptionalLong.empty();
+        long walSequence = 0;
+
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                case PERSONS_FIELD:
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        converter.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    }
+                    break;
+                case WAL_EPOCH_FIELD:
+                    walEpoch = OptionalLong.of(parser.getValueAsLong());
+                    break;
+                case WAL_SEQUENCE_FIELD:
+                    walSequence = parser.getValueAsLong();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        return new Contents(converter.toFinClient(), walEpoch, walSequence);
+    }
+
+    /**
+     * Writes {@code source} to {@code file}, replacing the file atomically.
+     */
+    static void write(ReadOnlyFinClient source, Path file) throws IOException {
+        write(source, FileUtil.NO_COMPRESSION, file);
+    }
+
+    /**
+     * Writes {@code source} to {@code file} compressed at {@code compressionLevel}, replacing the file atomically.
+     *
+     * @see FileUtil#writeToFileAtomically(Path, int, FileUtil.ContentWriter)
+     */
+    static void write(ReadOnlyFinClient source, int compressionLevel, Path file) throws IOException {
+        write(source, OptionalLong.empty(), 0, compressionLevel, file);
+    }
+
+    /**
+     * Writes {@code source} to {@code file} as a snapshot that includes the first {@code walSequence} records of
+     * the write-ahead log of epoch {@code walEpoch}, replacing the file atomically.
+     */
+    static void write(ReadOnlyFinClient source, OptionalLong walEpoch, long walSequence, Path file)
+            throws IOException {
+        write(source, walEpoch, walSequence, FileUtil.NO_COMPRESSION, file);
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyFinClient, OptionalLong, long, Path)}, compressed at
+     * {@code compressionLevel}.
+     */
+    static void write(ReadOnlyFinClient source, OptionalLong walEpoch, long walSequence, int compressionLevel,
+            Path file) throws IOException {
+        Iterable<JsonAdaptedPerson> persons = () -> source.getPersonList().stream()
+                .map(JsonAdaptedPerson::new)
+                .iterator();
+        write(persons, walEpoch, walSequence, compressionLevel, file);
+    }
+
+    /**
+     * Writes the already converted {@code persons} to {@code file} compressed at {@code compressionLevel},
+     * replacing the file atomically.
+     *
+     * @see #write(ReadOnlyFinClient, OptionalLong, long, int, Path)
+     */
+    static void write(Iterable<JsonAdaptedPerson> persons, OptionalLong walEpoch, long walSequence,
+            int compressionLevel, Path file) throws IOException {
+        FileUtil.writeToFileAtomically(file, compressionLevel, out ->
+                write(persons.iterator(), walEpoch, walSequence, out));
+    }
+
+    private static void write(Iterator<JsonAdaptedPerson> persons, OptionalLong walEpoch, long walSequence,
+            OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            while (persons.hasNext()) {
+                generator.writeObject(persons.next());
+            }
+            generator.writeEndArray();
+            if (walEpoch.isPresent()) {
+                generator.writeNumberField(WAL_EPOCH_FIELD, walEpoch.getAsLong());
+                generator.writeNumberField(WAL_SEQUENCE_FIELD, walSequence);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
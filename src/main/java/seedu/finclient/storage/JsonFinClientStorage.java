@@ -1,8 +1,10 @@
 package seedu.finclient.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,26 +13,46 @@ import seedu.finclient.commons.core.LogsCenter;
 import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.commons.exceptions.IllegalValueException;
 import seedu.finclient.commons.util.FileUtil;
-import seedu.finclient.commons.util.JsonUtil;
 import seedu.finclient.model.ReadOnlyFinClient;
 
 /**
  * A class to access FinClient data stored as a json file on the hard disk.
+ * Files in any {@link DataFileFormat} are read, so a file saved in another format can still be loaded.
+ * The file can be saved compressed, and compressed files are read whatever the compression level set.
  */
 public class JsonFinClientStorage implements FinClientStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonFinClientStorage.class);
 
+    private final int compressionLevel;
     private Path filePath;
 
     public JsonFinClientStorage(Path filePath) {
+        this(filePath, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a storage that saves the data file compressed at {@code compressionLevel}.
+     *
+     * @see FileUtil#writeToFileAtomically(Path, int, FileUtil.ContentWriter)
+     */
+    public JsonFinClientStorage(Path filePath, int compressionLevel) {
+        checkArgument(FileUtil.isValidCompressionLevel(compressionLevel),
+                FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getFinClientFilePath() {
         return filePath;
     }
 
+    @Override
+    public void setFinClientFilePath(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
     @Override
     public Optional<ReadOnlyFinClient> readFinClient() throws DataLoadingException {
         return readFinClient(filePath);
@@ -45,14 +67,15 @@ public class JsonFinClientStorage implements FinClientStorage {
     public Optional<ReadOnlyFinClient> readFinClient(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFinClient> jsonFinClient = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFinClient.class);
-        if (!jsonFinClient.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonFinClient.get().toModelType());
+            return Optional.of(DataFileFormat.detect(filePath).read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +96,12 @@ public class JsonFinClientStorage implements FinClientStorage {
         requireNonNull(finclient);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFinClient(finclient), filePath);
+        JsonFinClientCodec.write(finclient, compressionLevel, filePath);
+    }
+
+    @Override
+    public void close() {
+        // every save is complete when it returns
     }
 
 }
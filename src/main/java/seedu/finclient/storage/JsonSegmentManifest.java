@@ -0,0 +1,58 @@
+package seedu.finclient.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a segmented data file: the segment files holding the persons, in
+ * order, and the number of persons in each.
+ */
+class JsonSegmentManifest {
+
+    /** The first field of a manifest, which no other data file starts with. */
+    public static final String SEGMENTS_FIELD = "segments";
+
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given segments.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty(SEGMENTS_FIELD) List<Segment> segments) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Jackson-friendly version of a segment file, named relative to the segment directory.
+     */
+    static class Segment {
+        private final String file;
+        private final int persons;
+
+        /**
+         * Constructs a {@code Segment} with the given details.
+         */
+        @JsonCreator
+        public Segment(@JsonProperty("file") String file, @JsonProperty("persons") int persons) {
+            this.file = file;
+            this.persons = persons;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public int getPersons() {
+            return persons;
+        }
+    }
+}
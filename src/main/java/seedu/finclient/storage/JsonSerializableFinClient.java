@@ -2,16 +2,17 @@ package seedu.finclient.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.finclient.commons.exceptions.IllegalValueException;
 import seedu.finclient.model.FinClient;
 import seedu.finclient.model.ReadOnlyFinClient;
-import seedu.finclient.model.person.Person;
 
 /**
  * An Immutable FinClient that is serializable to JSON format.
@@ -23,12 +24,29 @@ class JsonSerializableFinClient {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
+    /** The write-ahead log epoch and sequence number this snapshot is at, if it was written in that mode. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long walEpoch;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long walSequence;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
+    public JsonSerializableFinClient(List<JsonAdaptedPerson> persons) {
+        this(persons, null, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableFinClient} with the given persons and write-ahead log position.
+     */
     @JsonCreator
-    public JsonSerializableFinClient(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableFinClient(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                     @JsonProperty("walEpoch") Long walEpoch,
+                                     @JsonProperty("walSequence") Long walSequence) {
         this.persons.addAll(persons);
+        this.walEpoch = walEpoch;
+        this.walSequence = walSequence;
     }
 
     /**
@@ -38,6 +56,32 @@ class JsonSerializableFinClient {
      */
     public JsonSerializableFinClient(ReadOnlyFinClient source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        walEpoch = null;
+        walSequence = null;
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyFinClient} into this class for Jackson use, as a snapshot that includes the
+     * first {@code walSequence} records of the write-ahead log of epoch {@code walEpoch}.
+     */
+    public JsonSerializableFinClient(ReadOnlyFinClient source, long walEpoch, long walSequence) {
+        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this.walEpoch = walEpoch;
+        this.walSequence = walSequence;
+    }
+
+    /**
+     * Returns the epoch of the write-ahead log whose records apply on top of this snapshot, if there is one.
+     */
+    public OptionalLong getWalEpoch() {
+        return walEpoch == null ? OptionalLong.empty() : OptionalLong.of(walEpoch);
+    }
+
+    /**
+     * Returns the number of write-ahead log records already included in this snapshot.
+     */
+    public long getWalSequence() {
+        return walSequence == null ? 0 : walSequence;
     }
 
     /**
@@ -46,15 +90,9 @@ class JsonSerializableFinClient {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public FinClient toModelType() throws IllegalValueException {
-        FinClient finClient = new FinClient();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (finClient.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            finClient.addPerson(person);
-        }
-        return finClient;
+        PersonConverter converter = new PersonConverter();
+        persons.forEach(converter::add);
+        return converter.toFinClient();
     }
 
 }
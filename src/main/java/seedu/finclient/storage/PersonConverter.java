@@ -0,0 +1,168 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.storage.JsonSerializableFinClient.MESSAGE_DUPLICATE_PERSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Converts the persons read from a data file into a {@code FinClient}, validating them across the cores.
+ *
+ * Persons are added in file order and converted in chunks on the worker threads of an executor, so a reader can keep
+ * reading while earlier persons are converted. The result is the same as converting the persons one by one and
+ * rejecting a person that duplicates an earlier one: the error reported is the one a sequential conversion would
+ * have stopped at. Uniqueness is checked in a single pass once all persons are converted.
+ */
+class PersonConverter {
+
+    static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final Executor executor;
+    private final int chunkSize;
+    private final List<CompletableFuture<Chunk>> chunks = new ArrayList<>();
+    /** Index of the first chunk known to hold an invalid person; later chunks need not be converted. */
+    private final AtomicInteger firstFailedChunk = new AtomicInteger(Integer.MAX_VALUE);
+    private List<Convertible> pending = new ArrayList<>();
+
+    /**
+     * A person read from a data file, yet to be converted and validated.
+     */
+    @FunctionalInterface
+    interface Convertible {
+        /**
+         * @see JsonAdaptedPerson#toModelType()
+         */
+        Person toModelType() throws IllegalValueException;
+    }
+
+    /**
+     * Creates a converter that converts chunks of {@link #DEFAULT_CHUNK_SIZE} persons on the common pool.
+     */
+    PersonConverter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a converter that converts chunks of {@code chunkSize} persons on {@code executor}.
+     */
+    PersonConverter(Executor executor, int chunkSize) {
+        requireNonNull(executor);
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Adds {@code person}, the next person in the file, to be converted.
+     */
+    void add(JsonAdaptedPerson person) {
+        requireNonNull(person);
+        add(person::toModelType);
+    }
+
+    /**
+     * Adds {@code person}, the next person in the file, to be converted.
+     */
+    void add(Convertible person) {
+        requireNonNull(person);
+        pending.add(person);
+        if (pending.size() >= chunkSize) {
+            submitPending();
+        }
+    }
+
+    /**
+     * Waits for every added person to be converted and returns them as a {@code FinClient}, in the order they were
+     * added.
+     *
+     * @throws IllegalValueException if a person is invalid, or duplicates an earlier person.
+     */
+    FinClient toFinClient() throws IllegalValueException {
+        submitPending();
+        List<Person> persons = new ArrayList<>();
+        Exception error = null;
+        for (CompletableFuture<Chunk> future : chunks) {
+            Chunk chunk = join(future);
+            persons.addAll(chunk.persons);
+            if (chunk.error != null) {
+                error = chunk.error;
+                break;
+            }
+        }
+
+        // a duplicate among the persons before the first invalid one is the first error of a sequential conversion
+        FinClient finClient = new FinClient();
+        try {
+            finClient.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (error instanceof IllegalValueException) {
+            throw (IllegalValueException) error;
+        } else if (error != null) {
+            throw (RuntimeException) error;
+        }
+        return finClient;
+    }
+
+    private void submitPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Convertible> adapted = pending;
+        int index = chunks.size();
+        pending = new ArrayList<>(chunkSize);
+        chunks.add(CompletableFuture.supplyAsync(() -> convert(adapted, index), executor));
+    }
+
+    /**
+     * Converts the persons of chunk {@code index} up to the first invalid one.
+     */
+    private Chunk convert(List<Convertible> adapted, int index) {
+        List<Person> persons = new ArrayList<>(adapted.size());
+        if (index > firstFailedChunk.get()) {
+            return new Chunk(persons, null);
+        }
+        for (Convertible person : adapted) {
+            try {
+                persons.add(person.toModelType());
+            } catch (IllegalValueException | RuntimeException e) {
+                firstFailedChunk.accumulateAndGet(index, Math::min);
+                return new Chunk(persons, e);
+            }
+        }
+        return new Chunk(persons, null);
+    }
+
+    private static Chunk join(CompletableFuture<Chunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // the executor itself failed, as conversion errors are returned in the chunk
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * The converted persons of a chunk, and the error that stopped the conversion, if any.
+     */
+    private static class Chunk {
+        private final List<Person> persons;
+        private final Exception error;
+
+        Chunk(List<Person> persons, Exception error) {
+            this.persons = persons;
+            this.error = error;
+        }
+    }
+}
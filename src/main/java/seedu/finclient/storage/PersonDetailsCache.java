@@ -0,0 +1,60 @@
+package seedu.finclient.storage;
+
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import seedu.finclient.model.person.PersonDetails;
+
+/**
+ * A least-recently-used cache of the person details decoded from a data file, holding at most a fixed number of
+ * them. Evicted details are decoded again when next read, so the memory held by decoded details stays bounded however
+ * many persons are read. Safe for use by multiple threads.
+ */
+class PersonDetailsCache {
+
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    private final Map<Object, PersonDetails> entries;
+
+    /**
+     * Creates an empty cache holding the details of at most {@code capacity} persons.
+     */
+    PersonDetailsCache(int capacity) {
+        checkArgument(capacity > 0, "Person details cache capacity must be positive");
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, PersonDetails> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the details cached for {@code key}, marking them as the most recently used, or decodes them with
+     * {@code decoder} and caches them if they are not cached.
+     * Decoding runs outside the lock of the cache, so threads reading other details do not wait for it. Threads that
+     * miss the same key at once may each decode it, and the details cached first are kept.
+     */
+    PersonDetails get(Object key, Supplier<PersonDetails> decoder) {
+        requireAllNonNull(key, decoder);
+        synchronized (this) {
+            PersonDetails cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        PersonDetails decoded = decoder.get();
+        synchronized (this) {
+            PersonDetails cached = entries.putIfAbsent(key, decoded);
+            return cached != null ? cached : decoded;
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
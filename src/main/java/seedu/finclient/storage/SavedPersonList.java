@@ -0,0 +1,63 @@
+package seedu.finclient.storage;
+
+import java.util.List;
+
+import seedu.finclient.model.person.Person;
+
+/**
+ * The persons of a saved list in order.
+ * Storages that save only the change since the last save compare the list they last saved with the current one.
+ * Persons are immutable, hiding and revealing included, so a person that is still the same instance is unchanged.
+ */
+class SavedPersonList {
+    private final Person[] persons;
+
+    private SavedPersonList(Person[] persons) {
+        this.persons = persons;
+    }
+
+    static SavedPersonList of(List<Person> persons) {
+        return new SavedPersonList(persons.toArray(new Person[0]));
+    }
+
+    int size() {
+        return persons.length;
+    }
+
+    /**
+     * Returns the persons from position {@code from} to {@code to}, exclusive.
+     */
+    List<Person> subList(int from, int to) {
+        return List.of(persons).subList(from, to);
+    }
+
+    /**
+     * Returns the length of the longest common prefix of this list and {@code other}.
+     */
+    int commonPrefixLength(SavedPersonList other) {
+        int prefix = 0;
+        while (prefix < Math.min(persons.length, other.persons.length) && isSame(prefix, other, prefix)) {
+            prefix++;
+        }
+        return prefix;
+    }
+
+    /**
+     * Returns the length of the longest common suffix of this list and {@code other} that does not overlap their
+     * common prefix of length {@code prefix}.
+     */
+    int commonSuffixLength(SavedPersonList other, int prefix) {
+        int length = persons.length;
+        int otherLength = other.persons.length;
+        int suffix = 0;
+        while (suffix < Math.min(length, otherLength) - prefix
+                && isSame(length - 1 - suffix, other, otherLength - 1 - suffix)) {
+            suffix++;
+        }
+        return suffix;
+    }
+
+    private boolean isSame(int index, SavedPersonList other, int otherIndex) {
+        return persons[index] == other.persons[otherIndex];
+    }
+}
@@ -0,0 +1,418 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.finclient.storage.JsonSerializableFinClient.MESSAGE_DUPLICATE_PERSON;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.commons.util.JsonUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access FinClient data stored as json segment files of at most a fixed number of persons each, listed
+ * in order by a manifest at the data file path. The segment files are kept in a directory alongside the manifest.
+ *
+ * Saving rewrites only the segments holding the change since the last save, so an edit or an order change rewrites
+ * a single segment however large the list is. Changed persons are always written to new segment files, and the
+ * manifest is replaced atomically once they are on the disk, so the data file holds either the old or the new list
+ * even if the program crashes part way. The segment files the manifest no longer lists are deleted afterwards.
+ * Reading loads the segments in parallel.
+ */
+public class SegmentedFinClientStorage implements FinClientStorage {
+
+    public static final String SEGMENT_DIRECTORY_SUFFIX = ".segments";
+    public static final int DEFAULT_SEGMENT_SIZE = 1000;
+    public static final String MESSAGE_SEGMENT_SIZE_MISMATCH =
+            "Segment %s holds %d persons, not the %d in the manifest";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedFinClientStorage.class);
+    private static final SecureRandom SEGMENT_NAME_SOURCE = new SecureRandom();
+
+    private final int segmentSize;
+    private final int compressionLevel;
+    // Read and set without locking the storage, so that callers never wait for a save to learn the file in use.
+    private volatile Path filePath;
+
+    // What is on the disk for the data file at savedFilePath, which follows filePath on the next read or save;
+    // null until the file has been read or written in segments.
+    private Path savedFilePath;
+    private SavedPersonList saved;
+    private List<JsonSegmentManifest.Segment> segments;
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, with its segments alongside it.
+     */
+    public SegmentedFinClientStorage(Path filePath) {
+        this(filePath, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a storage whose segments are written compressed at {@code compressionLevel}.
+     * The manifest itself is never compressed.
+     */
+    public SegmentedFinClientStorage(Path filePath, int compressionLevel) {
+        this(filePath, DEFAULT_SEGMENT_SIZE, compressionLevel);
+    }
+
+    /**
+     * Creates a storage whose segments hold at most {@code segmentSize} persons each.
+     */
+    SegmentedFinClientStorage(Path filePath, int segmentSize, int compressionLevel) {
+        requireNonNull(filePath);
+        checkArgument(segmentSize > 0, "Segment size must be positive");
+        checkArgument(FileUtil.isValidCompressionLevel(compressionLevel),
+                FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.filePath = filePath;
+        this.savedFilePath = filePath;
+        this.segmentSize = segmentSize;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns the directory of the segment files of the data file at {@code filePath}.
+     */
+    public static Path segmentDirectoryOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getFinClientFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Sets the data file in use. What is known of the previous file is forgotten by the next read or save.
+     */
+    @Override
+    public void setFinClientFilePath(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFinClient> readFinClient() throws DataLoadingException {
+        return readFinClient(getFinClientFilePath());
+    }
+
+    /**
+     * Similar to {@link #readFinClient()}.
+     * A data file saved in another format is read as it is, and saved in segments from the next save on.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyFinClient> readFinClient(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isInUse = filePath.equals(followFilePath());
+        if (isInUse) {
+            forgetSaved();
+        }
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            Optional<JsonSegmentManifest> manifest = readManifest(filePath);
+            if (manifest.isEmpty()) {
+                return Optional.of(DataFileFormat.detect(filePath).read(filePath));
+            }
+            List<JsonSegmentManifest.Segment> listed = manifest.get().getSegments();
+            FinClient finClient = readSegments(segmentDirectoryOf(filePath), listed);
+            if (isInUse) {
+                saved = SavedPersonList.of(finClient.getPersonList());
+                segments = new ArrayList<>(listed);
+            }
+            return Optional.of(finClient);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveFinClient(ReadOnlyFinClient finClient) throws IOException {
+        saveFinClient(finClient, getFinClientFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveFinClient(ReadOnlyFinClient)}.
+     * Only the segments of the data file in use are rewritten selectively; any other data file is written whole.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+        requireAllNonNull(finClient, filePath);
+        SavedPersonList current = SavedPersonList.of(finClient.getPersonList());
+
+        if (!filePath.equals(followFilePath())) {
+            writeAll(current, filePath);
+            return;
+        }
+        if (saved == null) {
+            segments = writeAll(current, filePath);
+            saved = current;
+            return;
+        }
+        writeChanges(current);
+    }
+
+    @Override
+    public void close() {
+        // every save is complete when it returns
+    }
+
+    /**
+     * Writes {@code persons} to new segments of the data file at {@code filePath} and a manifest listing only them,
+     * then deletes every other file in the segment directory.
+     */
+    private List<JsonSegmentManifest.Segment> writeAll(SavedPersonList persons, Path filePath) throws IOException {
+        Path directory = segmentDirectoryOf(filePath);
+        List<JsonSegmentManifest.Segment> written = writeSegments(directory, persons, 0, persons.size());
+        writeManifest(filePath, written);
+        deleteUnlisted(directory, written);
+        return written;
+    }
+
+    /**
+     * Rewrites the segments of the data file in use that hold the persons between the longest common prefix and
+     * suffix of the saved list and {@code current}, then the manifest.
+     */
+    private void writeChanges(SavedPersonList current) throws IOException {
+        int prefix = saved.commonPrefixLength(current);
+        if (prefix == saved.size() && prefix == current.size()) {
+            return;
+        }
+        int changedEnd = saved.size() - saved.commonSuffixLength(current, prefix);
+
+        // segments first to end, exclusive, hold the changed persons, or the position persons are inserted at
+        int first = 0;
+        int start = 0;
+        while (first < segments.size() - 1 && start + segments.get(first).getPersons() <= prefix) {
+            start += segments.get(first).getPersons();
+            first++;
+        }
+        int end = first;
+        int savedEnd = start;
+        while (end < segments.size() && (end == first || savedEnd < changedEnd)) {
+            savedEnd += segments.get(end).getPersons();
+            end++;
+        }
+        int currentEnd = savedEnd + current.size() - saved.size();
+
+        Path directory = segmentDirectoryOf(savedFilePath);
+        List<JsonSegmentManifest.Segment> replaced = segments.subList(first, end);
+        List<JsonSegmentManifest.Segment> updated = new ArrayList<>(segments.subList(0, first));
+        updated.addAll(writeSegments(directory, current, start, currentEnd));
+        updated.addAll(segments.subList(end, segments.size()));
+        writeManifest(savedFilePath, updated);
+        deleteSegments(directory, replaced);
+        segments = updated;
+        saved = current;
+    }
+
+    /**
+     * Writes the persons of {@code persons} from position {@code from} to {@code to}, exclusive, to new segment files
+     * in {@code directory}, returning the segments written.
+     */
+    private List<JsonSegmentManifest.Segment> writeSegments(Path directory, SavedPersonList persons, int from,
+            int to) throws IOException {
+        List<JsonSegmentManifest.Segment> written = new ArrayList<>();
+        for (int start = from; start < to; start += segmentSize) {
+            List<Person> segment = persons.subList(start, Math.min(start + segmentSize, to));
+            Path file = newSegmentFile(directory);
+            Iterable<JsonAdaptedPerson> adapted = () -> segment.stream().map(JsonAdaptedPerson::new).iterator();
+            JsonFinClientCodec.write(adapted, OptionalLong.empty(), 0, compressionLevel, file);
+            written.add(new JsonSegmentManifest.Segment(file.getFileName().toString(), segment.size()));
+        }
+        return written;
+    }
+
+    private Path newSegmentFile(Path directory) {
+        String extension = DataFileFormat.JSON.getFileExtension()
+                + (compressionLevel == FileUtil.NO_COMPRESSION ? "" : DataFileFormat.COMPRESSED_FILE_SUFFIX);
+        Path file;
+        do {
+            file = directory.resolve(String.format("%016x", SEGMENT_NAME_SOURCE.nextLong()) + extension);
+        } while (Files.exists(file));
+        return file;
+    }
+
+    private static void writeManifest(Path filePath, List<JsonSegmentManifest.Segment> segments)
+            throws IOException {
+        FileUtil.writeToFileAtomically(filePath, JsonUtil.toJsonString(new JsonSegmentManifest(segments)));
+    }
+
+    /**
+     * Returns the manifest at {@code filePath}, or {@code Optional.empty()} if the file is a data file of another
+     * format.
+     */
+    private static Optional<JsonSegmentManifest> readManifest(Path filePath) throws IOException {
+        if (DataFileFormat.detect(filePath) != DataFileFormat.JSON) {
+            return Optional.empty();
+        }
+        try (InputStream in = FileUtil.openDecompressingInputStream(filePath);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME
+                    || !JsonSegmentManifest.SEGMENTS_FIELD.equals(parser.getCurrentName())) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonSegmentManifest.class));
+    }
+
+    /**
+     * Reads the {@code segments} in {@code directory} in parallel and returns their persons in order.
+     *
+     * @throws IllegalValueException if a segment does not hold the persons the manifest lists, a person is invalid,
+     *     or the persons contain duplicates.
+     */
+    private static FinClient readSegments(Path directory, List<JsonSegmentManifest.Segment> segments)
+            throws IOException, IllegalValueException {
+        int threads = Math.max(1, Math.min(segments.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "segment-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Person> persons = new ArrayList<>();
+        try {
+            List<Future<List<Person>>> reads = new ArrayList<>();
+            for (JsonSegmentManifest.Segment segment : segments) {
+                reads.add(executor.submit(() -> readSegment(directory, segment)));
+            }
+            for (Future<List<Person>> read : reads) {
+                persons.addAll(join(read));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        FinClient finClient = new FinClient();
+        try {
+            finClient.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        return finClient;
+    }
+
+    private static List<Person> readSegment(Path directory, JsonSegmentManifest.Segment segment)
+            throws IOException, IllegalValueException {
+        List<Person> persons = JsonFinClientCodec.read(directory.resolve(segment.getFile()))
+                .getFinClient().getPersonList();
+        if (persons.size() != segment.getPersons()) {
+            throw new IllegalValueException(String.format(MESSAGE_SEGMENT_SIZE_MISMATCH, segment.getFile(),
+                    persons.size(), segment.getPersons()));
+        }
+        return persons;
+    }
+
+    private static List<Person> join(Future<List<Person>> read) throws IOException, IllegalValueException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading segments", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Deletes the {@code segments} in {@code directory}, which the manifest no longer lists.
+     */
+    private static void deleteSegments(Path directory, List<JsonSegmentManifest.Segment> segments) {
+        for (JsonSegmentManifest.Segment segment : segments) {
+            deleteUnlisted(directory.resolve(segment.getFile()));
+        }
+    }
+
+    /**
+     * Deletes the files in {@code directory} other than the {@code listed} segments, such as the segments of an
+     * earlier save or of a save that did not complete.
+     */
+    private static void deleteUnlisted(Path directory, List<JsonSegmentManifest.Segment> listed) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Set<String> kept = listed.stream().map(JsonSegmentManifest.Segment::getFile).collect(Collectors.toSet());
+        List<Path> unlisted;
+        try (Stream<Path> files = Files.list(directory)) {
+            unlisted = files.filter(file -> !kept.contains(file.getFileName().toString())).toList();
+        } catch (IOException e) {
+            logger.warning("Could not list the segments in " + directory + ": " + e.getMessage());
+            return;
+        }
+        unlisted.forEach(SegmentedFinClientStorage::deleteUnlisted);
+    }
+
+    /**
+     * Deletes {@code file}, which the manifest does not list.
+     * A file that cannot be deleted is only logged, as the save itself is complete.
+     */
+    private static void deleteUnlisted(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Could not delete the unlisted segment " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Forgets what is saved of the previous data file if another one has been set since, and returns the data file
+     * in use.
+     */
+    private Path followFilePath() {
+        Path fileInUse = filePath;
+        if (!fileInUse.equals(savedFilePath)) {
+            forgetSaved();
+            savedFilePath = fileInUse;
+        }
+        return fileInUse;
+    }
+
+    private void forgetSaved() {
+        saved = null;
+        segments = null;
+    }
+}
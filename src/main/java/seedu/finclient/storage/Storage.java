@@ -8,11 +8,12 @@ import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
 import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.book.BookLoader;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends FinClientStorage, UserPrefsStorage {
+public interface Storage extends FinClientStorage, UserPrefsStorage, BookLoader {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
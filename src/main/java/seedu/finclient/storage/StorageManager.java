@@ -1,15 +1,19 @@
 package seedu.finclient.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import seedu.finclient.commons.core.LogsCenter;
 import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
 import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.book.BookShelf;
 
 /**
  * Manages storage of FinClient data in local storage.
@@ -53,6 +57,11 @@ public class StorageManager implements Storage {
         return finClientStorage.getFinClientFilePath();
     }
 
+    @Override
+    public void setFinClientFilePath(Path filePath) {
+        finClientStorage.setFinClientFilePath(filePath);
+    }
+
     @Override
     public Optional<ReadOnlyFinClient> readFinClient() throws DataLoadingException {
         return readFinClient(finClientStorage.getFinClientFilePath());
@@ -75,4 +84,37 @@ public class StorageManager implements Storage {
         finClientStorage.saveFinClient(finClient, filePath);
     }
 
+    @Override
+    public void close() throws IOException {
+        finClientStorage.close();
+    }
+
+    // ================ Client book methods ==============================
+
+    @Override
+    public Optional<ReadOnlyFinClient> loadBook(Path filePath) throws DataLoadingException {
+        return readFinClient(filePath);
+    }
+
+    @Override
+    public List<Path> listBooks(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(BookShelf.BOOK_FILE_EXTENSION))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    @Override
+    public void exportBook(ReadOnlyFinClient book, Path filePath) throws IOException {
+        DataFileFormat format = DataFileFormat.fromFileName(filePath)
+                .orElseThrow(() -> new IOException(DataFileFormat.MESSAGE_CONSTRAINTS));
+        logger.fine("Attempting to export data to file: " + filePath);
+        format.write(book, filePath);
+    }
+
 }
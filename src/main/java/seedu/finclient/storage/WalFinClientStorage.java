@@ -0,0 +1,373 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.commons.util.JsonUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access FinClient data stored as a json snapshot and a write-ahead log on the hard disk.
+ *
+ * Saving appends only the change since the last save to the log, as a single record, instead of rewriting the
+ * whole file, and returns once the record is forced to the disk. The storage is not locked while the log is forced,
+ * so the records of saves made meanwhile are committed together by the next force.
+ * Once the log grows larger than the snapshot, a background thread folds it into a new snapshot.
+ * Reading loads the snapshot and replays the records of the log that the snapshot does not include yet.
+ *
+ * The snapshot is an ordinary data file that also records the epoch of its log and the number of records it
+ * includes, so a log is never replayed onto a snapshot it was not written for, and no record is applied twice.
+ */
+public class WalFinClientStorage implements FinClientStorage {
+
+    public static final String LOG_FILE_SUFFIX = ".wal";
+    public static final long DEFAULT_MIN_COMPACTION_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(WalFinClientStorage.class);
+    private static final SecureRandom EPOCH_SOURCE = new SecureRandom();
+
+    private final ExecutorService executor;
+    private final long minCompactionBytes;
+    private final int compressionLevel;
+    // Read and set without locking the storage, so that callers never wait for a save to learn the file in use.
+    private volatile Path filePath;
+
+    // What is on the disk for the data file at logFilePath, which follows filePath on the next read or save;
+    // log is null until the file has been read or written.
+    private Path logFilePath;
+    private WriteAheadLog log;
+    private long sequence;
+    private SavedPersonList saved;
+    private volatile long compactionThreshold;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, with its log alongside it.
+     */
+    public WalFinClientStorage(Path filePath) {
+        this(filePath, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a storage whose snapshots are written compressed at {@code compressionLevel}.
+     * The log itself is never compressed, as records are appended to it one at a time.
+     */
+    public WalFinClientStorage(Path filePath, int compressionLevel) {
+        this(filePath, DEFAULT_MIN_COMPACTION_BYTES, compressionLevel);
+    }
+
+    /**
+     * Creates a storage that compacts the log once it exceeds both {@code minCompactionBytes} and the size of the
+     * snapshot, with snapshots compressed at {@code compressionLevel}.
+     */
+    WalFinClientStorage(Path filePath, long minCompactionBytes, int compressionLevel) {
+        requireNonNull(filePath);
+        checkArgument(FileUtil.isValidCompressionLevel(compressionLevel),
+                FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.filePath = filePath;
+        this.logFilePath = filePath;
+        this.minCompactionBytes = minCompactionBytes;
+        this.compressionLevel = compressionLevel;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-ahead-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the file of the write-ahead log of the data file at {@code filePath}.
+     */
+    public static Path logFileOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getFinClientFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Sets the data file in use. The log of the previous file is closed by the next read or save.
+     */
+    @Override
+    public void setFinClientFilePath(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFinClient> readFinClient() throws DataLoadingException {
+        return readFinClient(getFinClientFilePath());
+    }
+
+    /**
+     * Similar to {@link #readFinClient()}.
+     * Reading the data file in use also prepares its log for appending.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyFinClient> readFinClient(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path fileInUse = followFilePath();
+
+        if (!Files.exists(filePath)) {
+            if (filePath.equals(fileInUse)) {
+                closeLog();
+            }
+            return Optional.empty();
+        }
+
+        JsonFinClientCodec.Contents snapshot;
+        Optional<WriteAheadLog.Contents> contents;
+        try {
+            // a snapshot saved in another format has no log yet, so it is taken as it is
+            DataFileFormat format = DataFileFormat.detect(filePath);
+            snapshot = format == DataFileFormat.JSON
+                    ? JsonFinClientCodec.read(filePath)
+                    : new JsonFinClientCodec.Contents(format.read(filePath));
+            contents = WriteAheadLog.read(logFileOf(filePath));
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Could not read " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        boolean isLogForSnapshot = contents.isPresent()
+                && snapshot.getWalEpoch().equals(OptionalLong.of(contents.get().getEpoch()));
+
+        FinClient finClient = new FinClient();
+        long replayedSequence = snapshot.getWalSequence();
+        long validEnd = isLogForSnapshot ? contents.get().getHeaderEnd() : 0;
+        try {
+            List<Person> persons = new ArrayList<>(snapshot.getFinClient().getPersonList());
+            if (isLogForSnapshot) {
+                for (WriteAheadLog.Entry entry : contents.get().getEntries()) {
+                    JsonAdaptedWalRecord record = JsonUtil.fromJsonString(entry.getRecord(),
+                            JsonAdaptedWalRecord.class);
+                    if (record.getSeq() > replayedSequence + 1) {
+                        logger.warning("Write-ahead log of " + filePath + " skips record " + (replayedSequence + 1)
+                                + ", ignoring the records from there on");
+                        break;
+                    }
+                    if (record.getSeq() == replayedSequence + 1) {
+                        record.applyTo(persons);
+                        replayedSequence++;
+                    }
+                    validEnd = entry.getEnd();
+                }
+            }
+            finClient.setPersons(persons);
+        } catch (IOException | IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        if (filePath.equals(fileInUse)) {
+            closeLog();
+            if (isLogForSnapshot) {
+                openLog(contents.get().getEpoch(), validEnd, replayedSequence, finClient);
+            }
+        }
+        return Optional.of(finClient);
+    }
+
+    @Override
+    public void saveFinClient(ReadOnlyFinClient finClient) throws IOException {
+        saveFinClient(finClient, getFinClientFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveFinClient(ReadOnlyFinClient)}.
+     * Only the data file in use is saved through its log; any other data file is saved as a new snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if the data could not be written, or its record could not be forced to the disk.
+     */
+    @Override
+    public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+        requireAllNonNull(finClient, filePath);
+        WriteAheadLog appendedLog;
+        long appendedRecords;
+        synchronized (this) {
+            if (!filePath.equals(followFilePath())) {
+                writeSnapshot(finClient, filePath, newEpoch(), 0);
+                Files.deleteIfExists(logFileOf(filePath));
+                return;
+            }
+            if (log == null) {
+                startEpoch(finClient);
+                return;
+            }
+            appendedLog = log;
+            appendedRecords = appendChanges(finClient);
+        }
+        // even without changes, waits for the records of earlier saves, whose force may have failed
+        appendedLog.sync(appendedRecords);
+    }
+
+    /**
+     * Waits for the background work to finish, forces the log to the disk and stops the background thread.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        awaitCompaction();
+        executor.shutdownNow();
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    /**
+     * Appends the changes of {@code finClient} since the last save to the log, if any, and returns the number of
+     * records appended to the log so far.
+     */
+    private long appendChanges(ReadOnlyFinClient finClient) throws IOException {
+        SavedPersonList current = SavedPersonList.of(finClient.getPersonList());
+        Optional<JsonAdaptedWalRecord> record = changes(saved, current, sequence + 1);
+        if (record.isEmpty()) {
+            return log.getAppendedRecords();
+        }
+        long appendedRecords = log.append(JsonUtil.toCompactJsonString(record.get()));
+        sequence++;
+        saved = current;
+        if (log.size() > compactionThreshold && compaction.isDone()) {
+            startCompaction(finClient);
+        }
+        return appendedRecords;
+    }
+
+    /**
+     * Starts a new epoch for the data file in use, writing {@code finClient} as its snapshot and an empty log.
+     */
+    private void startEpoch(ReadOnlyFinClient finClient) throws IOException {
+        awaitCompaction();
+        long epoch = newEpoch();
+        long snapshotSize = writeSnapshot(finClient, logFilePath, epoch, 0);
+        log = WriteAheadLog.create(logFileOf(logFilePath), epoch);
+        sequence = 0;
+        saved = SavedPersonList.of(finClient.getPersonList());
+        compactionThreshold = Math.max(minCompactionBytes, snapshotSize);
+    }
+
+    private void openLog(long epoch, long validEnd, long sequence, ReadOnlyFinClient finClient)
+            throws DataLoadingException {
+        try {
+            log = WriteAheadLog.open(logFileOf(logFilePath), epoch, validEnd);
+            compactionThreshold = Math.max(minCompactionBytes, Files.size(logFilePath));
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        this.sequence = sequence;
+        saved = SavedPersonList.of(finClient.getPersonList());
+    }
+
+    /**
+     * Writes a snapshot of {@code finClient} including the records so far in the background, then drops those
+     * records from the log. Records appended in the meantime are kept.
+     * The snapshot is converted on the calling thread, as {@code finClient} may change once this returns.
+     */
+    private void startCompaction(ReadOnlyFinClient finClient) {
+        List<JsonAdaptedPerson> persons = finClient.getPersonList().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+        WriteAheadLog compactedLog = log;
+        OptionalLong epoch = OptionalLong.of(compactedLog.getEpoch());
+        long compactedSequence = sequence;
+        long compactedSize = compactedLog.size();
+        Path snapshotFile = logFilePath;
+        compaction = executor.submit(() -> {
+            try {
+                JsonFinClientCodec.write(persons, epoch, compactedSequence, compressionLevel, snapshotFile);
+                compactedLog.truncateBefore(compactedSize);
+                compactionThreshold = Math.max(minCompactionBytes, Files.size(snapshotFile));
+                logger.fine("Compacted the write-ahead log of " + snapshotFile);
+            } catch (IOException e) {
+                logger.warning("Could not compact the write-ahead log of " + snapshotFile + ": " + e.getMessage());
+            }
+        });
+    }
+
+    private void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Write-ahead log compaction failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Closes the log of the previous data file if another one has been set since, and returns the data file in use.
+     */
+    private Path followFilePath() {
+        Path fileInUse = filePath;
+        if (!fileInUse.equals(logFilePath)) {
+            closeLog();
+            logFilePath = fileInUse;
+        }
+        return fileInUse;
+    }
+
+    private void closeLog() {
+        awaitCompaction();
+        if (log != null) {
+            try {
+                log.close();
+            } catch (IOException e) {
+                logger.warning("Could not close the write-ahead log of " + logFilePath + ": " + e.getMessage());
+            }
+        }
+        log = null;
+        saved = null;
+    }
+
+    private long writeSnapshot(ReadOnlyFinClient finClient, Path filePath, long epoch, long sequence)
+            throws IOException {
+        JsonFinClientCodec.write(finClient, OptionalLong.of(epoch), sequence, compressionLevel, filePath);
+        return Files.size(filePath);
+    }
+
+    private static long newEpoch() {
+        return EPOCH_SOURCE.nextLong() & Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the record numbered {@code seq} that turns {@code saved} into {@code current}, replacing the persons
+     * between their longest common prefix and suffix, or {@code Optional.empty()} if the lists are the same.
+     */
+    private static Optional<JsonAdaptedWalRecord> changes(SavedPersonList saved, SavedPersonList current, long seq) {
+        int prefix = saved.commonPrefixLength(current);
+        if (prefix == saved.size() && prefix == current.size()) {
+            return Optional.empty();
+        }
+        int suffix = saved.commonSuffixLength(current, prefix);
+        List<Person> added = current.subList(prefix, current.size() - suffix);
+        return Optional.of(JsonAdaptedWalRecord.of(seq, prefix, saved.size() - prefix - suffix, added));
+    }
+}
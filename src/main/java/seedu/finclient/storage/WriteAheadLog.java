@@ -0,0 +1,294 @@
+package seedu.finclient.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import seedu.finclient.commons.util.FileUtil;
+
+/**
+ * An append-only file of text records, each on its own line behind a CRC-32 checksum of the record.
+ * The first line names the epoch of the snapshot that the records apply on top of.
+ *
+ * Records are written to the file as soon as they are appended, but only forced to the disk by {@link #sync(long)},
+ * which appending continues during, so that one force commits every record appended since the last one. A crash can
+ * leave the last line partly written; reading stops at the first line that is incomplete or fails its checksum.
+ */
+class WriteAheadLog {
+
+    private static final String HEADER_PREFIX = "finclient-wal ";
+    private static final char SEPARATOR = ' ';
+    private static final byte NEWLINE = '\n';
+
+    private final Path file;
+    private final long epoch;
+    // Held while forcing the log, which does not lock the log itself so that records can be appended meanwhile.
+    private final Object syncLock = new Object();
+    private FileChannel channel;
+    private long size;
+    private long appendedRecords;
+    private long syncedRecords;
+
+    private WriteAheadLog(Path file, long epoch, FileChannel channel) throws IOException {
+        this.file = file;
+        this.epoch = epoch;
+        this.channel = channel;
+        this.size = channel.size();
+    }
+
+    /**
+     * A record read from a log, with the position in the file just after it.
+     */
+    static class Entry {
+        private final String record;
+        private final long end;
+
+        private Entry(String record, long end) {
+            this.record = record;
+            this.end = end;
+        }
+
+        String getRecord() {
+            return record;
+        }
+
+        long getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * The undamaged part of a log file.
+     */
+    static class Contents {
+        private final long epoch;
+        private final long headerEnd;
+        private final List<Entry> entries;
+
+        private Contents(long epoch, long headerEnd, List<Entry> entries) {
+            this.epoch = epoch;
+            this.headerEnd = headerEnd;
+            this.entries = entries;
+        }
+
+        long getEpoch() {
+            return epoch;
+        }
+
+        /**
+         * Returns the position in the file just after the header, before any record.
+         */
+        long getHeaderEnd() {
+            return headerEnd;
+        }
+
+        List<Entry> getEntries() {
+            return entries;
+        }
+    }
+
+    /**
+     * Reads the log at {@code file} up to its first damaged line.
+     * Returns {@code Optional.empty()} if there is no log, or its header is damaged.
+     */
+    static Optional<Contents> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int headerEnd = indexOf(bytes, NEWLINE, 0);
+        if (headerEnd < 0) {
+            return Optional.empty();
+        }
+        String header = new String(bytes, 0, headerEnd, StandardCharsets.UTF_8);
+        if (!header.startsWith(HEADER_PREFIX)) {
+            return Optional.empty();
+        }
+        long epoch;
+        try {
+            epoch = Long.parseLong(header.substring(HEADER_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        int start = headerEnd + 1;
+        for (int end = indexOf(bytes, NEWLINE, start); end >= 0; end = indexOf(bytes, NEWLINE, start)) {
+            Optional<String> record = parseLine(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+            if (record.isEmpty()) {
+                break;
+            }
+            entries.add(new Entry(record.get(), end + 1));
+            start = end + 1;
+        }
+        return Optional.of(new Contents(epoch, headerEnd + 1, entries));
+    }
+
+    /**
+     * Opens the log at {@code file} for appending, dropping everything after position {@code validEnd}.
+     */
+    static WriteAheadLog open(Path file, long epoch, long validEnd) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(validEnd);
+        channel.force(true);
+        channel.position(validEnd);
+        return new WriteAheadLog(file, epoch, channel);
+    }
+
+    /**
+     * Creates an empty log of epoch {@code epoch} at {@code file}, replacing any log there.
+     */
+    static WriteAheadLog create(Path file, long epoch) throws IOException {
+        FileUtil.writeToFileAtomically(file, headerOf(epoch));
+        return open(file, epoch, headerOf(epoch).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Returns the length of the log file, including records not yet forced to the disk.
+     */
+    synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of records appended since the log was opened.
+     */
+    synchronized long getAppendedRecords() {
+        return appendedRecords;
+    }
+
+    /**
+     * Returns the number of records appended since the log was opened that are known to be on the disk.
+     */
+    synchronized long getSyncedRecords() {
+        return syncedRecords;
+    }
+
+    /**
+     * Appends {@code record}, which must not contain line breaks, to the log, and returns the number of records
+     * appended so far, which {@link #sync(long)} takes to commit it.
+     */
+    synchronized long append(String record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(lineOf(record).getBytes(StandardCharsets.UTF_8));
+        size += buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return ++appendedRecords;
+    }
+
+    /**
+     * Forces the first {@code records} records appended to the disk, returning at once if they already are.
+     * Callers that wait while another one forces the log are covered together by the next force, which commits
+     * every record appended until it starts.
+     */
+    void sync(long records) throws IOException {
+        synchronized (syncLock) {
+            FileChannel forcedChannel;
+            long forcedRecords;
+            synchronized (this) {
+                if (syncedRecords >= records) {
+                    return;
+                }
+                forcedChannel = channel;
+                forcedRecords = appendedRecords;
+            }
+            try {
+                forcedChannel.force(false);
+            } catch (ClosedChannelException e) {
+                // the log was rewritten or closed meanwhile, either of which forces its records to the disk
+                if (getSyncedRecords() >= records) {
+                    return;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                syncedRecords = Math.max(syncedRecords, forcedRecords);
+            }
+        }
+    }
+
+    /**
+     * Drops the records before position {@code keepFrom}, which a snapshot now includes, by rewriting the log with
+     * only the records from there on.
+     */
+    synchronized void truncateBefore(long keepFrom) throws IOException {
+        ByteBuffer tail = ByteBuffer.allocate(Math.toIntExact(size - keepFrom));
+        while (tail.hasRemaining() && channel.read(tail, keepFrom + tail.position()) >= 0) {
+            // keeps reading until the tail is full
+        }
+        String contents = headerOf(epoch) + new String(tail.array(), StandardCharsets.UTF_8);
+        channel.close();
+        FileUtil.writeToFileAtomically(file, contents);
+        syncedRecords = appendedRecords;
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        size = channel.size();
+        channel.position(size);
+    }
+
+    /**
+     * Forces any unsynced records to the disk and closes the log.
+     */
+    synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            if (syncedRecords < appendedRecords) {
+                channel.force(false);
+                syncedRecords = appendedRecords;
+            }
+            channel.close();
+        }
+    }
+
+    private static String headerOf(long epoch) {
+        return HEADER_PREFIX + epoch + (char) NEWLINE;
+    }
+
+    private static String lineOf(String record) {
+        return Long.toHexString(checksumOf(record)) + SEPARATOR + record + (char) NEWLINE;
+    }
+
+    /**
+     * Returns the record on {@code line}, or {@code Optional.empty()} if the line is damaged.
+     */
+    private static Optional<String> parseLine(String line) {
+        int separator = line.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String record = line.substring(separator + 1);
+        try {
+            long checksum = Long.parseLong(line.substring(0, separator), 16);
+            return checksum == checksumOf(record) ? Optional.of(record) : Optional.empty();
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long checksumOf(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static int indexOf(byte[] bytes, byte target, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.finclient.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -19,6 +20,7 @@ import seedu.finclient.logic.commands.ExitCommand;
 import seedu.finclient.logic.commands.HelpCommand;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -27,6 +29,8 @@ import seedu.finclient.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_REMINDER_HEADER = "Reminder! The following events are due:";
+    private static final int UPCOMING_EVENTS_SHOWN = 2;
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -38,6 +42,7 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private UpcomingEventsPanel upcomingEventsPanel;
+    private StatusBarFooter statusBarFooter;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -132,16 +137,44 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFinClientFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getFinClientFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        UpcomingEventsPanel upcomingEventsPanel = new UpcomingEventsPanel(logic.getUpcomingPersons(2));
+        refreshUpcomingEvents();
+    }
+
+    /**
+     * Replaces the upcoming events panel with one showing the current upcoming events.
+     */
+    private void refreshUpcomingEvents() {
+        upcomingEventsPlaceholder.getChildren().clear();
+        upcomingEventsPanel = new UpcomingEventsPanel(logic.getUpcomingPersons(UPCOMING_EVENTS_SHOWN));
         upcomingEventsPlaceholder.getChildren().add(upcomingEventsPanel.getRoot());
     }
 
+    /**
+     * Shows a reminder for the events of {@code duePersons} and refreshes the upcoming events.
+     */
+    void showReminders(List<Person> duePersons) {
+        StringBuilder reminder = new StringBuilder(MESSAGE_REMINDER_HEADER);
+        for (Person person : duePersons) {
+            reminder.append("\n").append(person.getName()).append(" - ").append(person.getRemark());
+        }
+        resultDisplay.setFeedbackToUser(reminder.toString());
+        refreshUpcomingEvents();
+    }
+
+    /**
+     * Shows {@code message} about a failed background save in the result display.
+     */
+    void showSaveError(String message) {
+        logger.warning("Background save failed: " + message);
+        resultDisplay.setFeedbackToUser(message);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -216,9 +249,8 @@ public class MainWindow extends UiPart<Stage> {
             personListPanel = new PersonListPanel(logic.getFilteredPersonList());
             personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
             priceLabel.setText("Clearing Price: $" + logic.getClearingPrice().orElse(0.0));
-            upcomingEventsPlaceholder.getChildren().clear();
-            upcomingEventsPanel = new UpcomingEventsPanel(logic.getUpcomingPersons(2));
-            upcomingEventsPlaceholder.getChildren().add(upcomingEventsPanel.getRoot());
+            refreshUpcomingEvents();
+            statusBarFooter.setSaveLocation(logic.getFinClientFilePath());
 
             return commandResult;
         } catch (CommandException | ParseException e) {
@@ -1,6 +1,9 @@
 package seedu.finclient.ui;
 
+import java.util.List;
+
 import javafx.stage.Stage;
+import seedu.finclient.model.person.Person;
 
 /**
  * API of UI component
@@ -10,4 +13,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Notifies the user that the remarks of {@code duePersons} are due. */
+    void showReminders(List<Person> duePersons);
+
+    /** Notifies the user that saving the data in the background failed. */
+    void showSaveError(String message);
+
 }
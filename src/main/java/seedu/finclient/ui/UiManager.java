@@ -1,5 +1,6 @@
 package seedu.finclient.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,6 +12,7 @@ import seedu.finclient.MainApp;
 import seedu.finclient.commons.core.LogsCenter;
 import seedu.finclient.commons.util.StringUtil;
 import seedu.finclient.logic.Logic;
+import seedu.finclient.model.person.Person;
 
 /**
  * The manager of the UI component.
@@ -50,6 +52,20 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showReminders(List<Person> duePersons) {
+        if (mainWindow != null) {
+            mainWindow.showReminders(duePersons);
+        }
+    }
+
+    @Override
+    public void showSaveError(String message) {
+        if (mainWindow != null) {
+            mainWindow.showSaveError(message);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
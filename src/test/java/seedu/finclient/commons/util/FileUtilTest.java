@@ -1,13 +1,26 @@
 package seedu.finclient.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,70 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_replacesFile() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_overlappingWritesOfSameFile_lastMovedWins() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFileAtomically(file, out -> {
+            out.write("outer".getBytes(StandardCharsets.UTF_8));
+            FileUtil.writeToFileAtomically(file, "inner");
+        });
+        assertEquals("outer", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileKeptAndTempFileDeleted() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "first");
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write(1);
+            throw new IOException("disk full");
+        }));
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void writeToFileAtomically_compressed_readBackDecompressed() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        String content = "{\"persons\" : []}".repeat(1000);
+        FileUtil.writeToFileAtomically(file, FileUtil.MAX_COMPRESSION, out ->
+                out.write(content.getBytes(StandardCharsets.UTF_8)));
+        assertTrue(Files.size(file) < content.length() / 10);
+        assertFalse(content.equals(FileUtil.readFromFile(file)));
+        try (InputStream in = FileUtil.openDecompressingInputStream(file)) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // uncompressed files are read as they are, however short
+        FileUtil.writeToFileAtomically(file, FileUtil.NO_COMPRESSION, out -> out.write(content.getBytes()));
+        assertEquals(content.length(), Files.size(file));
+        FileUtil.writeToFile(file, "{");
+        try (InputStream in = FileUtil.openDecompressingInputStream(file)) {
+            assertEquals("{", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_invalidCompressionLevel_throwsIllegalArgumentException() {
+        Path file = testFolder.resolve("data.json");
+        assertThrows(IllegalArgumentException.class, FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS, () ->
+                FileUtil.writeToFileAtomically(file, FileUtil.MAX_COMPRESSION + 1, out -> out.write(1)));
+        assertFalse(Files.exists(file));
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package seedu.finclient.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternPool<String>(null));
+    }
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        InternPool<StringBuilder> pool = new InternPool<>(StringBuilder::new);
+        assertSame(pool.intern("a"), pool.intern("a"));
+        assertNotSame(pool.intern("a"), pool.intern("b"));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_poolsNothing() {
+        InternPool<Integer> pool = new InternPool<>(Integer::valueOf);
+        assertThrows(NumberFormatException.class, () -> pool.intern("not a number"));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        InternPool<String> pool = new InternPool<>(String::new);
+        assertThrows(NullPointerException.class, () -> pool.intern(null));
+    }
+}
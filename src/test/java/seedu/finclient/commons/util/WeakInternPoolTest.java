@@ -0,0 +1,37 @@
+package seedu.finclient.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternPoolTest {
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInternPool<String>(null));
+    }
+
+    @Test
+    public void intern_sameKeyInUse_returnsSameInstance() {
+        WeakInternPool<StringBuilder> pool = new WeakInternPool<>(StringBuilder::new);
+        StringBuilder first = pool.intern("a");
+        assertSame(first, pool.intern(new String("a")));
+        assertNotSame(first, pool.intern("b"));
+    }
+
+    @Test
+    public void intern_factoryThrows_poolsNothing() {
+        WeakInternPool<Integer> pool = new WeakInternPool<>(Integer::valueOf);
+        assertThrows(NumberFormatException.class, () -> pool.intern("not a number"));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        WeakInternPool<String> pool = new WeakInternPool<>(String::new);
+        assertThrows(NullPointerException.class, () -> pool.intern(null));
+    }
+}
@@ -9,10 +9,16 @@ import static seedu.finclient.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.finclient.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.finclient.logic.commands.CommandTestUtil.REMARK_DESC_AMY;
 import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.DANIEL;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,10 +29,14 @@ import seedu.finclient.logic.commands.CommandResult;
 import seedu.finclient.logic.commands.ListCommand;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.FinClient;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ModelManager;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.person.NameContainsKeywordsPredicate;
+import seedu.finclient.model.person.PersonPage;
+import seedu.finclient.storage.BackgroundSaver;
 import seedu.finclient.storage.JsonFinClientStorage;
 import seedu.finclient.storage.JsonUserPrefsStorage;
 import seedu.finclient.storage.StorageManager;
@@ -85,6 +95,91 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getPersonPages_filteredList_readsFilteredPersonsInPages() {
+        getTypicalPersons().forEach(model::addPerson);
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier")));
+
+        PersonPage firstPage = logic.getFirstPersonPage(1);
+        assertEquals(List.of(BENSON), firstPage.getPersons());
+        assertEquals(2, firstPage.getTotalSize());
+        PersonPage lastPage = logic.getNextPersonPage(firstPage.getNextCursor().get(), 1);
+        assertEquals(new PersonPage(List.of(DANIEL), Optional.empty(), 2), lastPage);
+    }
+
+    @Test
+    public void execute_readOnlyCommands_notSaved() throws Exception {
+        List<ReadOnlyFinClient> saves = new ArrayList<>();
+        logic = new LogicManager(model, storageRecordingSavesTo(saves, false));
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + REMARK_DESC_AMY;
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saves.size());
+        logic.execute(addCommand);
+        assertEquals(1, saves.size());
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saves.size());
+    }
+
+    @Test
+    public void execute_failedSave_savedByNextCommand() throws Exception {
+        List<ReadOnlyFinClient> saves = new ArrayList<>();
+        logic = new LogicManager(model, storageRecordingSavesTo(saves, true));
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + REMARK_DESC_AMY;
+
+        assertThrows(CommandException.class, () -> logic.execute(addCommand));
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saves.size());
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saves.size());
+    }
+
+    @Test
+    public void execute_withBackgroundSaver_savesInBackground() throws Exception {
+        List<ReadOnlyFinClient> saves = new ArrayList<>();
+        StorageManager storage = storageRecordingSavesTo(saves, false);
+        BackgroundSaver saver = new BackgroundSaver(storage, Runnable::run, e -> { });
+        // the saver saves to the data file of the model
+        model.setFinClientFilePath(storage.getFinClientFilePath());
+        logic = new LogicManager(model, storage, saver);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + REMARK_DESC_AMY;
+
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+        saver.close();
+        assertEquals(1, saves.size());
+        assertEquals(model.getFinClient(), new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void getSaveErrorMessage() {
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                LogicManager.getSaveErrorMessage(DUMMY_IO_EXCEPTION));
+        assertEquals(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()),
+                LogicManager.getSaveErrorMessage(DUMMY_AD_EXCEPTION));
+    }
+
+    /**
+     * Returns a storage that records every save to {@code saves}, failing the first save if {@code failFirstSave}.
+     */
+    private StorageManager storageRecordingSavesTo(List<ReadOnlyFinClient> saves, boolean failFirstSave) {
+        JsonFinClientStorage finClientStorage = new JsonFinClientStorage(temporaryFolder.resolve("finclient.json")) {
+            @Override
+            public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+                saves.add(finClient);
+                if (failFirstSave && saves.size() == 1) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveFinClient(finClient, filePath);
+            }
+        };
+        return new StorageManager(finClientStorage, new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -161,7 +256,7 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(finClientStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
-        model.setFinClient(new seedu.finclient.model.FinClient());
+        model.setFinClient(new FinClient());
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -8,23 +8,34 @@ import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.finclient.commons.core.GuiSettings;
+import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.logic.Messages;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.model.FinClient;
+import seedu.finclient.model.FinClientSnapshot;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
+import seedu.finclient.model.book.BookLoader;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonBatch;
+import seedu.finclient.model.person.PersonPage;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.stats.GroupStats;
+import seedu.finclient.model.stats.StatsField;
 import seedu.finclient.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -195,13 +206,138 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getPersonsWithDeadlineBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<LocalDateTime> getNextDeadlineAfter(LocalDateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(PersonBatch batch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FinClientSnapshot getFinClientSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitFinClient() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoFinClient() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoFinClient() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoFinClient() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoFinClient() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithNetworthBetween(long min, long max) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getRichestPersons(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OptionalLong getNetworthPercentile(double percentile) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<GroupStats> getGroupStats(List<StatsField> fields) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String getBookName() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getBookNames() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean switchBook(String name) throws DataLoadingException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, List<Person>> searchBooks(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setBookLoader(BookLoader bookLoader) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonPage getFirstPersonPage(int pageSize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonPage getNextPersonPage(String cursor, int pageSize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithPhone(String number) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, List<Person>> getSharedPhoneNumbers() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getFinClientVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void exportFinClient(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean importFinClient(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> getUpcomingPersons(int count) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortPersons(String criteria) {
+        public void sortPersons(PersonSorter sorter) {
             throw new AssertionError("This method should not be called.");
         }
     }
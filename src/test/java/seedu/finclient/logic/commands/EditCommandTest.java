@@ -72,9 +72,6 @@ public class EditCommandTest {
 
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
-        // ensure the person to be edited is not hidden
-        model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).setUnhidden();
-
         EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, new EditPersonDescriptor());
         Person editedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
 
@@ -178,7 +175,7 @@ public class EditCommandTest {
     public void execute_editHiddenPerson_failure() {
         // Hide the first person in the unfiltered list
         Person hiddenPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        hiddenPerson.setHidden(); // This method depends on your Person implementation
+        model.hidePerson(hiddenPerson);
 
         // Build a descriptor with at least one edited field
         EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
@@ -0,0 +1,85 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.testutil.BookLoaderStub;
+
+public class ExportCommandTest {
+
+    private final BookLoaderStub loader = new BookLoaderStub();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        model.setBookLoader(loader);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null));
+    }
+
+    @Test
+    public void execute_exportsBook() throws Exception {
+        Path filePath = Paths.get("backup", "clients.fcb");
+        CommandResult result = new ExportCommand(filePath).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, getTypicalFinClient().getPersonList().size(),
+                filePath), result.getFeedbackToUser());
+        assertEquals(getTypicalFinClient(), loader.getExportedBook(filePath).get());
+    }
+
+    @Test
+    public void execute_exportFails_throwsCommandException() {
+        Path filePath = Paths.get("clients.fcb");
+        model.setBookLoader(new BookLoaderStub() {
+            @Override
+            public void exportBook(ReadOnlyFinClient book, Path filePath) throws IOException {
+                throw new IOException("disk full");
+            }
+        });
+        assertCommandFailure(new ExportCommand(filePath), model,
+                String.format(ExportCommand.MESSAGE_EXPORT_FAILED, filePath, "disk full"));
+        assertEquals(getTypicalFinClient(), new FinClient(model.getFinClient()));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirst = new ExportCommand(Paths.get("first.json"));
+
+        // same object -> returns true
+        assertTrue(exportFirst.equals(exportFirst));
+
+        // same values -> returns true
+        assertTrue(exportFirst.equals(new ExportCommand(Paths.get("first.json"))));
+
+        // null -> returns false
+        assertFalse(exportFirst.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportFirst.equals(new ExportCommand(Paths.get("first.fcb"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("clients.fcb"));
+        assertEquals(ExportCommand.class.getCanonicalName() + "{filePath=clients.fcb}", exportCommand.toString());
+    }
+}
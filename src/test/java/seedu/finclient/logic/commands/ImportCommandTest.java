@@ -0,0 +1,91 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.testutil.BookLoaderStub;
+import seedu.finclient.testutil.FinClientBuilder;
+
+public class ImportCommandTest {
+
+    private static final FinClient BACKUP = new FinClientBuilder().withPerson(ALICE).build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        model.setBookLoader(new BookLoaderStub().withBook("backup", BACKUP).withUnreadableBook("broken"));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_existingFile_replacesBookAndUndoable() throws Exception {
+        Path filePath = Paths.get("backup.json");
+        CommandResult result = new ImportCommand(filePath).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath), result.getFeedbackToUser());
+        assertEquals(BACKUP, new FinClient(model.getFinClient()));
+
+        model.commitFinClient();
+        model.undoFinClient();
+        assertEquals(getTypicalFinClient(), new FinClient(model.getFinClient()));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = Paths.get("missing.json");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_unreadableFile_throwsCommandException() {
+        Path filePath = Paths.get("broken.json");
+        String message = new DataLoadingException(new Exception("Unreadable book broken")).getMessage();
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_IMPORT_FAILED, filePath, message));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirst = new ImportCommand(Paths.get("first.json"));
+
+        // same object -> returns true
+        assertTrue(importFirst.equals(importFirst));
+
+        // same values -> returns true
+        assertTrue(importFirst.equals(new ImportCommand(Paths.get("first.json"))));
+
+        // null -> returns false
+        assertFalse(importFirst.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirst.equals(new ImportCommand(Paths.get("second.json"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("clients.fcb"));
+        assertEquals(ImportCommand.class.getCanonicalName() + "{filePath=clients.fcb}", importCommand.toString());
+    }
+}
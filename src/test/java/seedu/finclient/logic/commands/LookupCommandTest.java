@@ -0,0 +1,107 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.IDA;
+import static seedu.finclient.testutil.TypicalPersons.TOONOMBER;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.person.PersonIsOneOfPredicate;
+import seedu.finclient.model.person.Phone;
+
+public class LookupCommandTest {
+
+    private Model model = new ModelManager(sharedPhoneFinClient(), new UserPrefs());
+    private Model expectedModel = new ModelManager(sharedPhoneFinClient(), new UserPrefs());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LookupCommand(null));
+    }
+
+    @Test
+    public void execute_uniqueNumber_listsPerson() {
+        Phone phone = new Phone("94351253");
+        showPersonsWithPhone(expectedModel, phone);
+        assertCommandSuccess(new LookupCommand(Optional.of(phone)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sharedNumber_reportsSharingPersons() {
+        Phone phone = new Phone("8482131");
+        showPersonsWithPhone(expectedModel, phone);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(LookupCommand.MESSAGE_SHARED_NUMBER, phone, 2, "Ida Mueller, Too Nomber");
+        assertCommandSuccess(new LookupCommand(Optional.of(phone)), model, expectedMessage, expectedModel);
+        assertEquals(List.of(IDA, TOONOMBER), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownNumber_listsNoPersons() {
+        Phone phone = new Phone("12345678");
+        showPersonsWithPhone(expectedModel, phone);
+        assertCommandSuccess(new LookupCommand(Optional.of(phone)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_noNumber_reportsSharedNumbers() {
+        assertCommandSuccess(new LookupCommand(Optional.empty()), model,
+                String.format(LookupCommand.MESSAGE_SHARED_NUMBERS, "8482131: Ida Mueller, Too Nomber"),
+                expectedModel);
+        Model typicalModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        assertCommandSuccess(new LookupCommand(Optional.empty()), typicalModel,
+                LookupCommand.MESSAGE_NO_SHARED_NUMBERS, new ModelManager(getTypicalFinClient(), new UserPrefs()));
+    }
+
+    @Test
+    public void equals() {
+        LookupCommand lookupFirst = new LookupCommand(Optional.of(new Phone("91234567")));
+
+        // same object -> returns true
+        assertTrue(lookupFirst.equals(lookupFirst));
+
+        // same values -> returns true
+        assertTrue(lookupFirst.equals(new LookupCommand(Optional.of(new Phone("91234567")))));
+
+        // null -> returns false
+        assertFalse(lookupFirst.equals(null));
+
+        // different phone -> returns false
+        assertFalse(lookupFirst.equals(new LookupCommand(Optional.of(new Phone("98765432")))));
+        assertFalse(lookupFirst.equals(new LookupCommand(Optional.empty())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        LookupCommand lookupCommand = new LookupCommand(Optional.of(new Phone("91234567")));
+        assertEquals(LookupCommand.class.getCanonicalName() + "{phone=91234567}", lookupCommand.toString());
+    }
+
+    private static FinClient sharedPhoneFinClient() {
+        FinClient finClient = getTypicalFinClient();
+        finClient.addPerson(IDA);
+        finClient.addPerson(TOONOMBER);
+        return finClient;
+    }
+
+    private static void showPersonsWithPhone(Model model, Phone phone) {
+        model.updateFilteredPersonList(new PersonIsOneOfPredicate(model.getPersonsWithPhone(phone.value)));
+    }
+}
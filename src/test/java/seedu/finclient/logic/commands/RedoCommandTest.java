@@ -0,0 +1,33 @@
+package seedu.finclient.logic.commands;
+
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_noUndoneState_failure() {
+        Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_success() {
+        Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        model.deletePerson(ALICE);
+        model.commitFinClient();
+        model.undoFinClient();
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
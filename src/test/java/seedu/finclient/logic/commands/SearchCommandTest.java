@@ -0,0 +1,76 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.testutil.BookLoaderStub;
+import seedu.finclient.testutil.FinClientBuilder;
+
+public class SearchCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFinClientFilePath(Paths.get("data", "main.json"));
+        model = new ModelManager(getTypicalFinClient(), userPrefs);
+        model.setBookLoader(new BookLoaderStub()
+                .withBook("work", new FinClientBuilder().withPerson(ALICE).withPerson(HOON).build()));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SearchCommand(null));
+    }
+
+    @Test
+    public void execute_matchesInSeveralBooks_listsByBook() {
+        CommandResult result = new SearchCommand(List.of("alice", "hoon")).execute(model);
+        assertEquals(String.format(SearchCommand.MESSAGE_SUCCESS, 3, 2,
+                "main: Alice Pauline\nwork: Alice Pauline, Hoon Meier"), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noMatches_showsNoMatchesMessage() {
+        CommandResult result = new SearchCommand(List.of("nobody")).execute(model);
+        assertEquals(SearchCommand.MESSAGE_NO_MATCHES, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand searchAlice = new SearchCommand(List.of("alice"));
+
+        // same object -> returns true
+        assertTrue(searchAlice.equals(searchAlice));
+
+        // same values -> returns true
+        assertTrue(searchAlice.equals(new SearchCommand(List.of("alice"))));
+
+        // null -> returns false
+        assertFalse(searchAlice.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchAlice.equals(new SearchCommand(List.of("bob"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand searchCommand = new SearchCommand(List.of("alice"));
+        assertEquals(SearchCommand.class.getCanonicalName() + "{keywords=[alice]}", searchCommand.toString());
+    }
+}
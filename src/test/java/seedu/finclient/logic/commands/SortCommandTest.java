@@ -6,11 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.finclient.logic.commands.SortCommand.MESSAGE_SORT_ACKNOWLEDGEMENT;
 import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.sort.SortCriterion;
+import seedu.finclient.model.sort.SortField;
 
 public class SortCommandTest {
 
@@ -18,7 +25,7 @@ public class SortCommandTest {
     private Model expectedModel = new ModelManager();
 
     @Test
-    public void constructor_nullCriteria_throwsNullPointerException() {
+    public void constructor_nullSorter_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new SortCommand(null));
     }
 
@@ -32,10 +39,23 @@ public class SortCommandTest {
                 new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, "networth"), false, false);
         CommandResult expectedCommandResultPrive =
                 new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, "price"), false, false);
-        assertCommandSuccess(new SortCommand("name"), model, expectedCommandResultName, expectedModel);
-        assertCommandSuccess(new SortCommand("amount"), model, expectedCommandResultAmount, expectedModel);
-        assertCommandSuccess(new SortCommand("networth"), model, expectedCommandResultNetworth, expectedModel);
-        assertCommandSuccess(new SortCommand("price"), model, expectedCommandResultPrive, expectedModel);
+        assertCommandSuccess(sortBy(SortCriterion.NAME), model, expectedCommandResultName, expectedModel);
+        assertCommandSuccess(sortBy(SortCriterion.AMOUNT), model, expectedCommandResultAmount, expectedModel);
+        assertCommandSuccess(sortBy(SortCriterion.NETWORTH), model, expectedCommandResultNetworth, expectedModel);
+        assertCommandSuccess(sortBy(SortCriterion.PRICE), model, expectedCommandResultPrive, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleCriteria_success() {
+        Model typicalModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        Model expectedTypicalModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        PersonSorter sorter = new PersonSorter(List.of(new SortField(SortCriterion.NETWORTH, true),
+                SortField.ascending(SortCriterion.NAME)));
+        expectedTypicalModel.sortPersons(sorter);
+
+        CommandResult expectedCommandResult =
+                new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, "networth desc, name"), false, false);
+        assertCommandSuccess(new SortCommand(sorter), typicalModel, expectedCommandResult, expectedTypicalModel);
     }
 
     @Test
@@ -58,14 +78,14 @@ public class SortCommandTest {
 
     @Test
     public void equals() {
-        SortCommand sortNameCommand = new SortCommand("name");
-        SortCommand sortAmountCommand = new SortCommand("amount");
+        SortCommand sortNameCommand = sortBy(SortCriterion.NAME);
+        SortCommand sortAmountCommand = sortBy(SortCriterion.AMOUNT);
 
         // same object -> returns true
         assertTrue(sortNameCommand.equals(sortNameCommand));
 
         // same values -> returns true
-        SortCommand sortNameCommandCopy = new SortCommand("name");
+        SortCommand sortNameCommandCopy = sortBy(SortCriterion.NAME);
         assertTrue(sortNameCommand.equals(sortNameCommandCopy));
 
         // different types -> returns false
@@ -81,8 +101,12 @@ public class SortCommandTest {
 
     @Test
     public void toStringMethod() {
-        SortCommand sortNameCommand = new SortCommand("name");
+        SortCommand sortNameCommand = sortBy(SortCriterion.NAME);
         String expected = SortCommand.class.getCanonicalName() + "{criteria=" + "name" + "}";
         assertEquals(expected, sortNameCommand.toString());
     }
+
+    private static SortCommand sortBy(SortCriterion criterion) {
+        return new SortCommand(PersonSorter.by(criterion));
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.stats.StatsField;
+
+public class StatsCommandTest {
+
+    private Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFields_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand(null));
+    }
+
+    @Test
+    public void execute_singleField_success() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, "order",
+                "BUY: 7 contact(s), buy quantity 220, sell quantity 0");
+        assertCommandSuccess(new StatsCommand(List.of(StatsField.ORDER)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_tags_countsContactInEachTag() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, "tag, order",
+                "None / BUY: 4 contact(s), buy quantity 130, sell quantity 0\n"
+                        + "friends / BUY: 3 contact(s), buy quantity 90, sell quantity 0\n"
+                        + "owesMoney / BUY: 1 contact(s), buy quantity 50, sell quantity 0");
+        assertCommandSuccess(new StatsCommand(List.of(StatsField.TAG, StatsField.ORDER)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noContacts_showsNoContactsMessage() {
+        assertCommandSuccess(new StatsCommand(List.of(StatsField.PLATFORM)), new ModelManager(),
+                StatsCommand.MESSAGE_NO_CONTACTS, new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsByTag = new StatsCommand(List.of(StatsField.TAG));
+        StatsCommand statsByTagAndPlatform = new StatsCommand(List.of(StatsField.TAG, StatsField.PLATFORM));
+
+        // same object -> returns true
+        assertTrue(statsByTag.equals(statsByTag));
+
+        // same values -> returns true
+        assertTrue(statsByTag.equals(new StatsCommand(List.of(StatsField.TAG))));
+
+        // different types -> returns false
+        assertFalse(statsByTag.equals(1));
+
+        // null -> returns false
+        assertFalse(statsByTag.equals(null));
+
+        // different fields -> returns false
+        assertFalse(statsByTag.equals(statsByTagAndPlatform));
+    }
+
+    @Test
+    public void toStringMethod() {
+        StatsCommand statsCommand = new StatsCommand(List.of(StatsField.TAG));
+        String expected = StatsCommand.class.getCanonicalName() + "{fields=[tag]}";
+        assertEquals(expected, statsCommand.toString());
+    }
+}
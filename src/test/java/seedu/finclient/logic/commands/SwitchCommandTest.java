@@ -0,0 +1,106 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.testutil.BookLoaderStub;
+import seedu.finclient.testutil.FinClientBuilder;
+
+public class SwitchCommandTest {
+
+    private static final FinClient WORK = new FinClientBuilder().withPerson(ALICE).build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFinClientFilePath(Paths.get("data", "main.json"));
+        model = new ModelManager(getTypicalFinClient(), userPrefs);
+        model.setBookLoader(new BookLoaderStub().withBook("work", WORK).withUnreadableBook("broken"));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SwitchCommand(null));
+    }
+
+    @Test
+    public void execute_noName_listsBooks() throws Exception {
+        CommandResult result = new SwitchCommand(Optional.empty()).execute(model);
+        assertEquals(String.format(SwitchCommand.MESSAGE_BOOKS, "broken, main, work", "main"),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_existingBook_switches() throws Exception {
+        CommandResult result = new SwitchCommand(Optional.of("work")).execute(model);
+        assertEquals(String.format(SwitchCommand.MESSAGE_SUCCESS, "work"), result.getFeedbackToUser());
+        assertEquals("work", model.getBookName());
+        assertEquals(WORK, new FinClient(model.getFinClient()));
+        assertEquals(Paths.get("data", "work.json"), model.getFinClientFilePath());
+    }
+
+    @Test
+    public void execute_newBook_createsEmptyBook() throws Exception {
+        CommandResult result = new SwitchCommand(Optional.of("fresh")).execute(model);
+        assertEquals(String.format(SwitchCommand.MESSAGE_CREATED, "fresh"), result.getFeedbackToUser());
+        assertEquals(new FinClient(), new FinClient(model.getFinClient()));
+
+        // the previous book stays on the shelf
+        new SwitchCommand(Optional.of("main")).execute(model);
+        assertEquals(getTypicalFinClient(), new FinClient(model.getFinClient()));
+    }
+
+    @Test
+    public void execute_currentBook_throwsCommandException() {
+        assertCommandFailure(new SwitchCommand(Optional.of("main")), model,
+                String.format(SwitchCommand.MESSAGE_ALREADY_ACTIVE, "main"));
+    }
+
+    @Test
+    public void execute_unreadableBook_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new SwitchCommand(Optional.of("broken")).execute(model));
+        assertEquals("main", model.getBookName());
+    }
+
+    @Test
+    public void equals() {
+        SwitchCommand switchWork = new SwitchCommand(Optional.of("work"));
+
+        // same object -> returns true
+        assertTrue(switchWork.equals(switchWork));
+
+        // same values -> returns true
+        assertTrue(switchWork.equals(new SwitchCommand(Optional.of("work"))));
+
+        // null -> returns false
+        assertFalse(switchWork.equals(null));
+
+        // different book -> returns false
+        assertFalse(switchWork.equals(new SwitchCommand(Optional.of("home"))));
+        assertFalse(switchWork.equals(new SwitchCommand(Optional.empty())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SwitchCommand switchCommand = new SwitchCommand(Optional.of("work"));
+        assertEquals(SwitchCommand.class.getCanonicalName() + "{bookName=work}", switchCommand.toString());
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.finclient.logic.commands;
+
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noHistory_failure() {
+        Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterCommittedChange_success() {
+        Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+        model.deletePerson(ALICE);
+        model.commitFinClient();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.ExportCommand;
+import seedu.finclient.storage.DataFileFormat;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " backup/clients.fcb ", new ExportCommand(Paths.get("backup", "clients.fcb")));
+        assertParseSuccess(parser, "my clients.json", new ExportCommand(Paths.get("my clients.json")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "clients.txt", DataFileFormat.MESSAGE_CONSTRAINTS);
+    }
+}
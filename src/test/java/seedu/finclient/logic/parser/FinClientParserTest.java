@@ -7,8 +7,10 @@ import static seedu.finclient.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -19,13 +21,23 @@ import seedu.finclient.logic.commands.DeleteCommand;
 import seedu.finclient.logic.commands.EditCommand;
 import seedu.finclient.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.finclient.logic.commands.ExitCommand;
+import seedu.finclient.logic.commands.ExportCommand;
 import seedu.finclient.logic.commands.FindCommand;
 import seedu.finclient.logic.commands.HelpCommand;
+import seedu.finclient.logic.commands.ImportCommand;
 import seedu.finclient.logic.commands.ListCommand;
+import seedu.finclient.logic.commands.LookupCommand;
+import seedu.finclient.logic.commands.RedoCommand;
+import seedu.finclient.logic.commands.SearchCommand;
 import seedu.finclient.logic.commands.SortCommand;
+import seedu.finclient.logic.commands.StatsCommand;
+import seedu.finclient.logic.commands.SwitchCommand;
+import seedu.finclient.logic.commands.UndoCommand;
 import seedu.finclient.logic.parser.exceptions.ParseException;
 import seedu.finclient.model.person.NameContainsKeywordsPredicate;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.Phone;
+import seedu.finclient.model.stats.StatsField;
 import seedu.finclient.testutil.EditPersonDescriptorBuilder;
 import seedu.finclient.testutil.PersonBuilder;
 import seedu.finclient.testutil.PersonUtil;
@@ -71,6 +83,50 @@ public class FinClientParserTest {
         assertTrue(parser.parseCommand(SortCommand.COMMAND_WORD + " price") instanceof SortCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(List.of(StatsField.PLATFORM, StatsField.TAG)),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " platform, tag"));
+    }
+
+    @Test
+    public void parseCommand_lookup() throws Exception {
+        assertEquals(new LookupCommand(Optional.of(new Phone("91234567"))),
+                parser.parseCommand(LookupCommand.COMMAND_WORD + " 9123 4567"));
+    }
+
+    @Test
+    public void parseCommand_switch() throws Exception {
+        assertEquals(new SwitchCommand(Optional.of("work")), parser.parseCommand(SwitchCommand.COMMAND_WORD + " work"));
+        assertEquals(new SwitchCommand(Optional.empty()), parser.parseCommand(SwitchCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_exportAndImport() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("clients.fcb")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " clients.fcb"));
+        assertEquals(new ImportCommand(Paths.get("clients.json")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " clients.json"));
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        assertEquals(new SearchCommand(List.of("foo", "bar")),
+                parser.parseCommand(SearchCommand.COMMAND_WORD + " foo bar"));
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -0,0 +1,28 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " backup/clients.fcb ", new ImportCommand(Paths.get("backup", "clients.fcb")));
+        // the format is detected from the content, so any name is accepted
+        assertParseSuccess(parser, "clients.bak", new ImportCommand(Paths.get("clients.bak")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+}
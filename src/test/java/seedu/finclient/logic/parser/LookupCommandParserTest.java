@@ -0,0 +1,33 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.LookupCommand;
+import seedu.finclient.model.person.Phone;
+
+public class LookupCommandParserTest {
+
+    private LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_noNumber_returnsSharedNumbersLookup() {
+        assertParseSuccess(parser, "  ", new LookupCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_formattedNumber_returnsNormalizedLookup() {
+        assertParseSuccess(parser, " 9123 4567 ", new LookupCommand(Optional.of(new Phone("91234567"))));
+        assertParseSuccess(parser, "+65 9123-4567", new LookupCommand(Optional.of(new Phone("6591234567"))));
+    }
+
+    @Test
+    public void parse_invalidNumber_throwsParseException() {
+        assertParseFailure(parser, "alice", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "9 1", Phone.MESSAGE_CONSTRAINTS);
+    }
+}
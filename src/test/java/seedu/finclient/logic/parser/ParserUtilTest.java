@@ -1,13 +1,16 @@
 package seedu.finclient.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.parser.ParserUtil.MESSAGE_INVALID_FILE_PATH;
 import static seedu.finclient.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.finclient.logic.parser.ParserUtil.parseOrder;
 import static seedu.finclient.logic.parser.ParserUtil.parseRemark;
 import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
@@ -70,6 +73,18 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseFilePath_invalidInput_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseFilePath(null));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FILE_PATH, () -> ParserUtil.parseFilePath("  "));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FILE_PATH, () -> ParserUtil.parseFilePath("a\0b.json"));
+    }
+
+    @Test
+    public void parseFilePath_validInput_success() throws Exception {
+        assertEquals(Paths.get("backup", "clients.fcb"), ParserUtil.parseFilePath("  backup/clients.fcb  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -394,12 +409,12 @@ public class ParserUtilTest {
         expectedNetworth = new Networth("9999999");
         assertEquals(expectedNetworth, ParserUtil.parseNetworth("9999999"));
 
-        // Considered in the same net worth bracket
         expectedNetworth = new Networth("10000");
         assertEquals(expectedNetworth, ParserUtil.parseNetworth("10000"));
 
+        // An exact amount is not its bracket name
         expectedNetworth = new Networth("1");
-        assertEquals(expectedNetworth, ParserUtil.parseNetworth("< $100k"));
+        assertNotEquals(expectedNetworth, ParserUtil.parseNetworth("< $100k"));
 
         expectedNetworth = new Networth("< $100k");
         assertEquals(expectedNetworth, ParserUtil.parseNetworth("< $100k"));
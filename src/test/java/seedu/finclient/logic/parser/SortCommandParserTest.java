@@ -5,9 +5,14 @@ import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFail
 import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.finclient.logic.commands.SortCommand;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.sort.SortCriterion;
+import seedu.finclient.model.sort.SortField;
 
 public class SortCommandParserTest {
     private SortCommandParser parser = new SortCommandParser();
@@ -20,10 +25,21 @@ public class SortCommandParserTest {
 
     @Test
     public void parseCorrectArg_success() {
-        assertParseSuccess(parser, "name", new SortCommand("name"));
-        assertParseSuccess(parser, "amount", new SortCommand("amount"));
-        assertParseSuccess(parser, "networth", new SortCommand("networth"));
-        assertParseSuccess(parser, "price", new SortCommand("price"));
+        assertParseSuccess(parser, "name", sortBy(SortCriterion.NAME));
+        assertParseSuccess(parser, "amount", sortBy(SortCriterion.AMOUNT));
+        assertParseSuccess(parser, "networth", sortBy(SortCriterion.NETWORTH));
+        assertParseSuccess(parser, "price", sortBy(SortCriterion.PRICE));
+        assertParseSuccess(parser, "  deadline asc ", sortBy(SortCriterion.DEADLINE));
+    }
+
+    @Test
+    public void parseMultipleCriteria_success() {
+        SortCommand expectedCommand = new SortCommand(new PersonSorter(List.of(
+                new SortField(SortCriterion.NETWORTH, true),
+                SortField.ascending(SortCriterion.DEADLINE),
+                SortField.ascending(SortCriterion.NAME))));
+        assertParseSuccess(parser, "networth desc, deadline asc, name", expectedCommand);
+        assertParseSuccess(parser, "networth  desc,deadline,name asc", expectedCommand);
     }
 
     @Test
@@ -38,17 +54,33 @@ public class SortCommandParserTest {
         assertParseFailure(parser, "pricet", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 SortCommand.MESSAGE_USAGE));
 
-        // multiple criteria
+        // multiple criteria without separator
         assertParseFailure(parser, "name amount", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 SortCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "name networth", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 SortCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "name price", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 SortCommand.MESSAGE_USAGE));
+
+        // invalid direction
+        assertParseFailure(parser, "name down", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "name desc asc", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
+
+        // empty criteria in list
+        assertParseFailure(parser, "name,", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "name,, price", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
     }
 
     @Test
     public void parseNullArg_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> parser.parse(null));
     }
+
+    private static SortCommand sortBy(SortCriterion criterion) {
+        return new SortCommand(PersonSorter.by(criterion));
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.StatsCommand;
+import seedu.finclient.model.stats.StatsField;
+
+public class StatsCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "platform", new StatsCommand(List.of(StatsField.PLATFORM)));
+        assertParseSuccess(parser, "  networth ,tag ",
+                new StatsCommand(List.of(StatsField.NETWORTH, StatsField.TAG)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "platform,", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "name", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag tag", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag, tag", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.SwitchCommand;
+import seedu.finclient.model.book.BookShelf;
+
+public class SwitchCommandParserTest {
+
+    private SwitchCommandParser parser = new SwitchCommandParser();
+
+    @Test
+    public void parse_noName_returnsListingSwitchCommand() {
+        assertParseSuccess(parser, "   ", new SwitchCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_validName_returnsSwitchCommand() {
+        assertParseSuccess(parser, " work_2 ", new SwitchCommand(Optional.of("work_2")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "work home",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "../work", BookShelf.MESSAGE_CONSTRAINTS);
+    }
+}
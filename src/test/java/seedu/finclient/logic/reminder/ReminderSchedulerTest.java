@@ -0,0 +1,114 @@
+package seedu.finclient.logic.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.getPersonWithMeetingAt;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.person.Person;
+
+public class ReminderSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 5, 1, 9, 0);
+
+    private final Model model = new ModelManager();
+    private final List<List<Person>> reminders = new ArrayList<>();
+    private final MutableClock clock = new MutableClock(START);
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ReminderScheduler(null, Runnable::run, reminders::add));
+        assertThrows(NullPointerException.class, () -> new ReminderScheduler(model, null, reminders::add));
+        assertThrows(NullPointerException.class, () -> new ReminderScheduler(model, Runnable::run, null));
+    }
+
+    @Test
+    public void remindDuePersons_remindsOnlyPersonsDueSinceLastReminder() {
+        Person past = getPersonWithMeetingAt("Past Person", "91000001", START.minusHours(1));
+        Person soon = getPersonWithMeetingAt("Soon Person", "91000002", START.plusHours(1));
+        Person later = getPersonWithMeetingAt("Later Person", "91000003", START.plusHours(2));
+        model.addPerson(past);
+        model.addPerson(soon);
+        model.addPerson(later);
+
+        ReminderScheduler scheduler = new ReminderScheduler(model, Runnable::run, reminders::add, clock);
+        scheduler.start();
+        try {
+            scheduler.remindDuePersons();
+            assertEquals(List.of(), reminders);
+
+            clock.set(START.plusHours(1));
+            scheduler.remindDuePersons();
+            assertEquals(List.of(List.of(soon)), reminders);
+
+            clock.set(START.plusHours(3));
+            scheduler.remindDuePersons();
+            assertEquals(List.of(List.of(soon), List.of(later)), reminders);
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    public void start_timerFiresAtRemarkTimestamp() throws InterruptedException {
+        CountDownLatch reminded = new CountDownLatch(1);
+        ReminderScheduler scheduler = new ReminderScheduler(model, Runnable::run, duePersons -> {
+            reminders.add(duePersons);
+            reminded.countDown();
+        });
+        scheduler.start();
+        try {
+            // added after start, so the scheduler has to pick it up from the list change
+            Person due = getPersonWithMeetingAt("Due Person", "91000004", LocalDateTime.now().plusNanos(100_000_000));
+            model.addPerson(due);
+            assertTrue(reminded.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(List.of(due)), reminders);
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    /**
+     * A clock whose current time can be set by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            set(time);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.finclient.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.PersonVector;
+
+public class FinClientSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FinClientSnapshot(null));
+    }
+
+    @Test
+    public void getSnapshot_unaffectedByLaterMutations() {
+        FinClient finClient = getTypicalFinClient();
+        FinClientSnapshot snapshot = finClient.getSnapshot();
+        finClient.removePerson(ALICE);
+        assertEquals(getTypicalFinClient().getPersonList(), snapshot.getPersonList());
+        assertFalse(finClient.getSnapshot().getPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void getSnapshot_copiedIntoFinClient_equalsOriginal() {
+        FinClient finClient = getTypicalFinClient();
+        assertEquals(finClient, new FinClient(finClient.getSnapshot()));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        FinClientSnapshot snapshot = new FinClientSnapshot(PersonVector.of(Arrays.asList(ALICE)));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().add(BENSON));
+    }
+
+    @Test
+    public void equals() {
+        FinClientSnapshot snapshot = new FinClientSnapshot(PersonVector.of(Arrays.asList(ALICE)));
+
+        assertTrue(snapshot.equals(snapshot));
+        assertTrue(snapshot.equals(new FinClientSnapshot(PersonVector.of(Arrays.asList(ALICE)))));
+        assertFalse(snapshot.equals(null));
+        assertFalse(snapshot.equals(5));
+        assertFalse(snapshot.equals(new FinClientSnapshot(PersonVector.of(Arrays.asList(BENSON)))));
+    }
+}
@@ -7,15 +7,22 @@ import static seedu.finclient.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalPersons.ALICE;
 import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.finclient.commons.core.GuiSettings;
 import seedu.finclient.model.person.NameContainsKeywordsPredicate;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonBatch;
+import seedu.finclient.testutil.BookLoaderStub;
 import seedu.finclient.testutil.FinClientBuilder;
 
 public class ModelManagerTest {
@@ -88,11 +95,68 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void batch_withAdditions_showsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.batch(new PersonBatch().add(BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void switchBook_existingBook_restoresPreviousBookOnSwitchBack() throws Exception {
+        FinClient work = new FinClientBuilder().withPerson(BENSON).build();
+        BookLoaderStub loader = new BookLoaderStub().withBook("work", work);
+        modelManager = new ModelManager(new FinClientBuilder().withPerson(ALICE).build(), bookUserPrefs());
+        modelManager.setBookLoader(loader);
+        modelManager.addPerson(CARL);
+        modelManager.commitFinClient();
+
+        assertTrue(modelManager.switchBook("work"));
+        assertEquals("work", modelManager.getBookName());
+        assertEquals(work, new FinClient(modelManager.getFinClient()));
+        assertFalse(modelManager.canUndoFinClient());
+
+        // the previous book, including unsaved additions, comes back from the cache
+        assertTrue(modelManager.switchBook("main"));
+        assertEquals(new FinClientBuilder().withPerson(ALICE).withPerson(CARL).build(),
+                new FinClient(modelManager.getFinClient()));
+        assertEquals(1, loader.getLoadCount());
+    }
+
+    @Test
+    public void switchBook_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> modelManager.switchBook("../work"));
+    }
+
+    @Test
+    public void searchBooks_activeBookFirst() {
+        modelManager = new ModelManager(new FinClientBuilder().withPerson(ALICE).build(), bookUserPrefs());
+        modelManager.setBookLoader(new BookLoaderStub()
+                .withBook("alpha", new FinClientBuilder().withPerson(ALICE).withPerson(BENSON).build()));
+        Map<String, List<Person>> matches = modelManager.searchBooks(List.of("Alice", "Benson"));
+        assertEquals(List.of("main", "alpha"), List.copyOf(matches.keySet()));
+        assertEquals(List.of(ALICE, BENSON), matches.get("alpha"));
+    }
+
+    @Test
+    public void exportAndImportFinClient_noBookLoader_nothingHappens() throws Exception {
+        assertThrows(IOException.class, () -> modelManager.exportFinClient(Paths.get("export.json")));
+        assertFalse(modelManager.importFinClient(Paths.get("export.json")));
+        assertEquals(new FinClient(), new FinClient(modelManager.getFinClient()));
+    }
+
+    private static UserPrefs bookUserPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFinClientFilePath(Paths.get("data", "main.json"));
+        return userPrefs;
+    }
+
     @Test
     public void equals() {
         FinClient finClient = new FinClientBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,5 +1,6 @@
 package seedu.finclient.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +19,37 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setFinClientFilePath(null));
     }
 
+    @Test
+    public void setParallelSortThreshold_nonPositive_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelSortThreshold(0));
+    }
+
+    @Test
+    public void setUndoHistoryDepth_nonPositive_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryDepth(0));
+    }
+
+    @Test
+    public void setBookCacheBudget_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setBookCacheBudget(-1));
+    }
+
+    @Test
+    public void setDataCompressionLevel_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setDataCompressionLevel(-1));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setDataCompressionLevel(10));
+        userPrefs.setDataCompressionLevel(9);
+        assertEquals(9, userPrefs.getDataCompressionLevel());
+    }
+
+    @Test
+    public void setStorageMode_nullStorageMode_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStorageMode(null));
+    }
+
 }
@@ -0,0 +1,136 @@
+package seedu.finclient.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.sort.SortCriterion;
+import seedu.finclient.testutil.FinClientBuilder;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class VersionedFinClientTest {
+
+    private final VersionedFinClient versionedFinClient = new VersionedFinClient(
+            new FinClientBuilder().withPerson(BENSON).withPerson(ALICE).build(), 10);
+
+    @Test
+    public void constructor_nonPositiveHistory_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedFinClient(new FinClient(), 0));
+    }
+
+    @Test
+    public void commit_noChanges_returnsFalse() {
+        assertFalse(versionedFinClient.commit());
+        assertFalse(versionedFinClient.canUndo());
+    }
+
+    @Test
+    public void undoRedo_personChanges_restoresStates() {
+        versionedFinClient.addPerson(CARL);
+        versionedFinClient.commit();
+        versionedFinClient.removePerson(ALICE);
+        versionedFinClient.commit();
+
+        versionedFinClient.undo();
+        assertEquals(Arrays.asList(BENSON, ALICE, CARL), versionedFinClient.getPersonList());
+        versionedFinClient.undo();
+        assertEquals(Arrays.asList(BENSON, ALICE), versionedFinClient.getPersonList());
+        assertFalse(versionedFinClient.canUndo());
+
+        versionedFinClient.redo();
+        versionedFinClient.redo();
+        assertEquals(Arrays.asList(BENSON, CARL), versionedFinClient.getPersonList());
+        assertFalse(versionedFinClient.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoStates() {
+        versionedFinClient.addPerson(CARL);
+        versionedFinClient.commit();
+        versionedFinClient.undo();
+        assertTrue(versionedFinClient.canRedo());
+
+        versionedFinClient.removePerson(ALICE);
+        versionedFinClient.commit();
+        assertFalse(versionedFinClient.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndoWithoutChanges_keepsRedoStates() {
+        versionedFinClient.addPerson(CARL);
+        versionedFinClient.commit();
+        versionedFinClient.undo();
+
+        assertFalse(versionedFinClient.commit());
+        assertTrue(versionedFinClient.canRedo());
+    }
+
+    @Test
+    public void undoRedo_visibilityChanges_restoresHiddenStatus() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        VersionedFinClient finClient = new VersionedFinClient(
+                new FinClientBuilder().withPerson(alice).withPerson(benson).build(), 10);
+        finClient.hidePerson(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertTrue(finClient.commit());
+
+        finClient.undo();
+        assertEquals(List.of(alice, benson), finClient.getPersonList());
+        assertTrue(finClient.getPersonList().stream().noneMatch(Person::getIsHidden));
+
+        finClient.redo();
+        assertTrue(finClient.getPersonList().stream().allMatch(Person::getIsHidden));
+    }
+
+    @Test
+    public void undo_sort_restoresOrderAndStopsKeepingSorted() {
+        versionedFinClient.sortPersons(PersonSorter.by(SortCriterion.NAME), 10);
+        versionedFinClient.commit();
+
+        versionedFinClient.undo();
+        versionedFinClient.addPerson(CARL);
+        assertEquals(Arrays.asList(BENSON, ALICE, CARL), versionedFinClient.getPersonList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThem() {
+        versionedFinClient.addPerson(CARL);
+        versionedFinClient.commit();
+        versionedFinClient.removePerson(ALICE);
+
+        versionedFinClient.undo();
+        assertEquals(Arrays.asList(BENSON, ALICE), versionedFinClient.getPersonList());
+    }
+
+    @Test
+    public void commit_beyondMaxHistory_discardsOldestStates() {
+        VersionedFinClient finClient = new VersionedFinClient(new FinClient(), 2);
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL);
+        for (Person person : persons) {
+            finClient.addPerson(person);
+            finClient.commit();
+        }
+
+        finClient.undo();
+        finClient.undo();
+        assertFalse(finClient.canUndo());
+        assertEquals(Arrays.asList(ALICE), finClient.getPersonList());
+    }
+
+    @Test
+    public void undo_noState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, versionedFinClient::undo);
+        assertThrows(IllegalStateException.class, versionedFinClient::redo);
+    }
+}
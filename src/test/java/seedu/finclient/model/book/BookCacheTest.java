@@ -0,0 +1,83 @@
+package seedu.finclient.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.FinClient;
+import seedu.finclient.testutil.FinClientBuilder;
+
+public class BookCacheTest {
+
+    private static final FinClient ONE_PERSON = new FinClientBuilder().withPerson(ALICE).build();
+    private static final FinClient TWO_PERSONS = new FinClientBuilder().withPerson(BENSON).withPerson(CARL).build();
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BookCache(-1));
+    }
+
+    @Test
+    public void put_overBudget_evictsLeastRecentlyUsed() {
+        BookCache cache = new BookCache(3);
+        cache.put("a", ONE_PERSON);
+        cache.put("b", TWO_PERSONS);
+        assertEquals(3, cache.getCachedPersonCount());
+
+        // using a makes b the least recently used
+        assertEquals(Optional.of(ONE_PERSON), cache.get("a"));
+        cache.put("c", ONE_PERSON);
+        assertFalse(cache.contains("b"));
+        assertEquals(List.of("a", "c"), cache.getBookNames());
+        assertEquals(2, cache.getCachedPersonCount());
+    }
+
+    @Test
+    public void put_bookLargerThanBudget_notCached() {
+        BookCache cache = new BookCache(1);
+        cache.put("a", ONE_PERSON);
+        cache.put("b", TWO_PERSONS);
+        assertEquals(List.of(), cache.getBookNames());
+        assertEquals(0, cache.getCachedPersonCount());
+    }
+
+    @Test
+    public void put_sameName_replacesBook() {
+        BookCache cache = new BookCache(10);
+        cache.put("a", ONE_PERSON);
+        cache.put("a", TWO_PERSONS);
+        assertEquals(Optional.of(TWO_PERSONS), cache.get("a"));
+        assertEquals(2, cache.getCachedPersonCount());
+    }
+
+    @Test
+    public void setBudget_smallerBudget_evicts() {
+        BookCache cache = new BookCache(10);
+        cache.put("a", ONE_PERSON);
+        cache.put("b", TWO_PERSONS);
+        cache.setBudget(2);
+        assertEquals(List.of("b"), cache.getBookNames());
+        cache.setBudget(0);
+        assertTrue(cache.getBookNames().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> cache.setBudget(-1));
+    }
+
+    @Test
+    public void remove() {
+        BookCache cache = new BookCache(10);
+        cache.put("a", ONE_PERSON);
+        cache.remove("a");
+        cache.remove("b");
+        assertEquals(Optional.empty(), cache.get("a"));
+        assertEquals(0, cache.getCachedPersonCount());
+    }
+}
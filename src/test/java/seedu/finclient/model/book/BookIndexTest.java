@@ -0,0 +1,39 @@
+package seedu.finclient.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.FinClient;
+import seedu.finclient.testutil.FinClientBuilder;
+
+public class BookIndexTest {
+
+    private final BookIndex index = BookIndex.of(new FinClientBuilder().withPerson(ALICE).withPerson(BENSON).build());
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> BookIndex.of(null));
+    }
+
+    @Test
+    public void matchesAny_wordInName_returnsTrue() {
+        assertTrue(index.matchesAny(List.of("alice")));
+        assertTrue(index.matchesAny(List.of("Carol", "MEIER")));
+        assertTrue(index.matchesAny(List.of(" pauline ")));
+    }
+
+    @Test
+    public void matchesAny_noWordInName_returnsFalse() {
+        assertFalse(index.matchesAny(List.of()));
+        assertFalse(index.matchesAny(List.of("Ali")));
+        assertFalse(index.matchesAny(List.of("Carol")));
+        assertFalse(BookIndex.of(new FinClient()).matchesAny(List.of("Alice")));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.finclient.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.testutil.BookLoaderStub;
+import seedu.finclient.testutil.FinClientBuilder;
+
+public class BookShelfTest {
+
+    private static final Path ACTIVE_FILE = Paths.get("data", "main.json");
+    private static final FinClient WORK = new FinClientBuilder().withPerson(ALICE).withPerson(BENSON).build();
+    private static final FinClient HOME = new FinClientBuilder().withPerson(CARL).build();
+
+    private final BookLoaderStub loader = new BookLoaderStub().withBook("work", WORK).withBook("home", HOME);
+    private final BookShelf bookShelf = new BookShelf(BookCache.DEFAULT_BUDGET);
+
+    @Test
+    public void isValidBookName() {
+        assertTrue(BookShelf.isValidBookName("work"));
+        assertTrue(BookShelf.isValidBookName("client_book-2"));
+        assertFalse(BookShelf.isValidBookName(""));
+        assertFalse(BookShelf.isValidBookName("my book"));
+        assertFalse(BookShelf.isValidBookName("../work"));
+    }
+
+    @Test
+    public void nameOfAndPathOf() {
+        assertEquals("main", BookShelf.nameOf(ACTIVE_FILE));
+        assertEquals("notes.txt", BookShelf.nameOf(Paths.get("notes.txt")));
+        assertEquals(Paths.get("data", "work.json"), BookShelf.pathOf(ACTIVE_FILE, "work"));
+    }
+
+    @Test
+    public void getBookNames_includesActiveAndListedBooks() {
+        assertEquals(List.of("main"), bookShelf.getBookNames(ACTIVE_FILE));
+        bookShelf.setLoader(loader);
+        bookShelf.put("cached", HOME);
+        assertEquals(List.of("cached", "home", "main", "work"), bookShelf.getBookNames(ACTIVE_FILE));
+    }
+
+    @Test
+    public void take_cachedBook_removesFromCacheWithoutLoading() throws DataLoadingException {
+        bookShelf.setLoader(loader);
+        bookShelf.put("work", WORK);
+        assertEquals(Optional.of(WORK), bookShelf.take(BookShelf.pathOf(ACTIVE_FILE, "work")));
+        assertEquals(0, loader.getLoadCount());
+
+        // no longer cached, so taking it again loads it
+        assertEquals(Optional.of(WORK), bookShelf.take(BookShelf.pathOf(ACTIVE_FILE, "work")));
+        assertEquals(1, loader.getLoadCount());
+    }
+
+    @Test
+    public void take_missingBook_returnsEmpty() throws DataLoadingException {
+        assertEquals(Optional.empty(), bookShelf.take(BookShelf.pathOf(ACTIVE_FILE, "work")));
+        bookShelf.setLoader(loader);
+        assertEquals(Optional.empty(), bookShelf.take(BookShelf.pathOf(ACTIVE_FILE, "missing")));
+    }
+
+    @Test
+    public void search_loadsEachBookOnce() {
+        bookShelf.setLoader(loader);
+        assertEquals(Map.of("work", List.of(ALICE)), bookShelf.search(ACTIVE_FILE, List.of("alice")));
+        assertEquals(2, loader.getLoadCount());
+
+        assertEquals(Map.of("home", List.of(CARL)), bookShelf.search(ACTIVE_FILE, List.of("carl")));
+        assertEquals(2, loader.getLoadCount());
+    }
+
+    @Test
+    public void search_evictedBook_skippedByIndex() {
+        BookShelf smallShelf = new BookShelf(0);
+        smallShelf.setLoader(loader);
+        smallShelf.search(ACTIVE_FILE, List.of("alice"));
+        assertEquals(2, loader.getLoadCount());
+
+        // nothing is cached, but only the book whose index matches is loaded again
+        assertEquals(Map.of("home", List.of(CARL)), smallShelf.search(ACTIVE_FILE, List.of("Kurz")));
+        assertEquals(3, loader.getLoadCount());
+        assertEquals(Map.of(), smallShelf.search(ACTIVE_FILE, List.of("nobody")));
+        assertEquals(3, loader.getLoadCount());
+    }
+
+    @Test
+    public void search_skipsActiveAndUnreadableBooks() {
+        bookShelf.setLoader(new BookLoaderStub().withBook("main", WORK).withUnreadableBook("broken"));
+        assertEquals(Map.of(), bookShelf.search(ACTIVE_FILE, List.of("alice")));
+    }
+}
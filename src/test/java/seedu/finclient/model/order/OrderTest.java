@@ -245,4 +245,12 @@ public class OrderTest {
         String invalidOrderString = "BUY 99999999999999999999999999 @ $5.50";
         assertThrows(IllegalArgumentException.class, () -> new Order(invalidOrderString));
     }
+
+    @Test
+    public void getPriceInCents() {
+        assertEquals(550, new Order(OrderType.BUY, "5.50", 1).getPriceInCents());
+        assertEquals(550, new Order(OrderType.BUY, "5.5", 1).getPriceInCents());
+        assertEquals(507, new Order(OrderType.BUY, "5.07", 1).getPriceInCents());
+        assertEquals(1200, new Order(OrderType.SELL, "12", 1).getPriceInCents());
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.finclient.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
@@ -13,6 +14,13 @@ public class CompanyTest {
         assertThrows(NullPointerException.class, () -> new Company(null));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Company.of("Zenith Finance"), Company.of("Zenith Finance"));
+        assertSame(Company.empty(), Company.empty());
+        assertThrows(IllegalArgumentException.class, () -> Company.of(" "));
+    }
+
     @Test
     public void constructor_invalidEmail_throwsIllegalArgumentException() {
         String invalidCompany = "";
@@ -0,0 +1,102 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.getPersonWithMeetingAt;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.testutil.PersonBuilder;
+
+public class DeadlineIndexTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2030, 5, 1, 12, 0);
+
+    private static final Person EARLY = getPersonWithMeetingAt("Early Person", "91000001", NOON.minusDays(1));
+    private static final Person MIDDLE = getPersonWithMeetingAt("Middle Person", "91000002", NOON);
+    private static final Person MIDDLE_TWIN = getPersonWithMeetingAt("Middle Twin", "91000003", NOON);
+    private static final Person LATE = getPersonWithMeetingAt("Late Person", "91000004", NOON.plusDays(7));
+
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+
+    @Test
+    public void add_personWithoutTimestamp_notIndexed() {
+        deadlineIndex.add(ALICE);
+        assertEquals(0, deadlineIndex.size());
+    }
+
+    @Test
+    public void upcoming_returnsEarliestFromStart() {
+        addAll(LATE, MIDDLE, EARLY, MIDDLE_TWIN);
+        assertEquals(List.of(MIDDLE, MIDDLE_TWIN), deadlineIndex.upcoming(NOON, 2));
+        assertEquals(List.of(EARLY, MIDDLE, MIDDLE_TWIN, LATE), deadlineIndex.upcoming(NOON.minusYears(1), 10));
+        assertEquals(List.of(), deadlineIndex.upcoming(NOON.plusYears(1), 10));
+        assertThrows(NullPointerException.class, () -> deadlineIndex.upcoming(null, 1));
+    }
+
+    @Test
+    public void upcoming_hiddenPersonSkipped() {
+        Person hidden = new PersonBuilder(MIDDLE).build().withHidden(true);
+        addAll(hidden, LATE);
+        assertEquals(List.of(LATE), deadlineIndex.upcoming(NOON, 1));
+    }
+
+    @Test
+    public void between_returnsPersonsInWindow() {
+        addAll(LATE, MIDDLE, EARLY);
+        assertEquals(List.of(MIDDLE), deadlineIndex.between(NOON, NOON.plusDays(7)));
+        assertEquals(List.of(MIDDLE, LATE), deadlineIndex.between(NOON, NOON.plusDays(7).plusMinutes(1)));
+        assertEquals(List.of(), deadlineIndex.between(NOON, NOON));
+        assertEquals(List.of(), deadlineIndex.between(NOON.plusDays(1), NOON));
+    }
+
+    @Test
+    public void remove_indexedPerson_removed() {
+        addAll(MIDDLE, MIDDLE_TWIN);
+        deadlineIndex.remove(MIDDLE);
+        assertEquals(List.of(MIDDLE_TWIN), deadlineIndex.upcoming(NOON, 5));
+        deadlineIndex.remove(MIDDLE_TWIN);
+        deadlineIndex.remove(ALICE);
+        assertEquals(0, deadlineIndex.size());
+    }
+
+    @Test
+    public void remove_equalButDistinctPerson_removesOnlyThatPerson() {
+        Person copy = new PersonBuilder(MIDDLE).build();
+        addAll(MIDDLE, copy);
+        deadlineIndex.remove(copy);
+        assertEquals(1, deadlineIndex.size());
+        assertSame(MIDDLE, deadlineIndex.upcoming(NOON, 5).get(0));
+    }
+
+    @Test
+    public void uniquePersonList_mutations_keepIndexInSync() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(LATE);
+        uniquePersonList.add(EARLY);
+        Person rescheduled = new PersonBuilder(EARLY).withRemark("Moved", Optional.of(NOON.plusDays(30))).build();
+        uniquePersonList.setPerson(EARLY, rescheduled);
+        assertEquals(List.of(LATE, rescheduled),
+                uniquePersonList.personsWithDeadlineBetween(NOON.minusYears(1), NOON.plusYears(1)));
+
+        uniquePersonList.remove(LATE);
+        assertEquals(List.of(rescheduled),
+                uniquePersonList.personsWithDeadlineBetween(NOON.minusYears(1), NOON.plusYears(1)));
+
+        uniquePersonList.setPersons(List.of(MIDDLE));
+        assertEquals(List.of(MIDDLE),
+                uniquePersonList.personsWithDeadlineBetween(NOON.minusYears(1), NOON.plusYears(1)));
+    }
+
+    private void addAll(Person... persons) {
+        for (Person person : persons) {
+            deadlineIndex.add(person);
+        }
+    }
+}
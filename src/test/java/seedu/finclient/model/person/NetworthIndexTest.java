@@ -0,0 +1,146 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.testutil.PersonBuilder;
+
+public class NetworthIndexTest {
+
+    private static final Person POOR = personWith("Poor Person", "91000001", "50000");
+    private static final Person MIDDLE = personWith("Middle Person", "91000002", "300000");
+    private static final Person MIDDLE_TWIN = personWith("Middle Twin", "91000003", "300000");
+    private static final Person RICH = personWith("Rich Person", "91000004", "6000000");
+
+    private final NetworthIndex networthIndex = new NetworthIndex();
+
+    @Test
+    public void add_personWithBracketOnly_notIndexed() {
+        networthIndex.add(personWith("Bracket Person", "91000005", "$100k - $250k"));
+        networthIndex.add(new PersonBuilder(ALICE).withNetworth().build());
+        assertEquals(0, networthIndex.size());
+    }
+
+    @Test
+    public void between_returnsPersonsInRange() {
+        addAll(RICH, MIDDLE, POOR, MIDDLE_TWIN);
+        assertEquals(List.of(MIDDLE, MIDDLE_TWIN), networthIndex.between(300000, 300000));
+        assertEquals(List.of(POOR, MIDDLE, MIDDLE_TWIN), networthIndex.between(0, 5000000));
+        assertEquals(List.of(RICH), networthIndex.between(2000000, Long.MAX_VALUE));
+        assertEquals(List.of(), networthIndex.between(300001, 5999999));
+        assertEquals(List.of(), networthIndex.between(5000000, 0));
+    }
+
+    @Test
+    public void countBetween_countsPersonsInRange() {
+        addAll(RICH, MIDDLE, POOR, MIDDLE_TWIN);
+        assertEquals(2, networthIndex.countBetween(300000, 300000));
+        assertEquals(4, networthIndex.countBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(0, networthIndex.countBetween(300001, 5999999));
+        assertEquals(0, networthIndex.countBetween(5000000, 0));
+    }
+
+    @Test
+    public void top_returnsRichestFirst() {
+        addAll(MIDDLE, POOR, RICH, MIDDLE_TWIN);
+        assertEquals(List.of(RICH, MIDDLE), networthIndex.top(2));
+        assertEquals(List.of(RICH, MIDDLE, MIDDLE_TWIN, POOR), networthIndex.top(10));
+        assertEquals(List.of(), networthIndex.top(0));
+    }
+
+    @Test
+    public void listing_hiddenPersonSkipped() {
+        Person hidden = new PersonBuilder(RICH).build().withHidden(true);
+        addAll(hidden, MIDDLE);
+        assertEquals(List.of(MIDDLE), networthIndex.top(1));
+        assertEquals(List.of(MIDDLE), networthIndex.between(0, Long.MAX_VALUE));
+        assertEquals(2, networthIndex.countBetween(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void percentile_nearestRank() {
+        assertEquals(OptionalLong.empty(), networthIndex.percentile(50));
+        addAll(RICH, MIDDLE, POOR, MIDDLE_TWIN);
+        assertEquals(OptionalLong.of(50000), networthIndex.percentile(0));
+        assertEquals(OptionalLong.of(50000), networthIndex.percentile(25));
+        assertEquals(OptionalLong.of(300000), networthIndex.percentile(50));
+        assertEquals(OptionalLong.of(300000), networthIndex.percentile(75));
+        assertEquals(OptionalLong.of(6000000), networthIndex.percentile(100));
+        assertThrows(IllegalArgumentException.class, () -> networthIndex.percentile(101));
+        assertThrows(IllegalArgumentException.class, () -> networthIndex.percentile(-1));
+    }
+
+    @Test
+    public void remove_indexedPerson_removed() {
+        addAll(MIDDLE, MIDDLE_TWIN, POOR);
+        networthIndex.remove(MIDDLE);
+        assertEquals(List.of(POOR, MIDDLE_TWIN), networthIndex.between(0, Long.MAX_VALUE));
+        networthIndex.remove(MIDDLE_TWIN);
+        networthIndex.remove(ALICE);
+        assertEquals(List.of(POOR), networthIndex.between(0, Long.MAX_VALUE));
+        networthIndex.remove(POOR);
+        assertEquals(0, networthIndex.size());
+    }
+
+    @Test
+    public void randomMutations_matchSortedList() {
+        Random random = new Random(36);
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                Person person = personWith("Person " + i, String.valueOf(90000000 + i),
+                        String.valueOf(random.nextInt(1000) * 10000));
+                expected.add(person);
+                networthIndex.add(person);
+            } else {
+                networthIndex.remove(expected.remove(random.nextInt(expected.size())));
+            }
+        }
+        expected.sort(Comparator.comparingLong(person -> person.getNetworth().getAmount()));
+
+        assertEquals(expected.size(), networthIndex.size());
+        assertEquals(expected.stream().map(person -> person.getNetworth().getAmount()).toList(),
+                networthIndex.between(0, Long.MAX_VALUE).stream()
+                        .map(person -> person.getNetworth().getAmount()).toList());
+        long median = expected.get((expected.size() + 1) / 2 - 1).getNetworth().getAmount();
+        assertEquals(OptionalLong.of(median), networthIndex.percentile(50));
+        assertEquals(expected.stream().filter(person -> person.getNetworth().getAmount() >= 2000000
+                        && person.getNetworth().getAmount() <= 3000000).count(),
+                networthIndex.countBetween(2000000, 3000000));
+    }
+
+    @Test
+    public void uniquePersonList_mutations_keepIndexInSync() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(RICH);
+        uniquePersonList.add(POOR);
+        Person richer = new PersonBuilder(POOR).withNetworth("9000000").build();
+        uniquePersonList.setPerson(POOR, richer);
+        assertEquals(List.of(richer, RICH), uniquePersonList.richestPersons(5));
+
+        uniquePersonList.remove(RICH);
+        assertEquals(List.of(richer), uniquePersonList.personsWithNetworthBetween(0, Long.MAX_VALUE));
+
+        uniquePersonList.setPersons(List.of(MIDDLE));
+        assertEquals(OptionalLong.of(300000), uniquePersonList.networthPercentile(50));
+    }
+
+    private void addAll(Person... persons) {
+        for (Person person : persons) {
+            networthIndex.add(person);
+        }
+    }
+
+    private static Person personWith(String name, String phone, String networth) {
+        return new PersonBuilder().withName(name).withPhone(phone).withNetworth(networth).build();
+    }
+}
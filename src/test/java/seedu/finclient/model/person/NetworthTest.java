@@ -2,9 +2,12 @@ package seedu.finclient.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class NetworthTest {
@@ -54,6 +57,50 @@ public class NetworthTest {
         assertFalse(Networth.isBracket("500000"));
     }
 
+    @Test
+    public void of_bracketName_returnsSameInstance() {
+        assertSame(Networth.of("< $100k"), Networth.of("< $100k"));
+        assertSame(Networth.of("Hidden"), Networth.of("Hidden"));
+        assertEquals(Networth.of("< $100k").getBracket(), Networth.of("99999").getBracket());
+        assertEquals(new Networth("2000000"), Networth.of("2000000"));
+        assertEquals(2000000, Networth.of("2000000").getAmount());
+        assertThrows(IllegalArgumentException.class, () -> Networth.of("-1"));
+    }
+
+    @Test
+    public void getAmount() {
+        assertTrue(new Networth("0").hasAmount());
+        assertEquals(0, new Networth("0").getAmount());
+        assertEquals(150000, new Networth("150000").getAmount());
+
+        assertFalse(new Networth("$100k - $250k").hasAmount());
+        assertEquals(Networth.UNKNOWN_AMOUNT, new Networth("$100k - $250k").getAmount());
+        assertFalse(new Networth("Hidden").hasAmount());
+        assertFalse(new Networth().hasAmount());
+    }
+
+    @Test
+    public void getBracket() {
+        assertEquals(Optional.of(Networth.Bracket.FROM_100K), new Networth("150000").getBracket());
+        assertEquals(Optional.of(Networth.Bracket.FROM_100K), new Networth("$100k - $250k").getBracket());
+        assertEquals(Optional.empty(), new Networth("Hidden").getBracket());
+        assertEquals(Optional.empty(), new Networth().getBracket());
+    }
+
+    @Test
+    public void getComparableAmount() {
+        assertEquals(150000, new Networth("150000").getComparableAmount());
+        assertEquals(100000, new Networth("$100k - $250k").getComparableAmount());
+        assertEquals(-1, new Networth("Hidden").getComparableAmount());
+    }
+
+    @Test
+    public void toStorageString() {
+        assertEquals("150000", new Networth("150000").toStorageString());
+        assertEquals("$100k - $250k", new Networth("$100k - $250k").toStorageString());
+        assertEquals("Hidden", new Networth("Hidden").toStorageString());
+    }
+
     @Test
     public void getNetworthBracket() {
         // check correct bucket assignment
@@ -100,6 +147,12 @@ public class NetworthTest {
 
         // different values -> returns false
         assertFalse(networth.equals(new Networth("500000")));
+
+        // same bracket, different amounts -> returns false
+        assertFalse(new Networth("2000000").equals(new Networth("3000000")));
+
+        // exact amount and its bracket name -> returns false
+        assertFalse(networth.equals(new Networth("$1 million - $5 million")));
     }
 
     @Test
@@ -137,4 +190,12 @@ public class NetworthTest {
         Networth networth = new Networth("1000000");
         assertThrows(NullPointerException.class, () -> networth.compareTo(null));
     }
+
+    @Test
+    public void getBracketIndex() {
+        assertEquals(0, new Networth("50000").getBracketIndex());
+        assertEquals(5, new Networth("> $5 million").getBracketIndex());
+        assertEquals(-1, new Networth("Hidden").getBracketIndex());
+        assertEquals(-1, new Networth().getBracketIndex());
+    }
 }
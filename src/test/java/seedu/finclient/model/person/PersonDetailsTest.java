@@ -0,0 +1,52 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonDetailsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonDetails(null, ALICE.getAddress()));
+        assertThrows(NullPointerException.class, () -> new PersonDetails(ALICE.getEmail(), null));
+    }
+
+    @Test
+    public void get_returnsItself() {
+        PersonDetails details = detailsOf(ALICE);
+        assertSame(details, details.get());
+    }
+
+    @Test
+    public void equals() {
+        PersonDetails details = detailsOf(ALICE);
+
+        // same values -> returns true
+        assertTrue(details.equals(detailsOf(ALICE)));
+        assertEquals(details.hashCode(), detailsOf(ALICE).hashCode());
+
+        // same object -> returns true
+        assertTrue(details.equals(details));
+
+        // null -> returns false
+        assertFalse(details.equals(null));
+
+        // different type -> returns false
+        assertFalse(details.equals(ALICE));
+
+        // different values -> returns false
+        assertFalse(details.equals(detailsOf(BENSON)));
+        assertFalse(details.equals(new PersonDetails(ALICE.getEmail(), BENSON.getAddress())));
+    }
+
+    private static PersonDetails detailsOf(Person person) {
+        return new PersonDetails(person.getEmail(), person.getAddress());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.testutil.PersonBuilder;
+
+public class PersonIsOneOfPredicateTest {
+
+    @Test
+    public void equals() {
+        PersonIsOneOfPredicate firstPredicate = new PersonIsOneOfPredicate(List.of(ALICE));
+        PersonIsOneOfPredicate secondPredicate = new PersonIsOneOfPredicate(List.of(ALICE, BENSON));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same persons -> returns true
+        assertTrue(firstPredicate.equals(new PersonIsOneOfPredicate(List.of(ALICE))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different persons -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personIsOneOf_returnsTrue() {
+        assertTrue(new PersonIsOneOfPredicate(List.of(ALICE, BENSON)).test(BENSON));
+    }
+
+    @Test
+    public void test_equalPersonThatIsNotOneOf_returnsFalse() {
+        PersonIsOneOfPredicate predicate = new PersonIsOneOfPredicate(List.of(ALICE));
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonIsOneOfPredicate predicate = new PersonIsOneOfPredicate(List.of(ALICE));
+        assertEquals(PersonIsOneOfPredicate.class.getCanonicalName() + "{persons=[" + ALICE + "]}",
+                predicate.toString());
+    }
+}
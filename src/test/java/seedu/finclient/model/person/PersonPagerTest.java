@@ -0,0 +1,101 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+import static seedu.finclient.testutil.TypicalPersons.DANIEL;
+import static seedu.finclient.testutil.TypicalPersons.ELLE;
+import static seedu.finclient.testutil.TypicalPersons.FIONA;
+import static seedu.finclient.testutil.TypicalPersons.GEORGE;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.finclient.model.person.exceptions.InvalidCursorException;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class PersonPagerTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonPager pager = new PersonPager(persons);
+
+    @Test
+    public void getPages_unchangedList_readsWholeListInOrder() {
+        List<Person> read = new ArrayList<>();
+        PersonPage page = pager.getFirstPage(3);
+        read.addAll(page.getPersons());
+        while (page.getNextCursor().isPresent()) {
+            page = pager.getNextPage(page.getNextCursor().get(), 3);
+            assertEquals(7, page.getTotalSize());
+            read.addAll(page.getPersons());
+        }
+        assertEquals(getTypicalPersons(), read);
+        assertEquals(List.of(GEORGE), page.getPersons());
+    }
+
+    @Test
+    public void getFirstPage_wholeListFits_hasNoNextCursor() {
+        assertEquals(new PersonPage(getTypicalPersons(), Optional.empty(), 7), pager.getFirstPage(7));
+        assertEquals(new PersonPage(List.of(), Optional.empty(), 0), new PersonPager(
+                FXCollections.observableArrayList()).getFirstPage(1));
+    }
+
+    @Test
+    public void getNextPage_personsRemovedBeforeCursor_doesNotSkip() {
+        String cursor = pager.getFirstPage(3).getNextCursor().get();
+        persons.remove(ALICE);
+        persons.remove(BENSON);
+        assertEquals(List.of(DANIEL, ELLE, FIONA), pager.getNextPage(cursor, 3).getPersons());
+    }
+
+    @Test
+    public void getNextPage_personsAddedBeforeCursor_doesNotRepeat() {
+        String cursor = pager.getFirstPage(3).getNextCursor().get();
+        persons.add(0, HOON);
+        persons.add(4, persons.remove(6));
+        assertEquals(List.of(FIONA, DANIEL, ELLE), pager.getNextPage(cursor, 3).getPersons());
+    }
+
+    @Test
+    public void getNextPage_lastPersonOfPageRemoved_throwsInvalidCursorException() {
+        String cursor = pager.getFirstPage(3).getNextCursor().get();
+        persons.remove(CARL);
+        assertThrows(InvalidCursorException.class, PersonPager.MESSAGE_EXPIRED_CURSOR, () ->
+                pager.getNextPage(cursor, 3));
+    }
+
+    @Test
+    public void getNextPage_lastPersonOfPageReplacedByNamesake_throwsInvalidCursorException() {
+        String cursor = pager.getFirstPage(3).getNextCursor().get();
+        persons.set(2, new PersonBuilder(CARL).withPhone("81234567").build());
+        assertThrows(InvalidCursorException.class, PersonPager.MESSAGE_EXPIRED_CURSOR, () ->
+                pager.getNextPage(cursor, 3));
+    }
+
+    @Test
+    public void getNextPage_invalidCursor_throwsInvalidCursorException() {
+        assertThrows(NullPointerException.class, () -> pager.getNextPage(null, 3));
+        assertThrows(InvalidCursorException.class, PersonPager.MESSAGE_INVALID_CURSOR, () ->
+                pager.getNextPage("", 3));
+        assertThrows(InvalidCursorException.class, PersonPager.MESSAGE_INVALID_CURSOR, () ->
+                pager.getNextPage("not a cursor!", 3));
+        assertThrows(InvalidCursorException.class, PersonPager.MESSAGE_INVALID_CURSOR, () ->
+                pager.getNextPage("MDpYOlk", 3));
+    }
+
+    @Test
+    public void getPage_nonPositivePageSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> pager.getFirstPage(0));
+        String cursor = pager.getFirstPage(3).getNextCursor().get();
+        assertThrows(IllegalArgumentException.class, () -> pager.getNextPage(cursor, -1));
+    }
+}
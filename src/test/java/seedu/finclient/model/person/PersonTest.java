@@ -2,6 +2,7 @@ package seedu.finclient.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.finclient.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,7 +13,9 @@ import static seedu.finclient.testutil.TypicalPersons.BENSON;
 import static seedu.finclient.testutil.TypicalPersons.BOB;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +23,20 @@ import seedu.finclient.testutil.PersonBuilder;
 
 public class PersonTest {
 
+    @Test
+    public void withHidden() {
+        Person person = new PersonBuilder(ALICE).build();
+        Person hidden = person.withHidden(true);
+        assertTrue(hidden.getIsHidden());
+        assertFalse(person.getIsHidden());
+        assertEquals(person, hidden);
+
+        Person revealed = hidden.withHidden(false);
+        assertFalse(revealed.getIsHidden());
+        assertEquals(ALICE.getOrder(), revealed.getOrder());
+        assertEquals(ALICE.getNetworth(), revealed.getNetworth());
+    }
+
     @Test
     public void constructor_validInputs_createsPerson() {
         // Construct a valid person object
@@ -51,11 +68,42 @@ public class PersonTest {
                         null, null, null, null, null));
     }
 
+    @Test
+    public void lazyConstructor_detailsSuppliedWhenRead() {
+        AtomicInteger supplyCount = new AtomicInteger();
+        PersonDetails details = new PersonDetails(ALICE.getEmail(), ALICE.getAddress());
+        Person person = new Person(ALICE.getName(), ALICE.getPhoneList(), ALICE.getOrder(), ALICE.getRemark(),
+                ALICE.getTags(), ALICE.getCompany(), ALICE.getJob(), ALICE.getStockPlatform(), ALICE.getNetworth(),
+                false, () -> {
+                    supplyCount.incrementAndGet();
+                    return details;
+                });
+
+        // identity, sort, statistics and auction inputs do not need the details
+        assertTrue(person.isSamePerson(ALICE));
+        assertEquals(0, person.compareTo(ALICE, "price"));
+        assertEquals(0, person.compareTo(ALICE, "networth"));
+        assertEquals(0, person.compareTo(ALICE, "deadline"));
+        assertEquals(ALICE.getTags(), person.getTags());
+        assertEquals(ALICE.getCompany(), person.getCompany());
+        assertEquals(ALICE.getJob(), person.getJob());
+        assertEquals(ALICE.getStockPlatform(), person.getStockPlatform());
+        Person hidden = person.withHidden(true);
+        assertEquals(HiddenPersonDetails.EMAIL, hidden.getEmail());
+        assertEquals(0, supplyCount.get());
+
+        assertEquals(ALICE.getEmail(), person.getEmail());
+        assertEquals(1, supplyCount.get());
+        assertEquals(ALICE, person);
+        assertEquals(ALICE.hashCode(), person.hashCode());
+        assertEquals(ALICE.toString(), person.toString());
+        assertEquals(ALICE.getCompany(), hidden.withHidden(false).getCompany());
+    }
+
     @Test
     public void testHiddenBehavior() {
         // Hide the person
-        Person hiddenAlice = new PersonBuilder(ALICE).build();
-        hiddenAlice.setHidden();
+        Person hiddenAlice = new PersonBuilder(ALICE).build().withHidden(true);
         assertTrue(hiddenAlice.getIsHidden(), "Person should be hidden.");
 
         // Now verify that the 'hidden' variants are returned
@@ -78,12 +126,30 @@ public class PersonTest {
         assertTrue(hiddenAlice.getTags().isEmpty(), "Tags should be empty when hidden.");
     }
 
+    @Test
+    public void hiddenDetails_sharedAcrossHiddenPersons() {
+        Person hiddenAlice = new PersonBuilder(ALICE).build().withHidden(true);
+        Person hiddenBenson = new PersonBuilder(BENSON).build().withHidden(true);
+
+        assertSame(hiddenAlice.getPhoneList(), hiddenBenson.getPhoneList());
+        assertSame(hiddenAlice.getEmail(), hiddenBenson.getEmail());
+        assertSame(hiddenAlice.getOrder(), hiddenBenson.getOrder());
+        assertSame(hiddenAlice.getRemark(), hiddenBenson.getRemark());
+        assertSame(hiddenAlice.getNetworth(), hiddenAlice.getNetworth());
+        assertSame(hiddenAlice.getTags(), hiddenBenson.getTags());
+
+        // the shared placeholders cannot be modified through any hidden person
+        assertThrows(UnsupportedOperationException.class, () ->
+                hiddenAlice.getPhoneList().addPhone(new Phone("81234567")));
+        assertThrows(UnsupportedOperationException.class, () -> hiddenBenson.getPhoneList().phoneSet.clear());
+        assertEquals(List.of(new Phone("00000000")), hiddenBenson.getPhoneList().phoneList);
+    }
+
     @Test
     public void testUnhiddenBehavior() {
         // Unhide after hiding the person
-        Person hiddenAlice = new PersonBuilder(ALICE).build();
-        hiddenAlice.setHidden();
-        hiddenAlice.setUnhidden();
+        Person hiddenAlice = new PersonBuilder(ALICE).build().withHidden(true);
+        hiddenAlice = hiddenAlice.withHidden(false);
         assertFalse(hiddenAlice.getIsHidden(), "Person should be unhidden.");
 
         // Verify original details are returned after unhidden
@@ -271,8 +337,7 @@ public class PersonTest {
     @Test
     public void toString_hiddenPerson_displaysHiddenDetails() {
         // Hide the person and check the toString method
-        Person hiddenAlice = new PersonBuilder(ALICE).build();
-        hiddenAlice.setHidden();
+        Person hiddenAlice = new PersonBuilder(ALICE).build().withHidden(true);
         String hiddenString = hiddenAlice.toString();
         assertTrue(hiddenString.contains("Sensitive details are hidden"),
                 "Hidden person's toString() should indicate that details are hidden.");
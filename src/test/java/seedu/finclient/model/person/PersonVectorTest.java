@@ -0,0 +1,107 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonVectorTest {
+
+    @Test
+    public void empty_hasNoPersons() {
+        assertTrue(PersonVector.empty().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> PersonVector.empty().get(0));
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Person> persons = getTypicalPersons();
+        assertEquals(persons, PersonVector.of(persons));
+        assertEquals(persons, new ArrayList<>(PersonVector.of(persons)));
+    }
+
+    @Test
+    public void withPersonInserted_leavesOriginalUnchanged() {
+        PersonVector original = PersonVector.of(Arrays.asList(ALICE, CARL));
+        PersonVector updated = original.withPersonInserted(1, BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL), original);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), updated);
+    }
+
+    @Test
+    public void withPersonAt_leavesOriginalUnchanged() {
+        PersonVector original = PersonVector.of(Arrays.asList(ALICE, CARL));
+        PersonVector updated = original.withPersonAt(1, BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL), original);
+        assertEquals(Arrays.asList(ALICE, BENSON), updated);
+    }
+
+    @Test
+    public void withPersonRemoved_leavesOriginalUnchanged() {
+        PersonVector original = PersonVector.of(Arrays.asList(ALICE, BENSON, CARL));
+        PersonVector updated = original.withPersonRemoved(0);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), original);
+        assertEquals(Arrays.asList(BENSON, CARL), updated);
+        assertTrue(updated.withPersonRemoved(0).withPersonRemoved(0).isEmpty());
+    }
+
+    @Test
+    public void update_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersonVector vector = PersonVector.of(Arrays.asList(ALICE, BENSON));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.withPersonInserted(3, CARL));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.withPersonAt(2, CARL));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.withPersonRemoved(-1));
+    }
+
+    @Test
+    public void update_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonVector.empty().withPersonInserted(0, null));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        List<Person> persons = getTypicalPersons();
+        Random random = new Random(42);
+        List<Person> expected = new ArrayList<>();
+        PersonVector vector = PersonVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            Person person = persons.get(random.nextInt(persons.size()));
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, person);
+                vector = vector.withPersonInserted(index, person);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, person);
+                vector = vector.withPersonAt(index, person);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.withPersonRemoved(index);
+            }
+        }
+        assertEquals(expected, vector);
+        assertEquals(expected.size(), vector.size());
+    }
+
+    @Test
+    public void iterator_largeVector_visitsPersonsInOrder() {
+        List<Person> persons = new ArrayList<>(Collections.nCopies(10_000, ALICE));
+        persons.set(5_000, BENSON);
+        List<Person> visited = new ArrayList<>();
+        PersonVector.of(persons).forEach(visited::add);
+        assertEquals(persons, visited);
+    }
+}
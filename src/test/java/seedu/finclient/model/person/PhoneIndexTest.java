@@ -0,0 +1,97 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.IDA;
+import static seedu.finclient.testutil.TypicalPersons.TOONOMBER;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.testutil.PersonBuilder;
+
+public class PhoneIndexTest {
+
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+
+    @Test
+    public void normalize() {
+        assertEquals("6591234567", PhoneIndex.normalize("+65 9123-4567"));
+        assertEquals("", PhoneIndex.normalize("abc"));
+        assertThrows(NullPointerException.class, () -> PhoneIndex.normalize(null));
+    }
+
+    @Test
+    public void lookup_everyNumberOfPerson_findsPerson() {
+        phoneIndex.add(ALICE);
+        phoneIndex.add(TOONOMBER);
+        assertEquals(List.of(ALICE), phoneIndex.lookup("94351253"));
+        assertEquals(List.of(TOONOMBER), phoneIndex.lookup("8482131"));
+        assertEquals(List.of(TOONOMBER), phoneIndex.lookup("8111 2222"));
+        assertEquals(List.of(), phoneIndex.lookup("12345678"));
+    }
+
+    @Test
+    public void sharedNumbers_tracksNumbersWithSeveralPersons() {
+        phoneIndex.add(IDA);
+        phoneIndex.add(HOON);
+        assertEquals(Map.of(), phoneIndex.sharedNumbers());
+
+        phoneIndex.add(TOONOMBER);
+        assertEquals(Map.of("8482131", List.of(IDA, TOONOMBER)), phoneIndex.sharedNumbers());
+        assertEquals(List.of(IDA, TOONOMBER), phoneIndex.lookup("8482131"));
+
+        phoneIndex.remove(IDA);
+        assertEquals(Map.of(), phoneIndex.sharedNumbers());
+        assertEquals(List.of(TOONOMBER), phoneIndex.lookup("8482131"));
+    }
+
+    @Test
+    public void remove_equalButDistinctPerson_removesOnlyThatPerson() {
+        Person copy = new PersonBuilder(ALICE).build();
+        phoneIndex.add(ALICE);
+        phoneIndex.add(copy);
+        phoneIndex.remove(copy);
+        phoneIndex.remove(copy);
+        assertEquals(1, phoneIndex.lookup("94351253").size());
+        assertEquals(ALICE, phoneIndex.lookup("94351253").get(0));
+        assertEquals(Map.of(), phoneIndex.sharedNumbers());
+    }
+
+    @Test
+    public void uniquePersonList_removeEqualButDistinctPerson_removedFromIndex() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        Person amy = new PersonBuilder().withName("Amy").withPhone("91234567").withNetworth("150000").build();
+        uniquePersonList.add(amy);
+        uniquePersonList.remove(new PersonBuilder(amy).build());
+        assertEquals(List.of(), uniquePersonList.personsWithPhone("91234567"));
+    }
+
+    @Test
+    public void lookup_hiddenPerson_leftOutUntilRevealed() {
+        Person hidden = new PersonBuilder(TOONOMBER).build().withHidden(true);
+        phoneIndex.add(IDA);
+        phoneIndex.add(hidden);
+        assertEquals(List.of(), phoneIndex.lookup("81112222"));
+        assertEquals(List.of(), phoneIndex.lookup("00000000"));
+        assertEquals(Map.of(), phoneIndex.sharedNumbers());
+
+        Person revealed = hidden.withHidden(false);
+        phoneIndex.remove(hidden);
+        phoneIndex.add(revealed);
+        assertEquals(List.of(revealed), phoneIndex.lookup("81112222"));
+    }
+
+    @Test
+    public void clear() {
+        phoneIndex.add(IDA);
+        phoneIndex.add(TOONOMBER);
+        phoneIndex.clear();
+        assertEquals(List.of(), phoneIndex.lookup("8482131"));
+        assertEquals(Map.of(), phoneIndex.sharedNumbers());
+    }
+}
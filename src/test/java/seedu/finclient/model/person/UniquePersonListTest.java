@@ -2,6 +2,7 @@ package seedu.finclient.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.finclient.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -15,6 +16,7 @@ import static seedu.finclient.testutil.TypicalPersons.FIONA;
 import static seedu.finclient.testutil.TypicalPersons.GEORGE;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -22,8 +24,11 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.finclient.model.person.exceptions.DuplicatePersonException;
 import seedu.finclient.model.person.exceptions.PersonNotFoundException;
+import seedu.finclient.model.sort.PersonSorter;
+import seedu.finclient.model.sort.SortCriterion;
 import seedu.finclient.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -134,6 +139,23 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalButDistinctPerson_removedFromNetworthIndex() {
+        Person amy = new PersonBuilder().withName("Amy").withNetworth("150000").build();
+        uniquePersonList.add(amy);
+        uniquePersonList.remove(new PersonBuilder(amy).build());
+        assertTrue(uniquePersonList.personsWithNetworthBetween(0, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void setPerson_equalButDistinctTarget_storedPersonReplacedInNetworthIndex() {
+        Person amy = new PersonBuilder().withName("Amy").withNetworth("150000").build();
+        uniquePersonList.add(amy);
+        Person editedAmy = new PersonBuilder(amy).withNetworth("3000000").build();
+        uniquePersonList.setPerson(new PersonBuilder(amy).build(), editedAmy);
+        assertEquals(List.of(editedAmy), uniquePersonList.personsWithNetworthBetween(0, Long.MAX_VALUE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -189,10 +211,9 @@ public class UniquePersonListTest {
         // Hide ALICE
         uniquePersonList.hidePerson(ALICE);
 
-        // After hiding, ALICE should be hidden
-        assertTrue(ALICE.getIsHidden(), "ALICE should now be hidden.");
-
-        uniquePersonList.revealPerson(ALICE);
+        // After hiding, ALICE is replaced by a hidden copy and left unchanged herself
+        assertTrue(storedPerson(0).getIsHidden(), "ALICE should now be hidden.");
+        assertFalse(ALICE.getIsHidden(), "ALICE herself should stay unhidden.");
     }
 
     @Test
@@ -202,9 +223,7 @@ public class UniquePersonListTest {
         uniquePersonList.hidePerson(BOB);
 
         // ALICE still in the list, still unhidden
-        assertFalse(ALICE.getIsHidden(), "ALICE should remain unhidden because we tried to hide BOB.");
-
-        uniquePersonList.revealPerson(BOB);
+        assertFalse(storedPerson(0).getIsHidden(), "ALICE should remain unhidden because we tried to hide BOB.");
     }
 
     @Test
@@ -223,10 +242,8 @@ public class UniquePersonListTest {
         uniquePersonList.hidePerson(nameContainsBob);
 
         // Verify BOB got hidden, ALICE stayed unhidden
-        assertFalse(ALICE.getIsHidden(), "ALICE should still be unhidden.");
-        assertTrue(BOB.getIsHidden(), "BOB should now be hidden.");
-
-        uniquePersonList.revealPerson(nameContainsBob);
+        assertFalse(storedPerson(0).getIsHidden(), "ALICE should still be unhidden.");
+        assertTrue(storedPerson(1).getIsHidden(), "BOB should now be hidden.");
     }
 
     @Test
@@ -234,11 +251,12 @@ public class UniquePersonListTest {
         // Hide ALICE first, then reveal her
         uniquePersonList.add(ALICE);
         uniquePersonList.hidePerson(ALICE);
-        assertTrue(ALICE.getIsHidden(), "ALICE should be hidden after hidePerson.");
+        assertTrue(storedPerson(0).getIsHidden(), "ALICE should be hidden after hidePerson.");
 
-        // Now reveal ALICE
-        uniquePersonList.revealPerson(ALICE);
-        assertFalse(ALICE.getIsHidden(), "ALICE should be revealed now.");
+        // Now reveal ALICE, as she is in the list
+        uniquePersonList.revealPerson(storedPerson(0));
+        assertFalse(storedPerson(0).getIsHidden(), "ALICE should be revealed now.");
+        assertEquals(ALICE, storedPerson(0));
     }
 
     @Test
@@ -249,8 +267,8 @@ public class UniquePersonListTest {
 
         uniquePersonList.hidePerson(ALICE);
         uniquePersonList.hidePerson(BOB);
-        assertTrue(ALICE.getIsHidden(), "ALICE hidden.");
-        assertTrue(BOB.getIsHidden(), "BOB hidden.");
+        assertTrue(storedPerson(0).getIsHidden(), "ALICE hidden.");
+        assertTrue(storedPerson(1).getIsHidden(), "BOB hidden.");
 
         // Reveal all persons whose name contains "alice" (case-insensitive)
         NameContainsKeywordsPredicate nameContainsAlice = new NameContainsKeywordsPredicate(
@@ -258,10 +276,8 @@ public class UniquePersonListTest {
         uniquePersonList.revealPerson(nameContainsAlice);
 
         // ALICE should now be revealed, BOB should remain hidden
-        assertFalse(ALICE.getIsHidden(), "ALICE should be revealed now.");
-        assertTrue(BOB.getIsHidden(), "BOB should remain hidden.");
-
-        uniquePersonList.revealPerson(BOB);
+        assertFalse(storedPerson(0).getIsHidden(), "ALICE should be revealed now.");
+        assertTrue(storedPerson(1).getIsHidden(), "BOB should remain hidden.");
     }
 
     @Test
@@ -311,6 +327,23 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, unsortedUniquePersonList);
     }
 
+    @Test
+    public void sortPersons_unsorted_singlePermutation() {
+        uniquePersonList.setPersons(Arrays.asList(GEORGE, BOB, ALICE));
+        List<Boolean> wasPermutated = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                wasPermutated.add(change.wasPermutated());
+            }
+        });
+
+        uniquePersonList.sortPersons("name");
+
+        assertEquals(Arrays.asList(ALICE, BOB, GEORGE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.snapshot());
+        assertEquals(List.of(true), wasPermutated);
+    }
+
     @Test
     public void sortByPrice_singleOrderType() {
         UniquePersonList unsortedUniquePersonList = new UniquePersonList();
@@ -341,6 +374,27 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, unsortedUniquePersonList);
     }
 
+    @Test
+    public void hideAndRevealPerson_sortedByNetworth_keptSorted() {
+        Person small = new PersonBuilder().withName("Small").withPhone("81110001").withNetworth("50000").build();
+        Person medium = new PersonBuilder().withName("Medium").withPhone("81110002").withNetworth("250000").build();
+        Person large = new PersonBuilder().withName("Large").withPhone("81110003").withNetworth("6000000").build();
+        uniquePersonList.setPersons(Arrays.asList(small, medium, large));
+        uniquePersonList.sortPersons("networth");
+
+        uniquePersonList.hidePerson(large);
+        uniquePersonList.add(new PersonBuilder().withName("Upper").withPhone("81110004")
+                .withNetworth("700000").build());
+        uniquePersonList.add(new PersonBuilder().withName("Tiny").withPhone("81110005")
+                .withNetworth("10").build());
+        assertSortedBy(SortCriterion.NETWORTH);
+
+        uniquePersonList.revealPerson(uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(Person::getIsHidden).findFirst().get());
+        assertSortedBy(SortCriterion.NETWORTH);
+        assertEquals(large, storedPerson(uniquePersonList.asUnmodifiableObservableList().size() - 1));
+    }
+
     @Test
     public void sortByPrice_multipleOrderType() {
         UniquePersonList unsortedUniquePersonList = new UniquePersonList();
@@ -421,4 +475,187 @@ public class UniquePersonListTest {
         unsortedUniquePersonList.sortPersons("deadline");
         expectedUniquePersonList.setPersons(Arrays.asList(personYesterday, personToday, personWithoutDeadline));
     }
+
+    @Test
+    public void add_afterSort_keepsSortOrder() {
+        UniquePersonList sortedUniquePersonList = new UniquePersonList();
+        sortedUniquePersonList.setPersons(Arrays.asList(GEORGE, ALICE));
+        sortedUniquePersonList.sortPersons("name");
+        sortedUniquePersonList.add(BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, GEORGE));
+        assertEquals(expectedUniquePersonList, sortedUniquePersonList);
+    }
+
+    @Test
+    public void setPerson_afterSort_movesEditedPersonToSortedPosition() {
+        UniquePersonList sortedUniquePersonList = new UniquePersonList();
+        sortedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, GEORGE));
+        sortedUniquePersonList.sortPersons("name");
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zoe Pauline").build();
+        sortedUniquePersonList.setPerson(ALICE, renamedAlice);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(BOB, GEORGE, renamedAlice));
+        assertEquals(expectedUniquePersonList, sortedUniquePersonList);
+    }
+
+    @Test
+    public void setPersons_afterSort_keepsSortOrder() {
+        UniquePersonList sortedUniquePersonList = new UniquePersonList();
+        sortedUniquePersonList.sortPersons("name");
+        sortedUniquePersonList.setPersons(Arrays.asList(GEORGE, BOB, ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, GEORGE));
+        assertEquals(expectedUniquePersonList, sortedUniquePersonList);
+    }
+
+    @Test
+    public void applyBatch_nullBatch_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.applyBatch(null));
+    }
+
+    @Test
+    public void applyBatch_mixedOperations_appliesInOrderWithSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.applyBatch(new PersonBatch()
+                .add(BOB)
+                .set(BENSON, editedBenson)
+                .delete(ALICE)
+                .add(GEORGE));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(editedBenson, CARL, BOB, GEORGE));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void restore_afterSingleEdit_replacesOnlyChangedPerson() {
+        Person benson = new PersonBuilder(BENSON).withNetworth("150000").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, benson, CARL));
+        PersonVector before = uniquePersonList.snapshot();
+        Person editedBenson = new PersonBuilder(BENSON).withNetworth("3000000").build();
+        uniquePersonList.setPerson(benson, editedBenson);
+        List<Integer> changedPositions = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changedPositions.add(change.getFrom());
+            }
+        });
+
+        uniquePersonList.restore(before, null);
+
+        assertEquals(before, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(1, 1), changedPositions);
+        assertEquals(List.of(benson), uniquePersonList.personsWithNetworthBetween(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void applyBatch_hideThenReveal_appliesLastVisibility() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson));
+
+        uniquePersonList.applyBatch(new PersonBatch().hide(alice).hide(benson).reveal(benson));
+
+        assertTrue(storedPerson(0).getIsHidden());
+        assertSame(benson, storedPerson(1));
+    }
+
+    @Test
+    public void applyBatch_duplicateResult_throwsDuplicatePersonExceptionAndLeavesListUnchanged() {
+        Person alice = new PersonBuilder(ALICE).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.applyBatch(new PersonBatch()
+                .hide(alice)
+                .delete(BENSON)
+                .add(editedAlice)));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(alice, BENSON));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(alice.getIsHidden());
+    }
+
+    @Test
+    public void applyBatch_deleteThenAddSameIdentity_succeeds() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.applyBatch(new PersonBatch().delete(ALICE).add(editedAlice));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(BENSON, editedAlice));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void applyBatch_deletedPersonTargetedAgain_throwsPersonNotFoundException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.applyBatch(new PersonBatch()
+                .delete(ALICE)
+                .set(ALICE, BOB)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void applyBatch_afterSort_keepsSortOrder() {
+        uniquePersonList.setPersons(Arrays.asList(GEORGE, BENSON));
+        uniquePersonList.sortPersons("name");
+        uniquePersonList.applyBatch(new PersonBatch().add(ALICE).add(CARL));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, GEORGE));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void getVersion_onlyChangesIncreaseVersion() {
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.add(BENSON);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        Person alice = new PersonBuilder(ALICE).build();
+        version = uniquePersonList.getVersion();
+        uniquePersonList.add(alice);
+        uniquePersonList.hidePerson(alice);
+        uniquePersonList.sortPersons("name");
+        assertTrue(uniquePersonList.getVersion() >= version + 3);
+
+        // reading, sorting into the same order and hiding a hidden person change nothing
+        version = uniquePersonList.getVersion();
+        uniquePersonList.contains(alice);
+        uniquePersonList.sortPersons("name");
+        uniquePersonList.hidePerson(alice);
+        assertEquals(version, uniquePersonList.getVersion());
+    }
+
+    @Test
+    public void snapshot_afterMutations_matchesList() {
+        uniquePersonList.sortPersons("name");
+        uniquePersonList.setPersons(Arrays.asList(GEORGE, BENSON));
+        PersonVector beforeMutations = uniquePersonList.snapshot();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(BENSON, new PersonBuilder(BENSON).withName("Zed Meier").build());
+        uniquePersonList.setPerson(ALICE, new PersonBuilder(ALICE).withName("Bea Pauline").build());
+        uniquePersonList.remove(GEORGE);
+        uniquePersonList.applyBatch(new PersonBatch().add(CARL));
+
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.snapshot());
+        assertEquals(Arrays.asList(BENSON, GEORGE), beforeMutations);
+    }
+
+    private void assertSortedBy(SortCriterion criterion) {
+        List<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(PersonSorter.by(criterion).sort(persons), persons);
+    }
+
+    private Person storedPerson(int index) {
+        return uniquePersonList.asUnmodifiableObservableList().get(index);
+    }
 }
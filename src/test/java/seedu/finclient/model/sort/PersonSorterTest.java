@@ -0,0 +1,104 @@
+package seedu.finclient.model.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+import static seedu.finclient.testutil.TypicalPersons.FIONA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class PersonSorterTest {
+
+    private static final Person ALICE_TWIN = new PersonBuilder(ALICE).withName("Alice Twin")
+            .withPhone("91112222").build();
+
+    @Test
+    public void constructor_emptyFields_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonSorter(Collections.emptyList()));
+    }
+
+    @Test
+    public void sort_singleField_sortsAscending() {
+        List<Person> sorted = PersonSorter.by(SortCriterion.NETWORTH).sort(Arrays.asList(FIONA, CARL, ALICE));
+        assertEquals(Arrays.asList(ALICE, CARL, FIONA), sorted);
+    }
+
+    @Test
+    public void sort_descending_reversesOrder() {
+        PersonSorter sorter = new PersonSorter(List.of(new SortField(SortCriterion.NETWORTH, true)));
+        assertEquals(Arrays.asList(FIONA, CARL, ALICE), sorter.sort(Arrays.asList(ALICE, FIONA, CARL)));
+    }
+
+    @Test
+    public void sort_multipleFields_breaksTiesInOrder() {
+        PersonSorter sorter = new PersonSorter(List.of(SortField.ascending(SortCriterion.NETWORTH),
+                new SortField(SortCriterion.NAME, true)));
+        assertEquals(Arrays.asList(ALICE_TWIN, ALICE, BENSON),
+                sorter.sort(Arrays.asList(BENSON, ALICE, ALICE_TWIN)));
+    }
+
+    @Test
+    public void sort_equalKeys_isStable() {
+        PersonSorter sorter = PersonSorter.by(SortCriterion.NETWORTH);
+        assertEquals(Arrays.asList(ALICE_TWIN, ALICE, BENSON), sorter.sort(Arrays.asList(ALICE_TWIN, BENSON, ALICE)));
+        assertEquals(Arrays.asList(ALICE, ALICE_TWIN, BENSON), sorter.sort(Arrays.asList(ALICE, BENSON, ALICE_TWIN)));
+    }
+
+    @Test
+    public void comparator_matchesSort() {
+        PersonSorter sorter = new PersonSorter(List.of(SortField.ascending(SortCriterion.NETWORTH),
+                new SortField(SortCriterion.NAME, true)));
+        List<Person> persons = Arrays.asList(BENSON, ALICE, FIONA, ALICE_TWIN, CARL);
+        List<Person> expected = sorter.sort(persons);
+        persons.sort(sorter.comparator());
+        assertEquals(expected, persons);
+    }
+
+    @Test
+    public void equals() {
+        PersonSorter sorter = PersonSorter.by(SortCriterion.NAME);
+
+        // same values -> returns true
+        assertTrue(sorter.equals(new PersonSorter(List.of(SortField.ascending(SortCriterion.NAME)))));
+
+        // same object -> returns true
+        assertTrue(sorter.equals(sorter));
+
+        // null -> returns false
+        assertFalse(sorter.equals(null));
+
+        // different direction -> returns false
+        assertFalse(sorter.equals(new PersonSorter(List.of(new SortField(SortCriterion.NAME, true)))));
+    }
+
+    @Test
+    public void sort_parallel_matchesSequential() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + (i % 97)).withPhone(String.valueOf(80000000 + i))
+                    .withNetworth(String.valueOf((i * 7919L) % 6_000_000)).build());
+        }
+        PersonSorter sorter = new PersonSorter(List.of(new SortField(SortCriterion.NETWORTH, true),
+                SortField.ascending(SortCriterion.NAME)));
+        assertEquals(sorter.sort(persons, Integer.MAX_VALUE), sorter.sort(persons, 1));
+    }
+
+    @Test
+    public void getDescription() {
+        PersonSorter sorter = new PersonSorter(List.of(new SortField(SortCriterion.NETWORTH, true),
+                SortField.ascending(SortCriterion.DEADLINE), SortField.ascending(SortCriterion.NAME)));
+        assertEquals("networth desc, deadline, name", sorter.getDescription());
+    }
+}
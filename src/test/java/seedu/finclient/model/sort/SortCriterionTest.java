@@ -0,0 +1,64 @@
+package seedu.finclient.model.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CINDY;
+import static seedu.finclient.testutil.TypicalPersons.GEORGE;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class SortCriterionTest {
+
+    @Test
+    public void fromKeyword() {
+        assertThrows(NullPointerException.class, () -> SortCriterion.fromKeyword(null));
+        assertEquals(Optional.of(SortCriterion.NETWORTH), SortCriterion.fromKeyword("networth"));
+        assertEquals(Optional.of(SortCriterion.DEADLINE), SortCriterion.fromKeyword("deadline"));
+        assertEquals(Optional.empty(), SortCriterion.fromKeyword("Networth"));
+        assertEquals(Optional.empty(), SortCriterion.fromKeyword(""));
+    }
+
+    @Test
+    public void keyOf() {
+        assertEquals(SortKey.of(ALICE.getName().fullName), SortCriterion.NAME.keyOf(ALICE));
+        assertEquals(SortKey.of(ALICE.getNetworth().getComparableAmount()), SortCriterion.NETWORTH.keyOf(ALICE));
+        assertTrue(SortCriterion.NAME.keyOf(ALICE).compareTo(SortCriterion.NAME.keyOf(BENSON)) < 0);
+    }
+
+    @Test
+    public void compare_price_buyOrdersFirst() {
+        // same order type -> cheaper first
+        assertTrue(SortCriterion.PRICE.compare(BENSON, ALICE) < 0);
+
+        // BUY before SELL regardless of price
+        assertTrue(SortCriterion.PRICE.compare(ALICE, CINDY) < 0);
+        assertTrue(SortCriterion.PRICE.compare(CINDY, BENSON) > 0);
+    }
+
+    @Test
+    public void compare_networth_unknownBracketFirst() {
+        assertTrue(SortCriterion.NETWORTH.compare(GEORGE, ALICE) < 0);
+        assertTrue(SortCriterion.NETWORTH.compare(BENSON, ALICE) > 0);
+        assertEquals(0, SortCriterion.NETWORTH.compare(ALICE, ALICE));
+    }
+
+    @Test
+    public void compare_deadline_missingTimestampLast() {
+        Person withDeadline = new PersonBuilder().withName("With Deadline")
+                .withRemark("Meeting", Optional.of(LocalDateTime.of(2030, 1, 1, 9, 0))).build();
+        Person withoutDeadline = new PersonBuilder().withName("Without Deadline")
+                .withRemark("Meeting", Optional.empty()).build();
+        assertTrue(SortCriterion.DEADLINE.compare(withDeadline, withoutDeadline) < 0);
+        assertFalse(SortCriterion.DEADLINE.compare(withoutDeadline, withDeadline) < 0);
+    }
+}
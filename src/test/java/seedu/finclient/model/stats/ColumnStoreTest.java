@@ -0,0 +1,219 @@
+package seedu.finclient.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonDetails;
+import seedu.finclient.model.person.UniquePersonList;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class ColumnStoreTest {
+
+    private static final Person MOOMOO_BUYER = personWith("Moomoo Buyer", "91000001", "Moomoo", "BUY 10 @ $1.00",
+            "50000", "vip");
+    private static final Person MOOMOO_SELLER = personWith("Moomoo Seller", "91000002", "Moomoo", "SELL 5 @ $2.00",
+            "2000000", "vip", "new");
+    private static final Person TIGER_BUYER = personWith("Tiger Buyer", "91000003", "Tiger", "BUY 20 @ $1.50",
+            "70000");
+
+    private final ColumnStore columnStore = new ColumnStore();
+
+    @Test
+    public void groupBy_singleField_aggregatesEachGroup() {
+        addAll(MOOMOO_BUYER, TIGER_BUYER, MOOMOO_SELLER);
+        assertEquals(List.of(
+                new GroupStats(List.of("Moomoo"), 2, 10, 5),
+                new GroupStats(List.of("Tiger"), 1, 20, 0)),
+                columnStore.groupBy(List.of(StatsField.PLATFORM)));
+    }
+
+    @Test
+    public void groupBy_networth_ordersByBracket() {
+        addAll(MOOMOO_SELLER, MOOMOO_BUYER, TIGER_BUYER);
+        assertEquals(List.of(
+                new GroupStats(List.of("< $100k"), 2, 30, 0),
+                new GroupStats(List.of("$1 million - $5 million"), 1, 0, 5)),
+                columnStore.groupBy(List.of(StatsField.NETWORTH)));
+    }
+
+    @Test
+    public void groupBy_multiValuedField_countsPersonInEachGroup() {
+        addAll(MOOMOO_BUYER, MOOMOO_SELLER, TIGER_BUYER);
+        assertEquals(List.of(
+                new GroupStats(List.of("< $100k", ""), 1, 20, 0),
+                new GroupStats(List.of("< $100k", "vip"), 1, 10, 0),
+                new GroupStats(List.of("$1 million - $5 million", "new"), 1, 0, 5),
+                new GroupStats(List.of("$1 million - $5 million", "vip"), 1, 0, 5)),
+                columnStore.groupBy(List.of(StatsField.NETWORTH, StatsField.TAG)));
+    }
+
+    @Test
+    public void groupBy_invalidFields_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> columnStore.groupBy(null));
+        assertThrows(IllegalArgumentException.class, () -> columnStore.groupBy(List.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                columnStore.groupBy(List.of(StatsField.TAG, StatsField.TAG)));
+    }
+
+    @Test
+    public void groupBy_empty_returnsNoGroups() {
+        assertEquals(List.of(), columnStore.groupBy(List.of(StatsField.PLATFORM, StatsField.TAG)));
+    }
+
+    @Test
+    public void remove_movesLastRow() {
+        addAll(MOOMOO_BUYER, MOOMOO_SELLER, TIGER_BUYER);
+        columnStore.remove(MOOMOO_BUYER);
+        columnStore.remove(MOOMOO_BUYER);
+        assertEquals(2, columnStore.size());
+        assertEquals(List.of(
+                new GroupStats(List.of("Moomoo"), 1, 0, 5),
+                new GroupStats(List.of("Tiger"), 1, 20, 0)),
+                columnStore.groupBy(List.of(StatsField.PLATFORM)));
+
+        columnStore.remove(TIGER_BUYER);
+        columnStore.add(TIGER_BUYER);
+        columnStore.remove(MOOMOO_SELLER);
+        assertEquals(List.of(new GroupStats(List.of("Tiger"), 1, 20, 0)),
+                columnStore.groupBy(List.of(StatsField.PLATFORM)));
+    }
+
+    @Test
+    public void add_rowsEncodedWhenScanned() {
+        AtomicInteger detailReads = new AtomicInteger();
+        Person lazy = new Person(TIGER_BUYER.getName(), TIGER_BUYER.getPhoneList(), TIGER_BUYER.getOrder(),
+                TIGER_BUYER.getRemark(), TIGER_BUYER.getTags(), TIGER_BUYER.getCompany(), TIGER_BUYER.getJob(),
+                TIGER_BUYER.getStockPlatform(), TIGER_BUYER.getNetworth(), false, () -> {
+                    detailReads.incrementAndGet();
+                    return new PersonDetails(TIGER_BUYER.getEmail(), TIGER_BUYER.getAddress());
+                });
+        addAll(MOOMOO_BUYER, lazy);
+        assertEquals(0, detailReads.get());
+
+        assertEquals(List.of(
+                new GroupStats(List.of("Moomoo"), 1, 10, 0),
+                new GroupStats(List.of("Tiger"), 1, 20, 0)),
+                columnStore.groupBy(List.of(StatsField.PLATFORM)));
+        columnStore.groupBy(List.of(StatsField.TAG, StatsField.COMPANY, StatsField.JOB));
+        assertEquals(0, detailReads.get());
+
+        // an encoded row replaced by a row yet to be encoded
+        columnStore.add(MOOMOO_SELLER);
+        columnStore.remove(MOOMOO_BUYER);
+        assertEquals(List.of(
+                new GroupStats(List.of("Moomoo"), 1, 0, 5),
+                new GroupStats(List.of("Tiger"), 1, 20, 0)),
+                columnStore.groupBy(List.of(StatsField.PLATFORM)));
+    }
+
+    @Test
+    public void add_hiddenPerson_groupedByMaskedDetails() {
+        addAll(MOOMOO_BUYER, TIGER_BUYER.withHidden(true));
+        assertEquals(List.of(
+                new GroupStats(List.of("Hidden", "Hidden"), 1, 0, 0),
+                new GroupStats(List.of("Moomoo", "vip"), 1, 10, 0)),
+                columnStore.groupBy(List.of(StatsField.PLATFORM, StatsField.TAG)));
+    }
+
+    @Test
+    public void groupBy_parallelScan_matchesSequentialScan() {
+        Random random = new Random(37);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String order = (random.nextBoolean() ? "BUY " : "SELL ") + (1 + random.nextInt(100)) + " @ $1.00";
+            Person person = personWith("Person " + i, String.valueOf(90000000 + i), "Platform " + random.nextInt(5),
+                    order, String.valueOf(random.nextInt(10_000_000)), "tag" + random.nextInt(4),
+                    "tag" + random.nextInt(4));
+            persons.add(person);
+            columnStore.add(person);
+        }
+        for (int i = 0; i < 500; i++) {
+            columnStore.remove(persons.get(random.nextInt(persons.size())));
+        }
+
+        List<StatsField> fields = List.of(StatsField.TAG, StatsField.PLATFORM, StatsField.NETWORTH);
+        List<GroupStats> sequential = columnStore.groupBy(fields, Integer.MAX_VALUE);
+        assertEquals(sequential, columnStore.groupBy(fields, 1));
+        assertEquals(columnStore.size(), columnStore.groupBy(List.of(StatsField.ORDER), 1).stream()
+                .mapToLong(GroupStats::getCount)
+                .sum());
+    }
+
+    @Test
+    public void groupBy_manyPossibleGroups_aggregatesSparsely() {
+        for (int i = 0; i < 300; i++) {
+            columnStore.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withCompany("Company " + i).withJob("Job " + i).build());
+        }
+        List<GroupStats> stats = columnStore.groupBy(List.of(StatsField.COMPANY, StatsField.JOB), 1);
+        assertEquals(300, stats.size());
+        assertEquals(new GroupStats(List.of("Company 0", "Job 0"), 1, 10, 0), stats.get(0));
+    }
+
+    @Test
+    public void groupBy_possibleGroupsOverflowLong_aggregatesByCodes() {
+        // 30000^4 platforms, companies, jobs and tags * 6 networth brackets * 2 order types > 2^63
+        int personCount = 30_000;
+        for (int i = 0; i < personCount; i++) {
+            columnStore.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withStockPlatform("Platform " + i).withCompany("Company " + i).withJob("Job " + i)
+                    .withNetworth(String.valueOf(i * 200)).withOrder((i % 2 == 0 ? "BUY" : "SELL") + " 1 @ $1.00")
+                    .withTags("tag" + i).build());
+        }
+        List<GroupStats> stats = columnStore.groupBy(List.of(StatsField.PLATFORM, StatsField.NETWORTH,
+                StatsField.COMPANY, StatsField.JOB, StatsField.ORDER, StatsField.TAG), 1);
+        assertEquals(personCount, stats.size());
+        assertEquals(new GroupStats(List.of("Platform 0", "< $100k", "Company 0", "Job 0", "BUY", "tag0"), 1, 1, 0),
+                stats.get(0));
+    }
+
+    @Test
+    public void uniquePersonList_mutations_keepStoreInSync() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(MOOMOO_BUYER);
+        uniquePersonList.add(TIGER_BUYER);
+        Person switched = new PersonBuilder(TIGER_BUYER).withStockPlatform("Moomoo").build();
+        uniquePersonList.setPerson(TIGER_BUYER, switched);
+        assertEquals(List.of(new GroupStats(List.of("Moomoo"), 2, 30, 0)),
+                uniquePersonList.groupStats(List.of(StatsField.PLATFORM)));
+
+        uniquePersonList.hidePerson(switched);
+        assertEquals(List.of(
+                new GroupStats(List.of("Hidden"), 1, 0, 0),
+                new GroupStats(List.of("Moomoo"), 1, 10, 0)),
+                uniquePersonList.groupStats(List.of(StatsField.PLATFORM)));
+
+        uniquePersonList.remove(MOOMOO_BUYER);
+        uniquePersonList.setPersons(List.of(MOOMOO_SELLER));
+        assertEquals(List.of(new GroupStats(List.of("Moomoo"), 1, 0, 5)),
+                uniquePersonList.groupStats(List.of(StatsField.PLATFORM)));
+    }
+
+    @Test
+    public void uniquePersonList_removeEqualButDistinctPerson_removedFromStore() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(TIGER_BUYER);
+        uniquePersonList.remove(new PersonBuilder(TIGER_BUYER).build());
+        assertEquals(List.of(), uniquePersonList.groupStats(List.of(StatsField.PLATFORM)));
+    }
+
+    private void addAll(Person... persons) {
+        for (Person person : persons) {
+            columnStore.add(person);
+        }
+    }
+
+    private static Person personWith(String name, String phone, String platform, String order, String networth,
+            String... tags) {
+        return new PersonBuilder().withName(name).withPhone(phone).withStockPlatform(platform).withOrder(order)
+                .withNetworth(networth).withTags(tags).build();
+    }
+}
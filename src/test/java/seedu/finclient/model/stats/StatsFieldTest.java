@@ -0,0 +1,47 @@
+package seedu.finclient.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class StatsFieldTest {
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(StatsField.PLATFORM), StatsField.fromKeyword("platform"));
+        assertEquals(Optional.of(StatsField.TAG), StatsField.fromKeyword("tag"));
+        assertEquals(Optional.empty(), StatsField.fromKeyword("Platform"));
+        assertEquals(Optional.empty(), StatsField.fromKeyword(""));
+        assertThrows(NullPointerException.class, () -> StatsField.fromKeyword(null));
+    }
+
+    @Test
+    public void labels() {
+        Person person = new PersonBuilder().withStockPlatform("Moomoo").withOrder("SELL 5 @ $1.00")
+                .withNetworth("150000").withTags("vip").build();
+        assertEquals(List.of("Moomoo"), StatsField.PLATFORM.labels(person));
+        assertEquals(List.of("SELL"), StatsField.ORDER.labels(person));
+        assertEquals(List.of("$100k - $250k"), StatsField.NETWORTH.labels(person));
+        assertEquals(List.of("vip"), StatsField.TAG.labels(person));
+        assertEquals(List.of(""), StatsField.TAG.labels(new PersonBuilder().build()));
+
+        Person hidden = person.withHidden(true);
+        assertEquals(List.of("Hidden"), StatsField.PLATFORM.labels(hidden));
+        assertEquals(List.of("Hidden"), StatsField.TAG.labels(hidden));
+    }
+
+    @Test
+    public void labelOrder_networth_ordersByBracket() {
+        assertTrue(StatsField.NETWORTH.labelOrder().compare("$100k - $250k", "< $100k") > 0);
+        assertTrue(StatsField.NETWORTH.labelOrder().compare("> $5 million", "Hidden") < 0);
+        assertTrue(StatsField.PLATFORM.labelOrder().compare("Moomoo", "Tiger") < 0);
+    }
+}
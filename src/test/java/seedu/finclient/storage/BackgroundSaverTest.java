@@ -0,0 +1,157 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class BackgroundSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void submit_thenFlush_savesLatestState() throws Exception {
+        Path filePath = testFolder.resolve("finclient.json");
+        JsonFinClientStorage storage = new JsonFinClientStorage(filePath);
+        BackgroundSaver saver = new BackgroundSaver(storage, Runnable::run, errors::add);
+        FinClient finClient = getTypicalFinClient();
+        saver.submit(finClient.getSnapshot(), filePath);
+        finClient.addPerson(HOON);
+        saver.submit(finClient.getSnapshot(), filePath);
+        saver.close();
+
+        assertEquals(finClient, new FinClient(storage.readFinClient().get()));
+        assertTrue(errors.isEmpty());
+        assertThrows(NullPointerException.class, () -> saver.submit(null, filePath));
+    }
+
+    @Test
+    public void submit_burstWhileSaving_savedOnce() throws Exception {
+        Path filePath = testFolder.resolve("finclient.json");
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<ReadOnlyFinClient> saves = Collections.synchronizedList(new ArrayList<>());
+        JsonFinClientStorage storage = new JsonFinClientStorage(filePath) {
+            @Override
+            public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+                saves.add(finClient);
+                saving.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveFinClient(finClient, filePath);
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage, Runnable::run, errors::add);
+
+        FinClient finClient = new FinClient();
+        finClient.addPerson(ALICE);
+        saver.submit(finClient.getSnapshot(), filePath);
+        saving.await();
+        // the first save is in progress, so these submissions wait and replace each other
+        finClient.addPerson(BENSON);
+        saver.submit(finClient.getSnapshot(), filePath);
+        finClient.addPerson(HOON);
+        saver.submit(finClient.getSnapshot(), filePath);
+        release.countDown();
+        saver.close();
+
+        assertEquals(2, saves.size());
+        assertEquals(finClient, new FinClient(saves.get(1)));
+        assertEquals(finClient, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void submit_personHiddenAfterwards_savesStateAtSubmission() throws Exception {
+        Path filePath = testFolder.resolve("finclient.json");
+        List<ReadOnlyFinClient> saves = Collections.synchronizedList(new ArrayList<>());
+        JsonFinClientStorage storage = new JsonFinClientStorage(filePath) {
+            @Override
+            public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) {
+                saves.add(finClient);
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage, Runnable::run, errors::add);
+
+        Person person = new PersonBuilder(ALICE).build();
+        FinClient finClient = new FinClient();
+        finClient.addPerson(person);
+        saver.submit(finClient.getSnapshot(), filePath);
+        saver.flush();
+        finClient.hidePerson(person);
+        Person firstSaved = saves.get(0).getPersonList().get(0);
+        assertSame(person, firstSaved);
+        assertFalse(firstSaved.getIsHidden());
+
+        saver.submit(finClient.getSnapshot(), filePath);
+        saver.close();
+        assertTrue(saves.get(1).getPersonList().get(0).getIsHidden());
+        assertFalse(saves.get(0).getPersonList().get(0).getIsHidden());
+    }
+
+    @Test
+    public void flush_saveFails_errorReportedAndRetried() throws Exception {
+        Path filePath = testFolder.resolve("finclient.json");
+        IOException failure = new IOException("disk full");
+        List<ReadOnlyFinClient> saves = Collections.synchronizedList(new ArrayList<>());
+        JsonFinClientStorage storage = new JsonFinClientStorage(filePath) {
+            @Override
+            public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+                saves.add(finClient);
+                if (saves.size() == 1) {
+                    throw failure;
+                }
+                super.saveFinClient(finClient, filePath);
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage, Runnable::run, errors::add);
+        FinClient finClient = getTypicalFinClient();
+        saver.submit(finClient.getSnapshot(), filePath);
+        saver.close();
+
+        assertEquals(List.of(failure), errors);
+        assertEquals(2, saves.size());
+        assertEquals(finClient, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void flush_saveKeepsFailing_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("finclient.json");
+        JsonFinClientStorage storage = new JsonFinClientStorage(filePath) {
+            @Override
+            public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage, Runnable::run, errors::add);
+        saver.submit(getTypicalFinClient().getSnapshot(), filePath);
+        assertThrows(IOException.class, "disk full", saver::flush);
+        assertThrows(IOException.class, "disk full", saver::close);
+        assertTrue(errors.size() >= 2);
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.FinClientSnapshot;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonVector;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class BinaryFinClientCodecTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_thenRead_sameData() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("finclient.fcb");
+        FinClient original = getTypicalFinClient();
+        Person detailed = new PersonBuilder().withName("Detailed Person").withPhone("91234567", "61234567")
+                .withTags("vip", "friends").withRemark("Call back", Optional.of(LocalDateTime.of(2025, 3, 1, 9, 30)))
+                .withCompany("Secret Co").withJob("Trader").withStockPlatform("IBKR").withNetworth("1500000")
+                .build();
+        original.addPerson(detailed);
+        original.hidePerson(detailed);
+
+        BinaryFinClientCodec.write(original, file);
+        FinClient readBack = BinaryFinClientCodec.read(file);
+        assertEquals(original, readBack);
+        Person readDetailed = readBack.getPersonList().get(original.getPersonList().size() - 1);
+        assertTrue(readDetailed.getIsHidden());
+        assertEquals(detailed.withHidden(false), readDetailed.withHidden(false));
+
+        BinaryFinClientCodec.write(new FinClient(), file);
+        assertEquals(new FinClient(), BinaryFinClientCodec.read(file));
+    }
+
+    @Test
+    public void read_smallWindows_sameData() throws Exception {
+        Path file = testFolder.resolve("finclient.fcb");
+        FinClient original = getTypicalFinClient();
+        BinaryFinClientCodec.write(original, file);
+
+        // records are mapped a few at a time, and many records fall across the end of a window
+        for (int windowSize = 150; windowSize < 400; windowSize += 37) {
+            assertEquals(original, BinaryFinClientCodec.read(file, windowSize));
+        }
+        assertThrows(IOException.class, () -> BinaryFinClientCodec.read(file, 20));
+    }
+
+    @Test
+    public void readLazily_detailsDecodedWhenFirstRead() throws Exception {
+        Path file = testFolder.resolve("finclient.fcb");
+        FinClient original = getTypicalFinClient();
+        Person hidden = new PersonBuilder().withName("Hidden Person").withPhone("91234567").build();
+        original.addPerson(hidden);
+        original.hidePerson(hidden);
+        BinaryFinClientCodec.write(original, file);
+
+        PersonDetailsCache cache = new PersonDetailsCache(2);
+        FinClient readBack = BinaryFinClientCodec.readLazily(file, cache);
+        assertEquals(0, cache.size());
+
+        // sort, statistics and auction inputs are decoded up front
+        List<Person> persons = readBack.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            Person expected = original.getPersonList().get(i);
+            assertEquals(expected.getName(), persons.get(i).getName());
+            assertEquals(expected.getOrder(), persons.get(i).getOrder());
+            assertEquals(expected.getNetworth(), persons.get(i).getNetworth());
+            assertEquals(expected.getIsHidden(), persons.get(i).getIsHidden());
+            assertEquals(expected.getTags(), persons.get(i).getTags());
+            assertEquals(expected.getCompany(), persons.get(i).getCompany());
+            assertEquals(expected.getJob(), persons.get(i).getJob());
+            assertEquals(expected.getStockPlatform(), persons.get(i).getStockPlatform());
+        }
+        assertEquals(0, cache.size());
+
+        assertEquals(ALICE.getEmail(), persons.get(0).getEmail());
+        assertEquals(1, cache.size());
+
+        // the cache stays within its capacity, and evicted details are decoded again
+        assertEquals(original, readBack);
+        assertEquals(2, cache.size());
+        assertEquals(ALICE.getAddress(), persons.get(0).getAddress());
+    }
+
+    @Test
+    public void write_lazilyReadPersons_detailsNotDecoded() throws Exception {
+        Path file = testFolder.resolve("finclient.fcb");
+        FinClient original = getTypicalFinClient();
+        Person hidden = new PersonBuilder().withName("Hidden Person").withPhone("91234567").withTags("vip").build();
+        original.addPerson(hidden);
+        original.hidePerson(hidden);
+        BinaryFinClientCodec.write(original, file);
+
+        PersonDetailsCache cache = new PersonDetailsCache(2);
+        FinClient readBack = BinaryFinClientCodec.readLazily(file, cache);
+        Path binaryCopy = testFolder.resolve("copy.fcb");
+        Path jsonCopy = testFolder.resolve("copy.json");
+        BinaryFinClientCodec.write(readBack, binaryCopy);
+        JsonFinClientCodec.write(readBack, jsonCopy);
+        assertEquals(0, cache.size());
+
+        assertEquals(original, BinaryFinClientCodec.read(binaryCopy));
+        assertEquals(original, JsonFinClientCodec.read(jsonCopy).getFinClient());
+    }
+
+    @Test
+    public void write_smallerThanJson() throws Exception {
+        Path binaryFile = testFolder.resolve("finclient.fcb");
+        Path jsonFile = testFolder.resolve("finclient.json");
+        BinaryFinClientCodec.write(getTypicalFinClient(), binaryFile);
+        JsonFinClientCodec.write(getTypicalFinClient(), jsonFile);
+        assertTrue(Files.size(binaryFile) * 3 < Files.size(jsonFile));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.resolve("finclient.fcb");
+        BinaryFinClientCodec.write(new FinClientSnapshot(PersonVector.of(List.of(ALICE, BENSON, ALICE))), file);
+        assertThrows(IllegalValueException.class, JsonSerializableFinClient.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryFinClientCodec.read(file));
+    }
+
+    @Test
+    public void read_notInFormat_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("finclient.fcb");
+        Files.writeString(file, "{\"persons\" : []}");
+        assertThrows(IOException.class, () -> BinaryFinClientCodec.read(file));
+        Files.write(file, BinaryFinClientCodec.MAGIC);
+        assertThrows(IOException.class, () -> BinaryFinClientCodec.read(file));
+    }
+
+    @Test
+    public void read_damagedFile_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("finclient.fcb");
+        BinaryFinClientCodec.write(getTypicalFinClient(), file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        // a cut short file loses its footer
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> BinaryFinClientCodec.read(file));
+
+        // a record whose length runs into the next record
+        byte[] damaged = bytes.clone();
+        damaged[BinaryFinClientCodec.MAGIC.length]++;
+        Files.write(file, damaged);
+        assertThrows(IOException.class, () -> BinaryFinClientCodec.read(file));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.FinClient;
+
+public class BinaryFinClientStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonFinClientStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveFinClient_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("finclient.json");
+        BinaryFinClientStorage storage = new BinaryFinClientStorage(filePath);
+        assertFalse(storage.readFinClient().isPresent());
+
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.detect(filePath));
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveFinClient(original);
+        assertEquals(original, new FinClient(storage.readFinClient(filePath).get()));
+    }
+
+    @Test
+    public void readFinClient_jsonFile_readAndSavedAsBinary() throws Exception {
+        Path filePath = testFolder.resolve("finclient.json");
+        Files.copy(Paths.get("src", "test", "data", "JsonSerializableFinClientTest", "typicalPersonsFinClient.json"),
+                filePath);
+        BinaryFinClientStorage storage = new BinaryFinClientStorage(filePath);
+        FinClient readBack = new FinClient(storage.readFinClient().get());
+        assertEquals(getTypicalFinClient(), readBack);
+
+        storage.saveFinClient(readBack);
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.detect(filePath));
+        assertEquals(readBack, new FinClient(new JsonFinClientStorage(filePath).readFinClient().get()));
+    }
+
+    @Test
+    public void readFinClient_invalidFile_throwsDataLoadingException() {
+        BinaryFinClientStorage storage = new BinaryFinClientStorage(testFolder.resolve("finclient.json"));
+        assertThrows(DataLoadingException.class, () ->
+                storage.readFinClient(TEST_DATA_FOLDER.resolve("notJsonFormatFinClient.json")));
+        assertThrows(NullPointerException.class, () -> storage.readFinClient(null));
+        assertThrows(NullPointerException.class, () -> storage.saveFinClient(null));
+    }
+}
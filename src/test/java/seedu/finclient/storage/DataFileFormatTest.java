@@ -0,0 +1,64 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void detect_byContentNotName() throws Exception {
+        Path binaryNamedJson = testFolder.resolve("finclient.json");
+        DataFileFormat.BINARY.write(getTypicalFinClient(), binaryNamedJson);
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.detect(binaryNamedJson));
+
+        Path jsonNamedBinary = testFolder.resolve("finclient.fcb");
+        DataFileFormat.JSON.write(getTypicalFinClient(), jsonNamedBinary);
+        assertEquals(DataFileFormat.JSON, DataFileFormat.detect(jsonNamedBinary));
+
+        Path shortFile = testFolder.resolve("short");
+        Files.writeString(shortFile, "{}");
+        assertEquals(DataFileFormat.JSON, DataFileFormat.detect(shortFile));
+
+        assertThrows(IOException.class, () -> DataFileFormat.detect(testFolder.resolve("missing")));
+    }
+
+    @Test
+    public void fromFileName() {
+        assertEquals(Optional.of(DataFileFormat.JSON), DataFileFormat.fromFileName(Paths.get("data", "a.json")));
+        assertEquals(Optional.of(DataFileFormat.BINARY), DataFileFormat.fromFileName(Paths.get("a.fcb")));
+        assertEquals(Optional.empty(), DataFileFormat.fromFileName(Paths.get("a.json.txt")));
+        assertEquals(Optional.empty(), DataFileFormat.fromFileName(Paths.get("fcb")));
+
+        // only json files can be compressed
+        assertEquals(Optional.of(DataFileFormat.JSON), DataFileFormat.fromFileName(Paths.get("a.json.gz")));
+        assertEquals(Optional.empty(), DataFileFormat.fromFileName(Paths.get("a.fcb.gz")));
+        assertTrue(DataFileFormat.isCompressedFileName(Paths.get("a.json.gz")));
+        assertFalse(DataFileFormat.isCompressedFileName(Paths.get("a.json")));
+    }
+
+    @Test
+    public void write_compressedFileName_writesCompressed() throws Exception {
+        Path compressed = testFolder.resolve("backup.json.gz");
+        Path uncompressed = testFolder.resolve("backup.json");
+        DataFileFormat.JSON.write(getTypicalFinClient(), compressed);
+        DataFileFormat.JSON.write(getTypicalFinClient(), uncompressed);
+        assertTrue(Files.size(compressed) < Files.size(uncompressed));
+        assertEquals(DataFileFormat.JSON, DataFileFormat.detect(compressed));
+        assertEquals(getTypicalFinClient(), DataFileFormat.JSON.read(compressed));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.UserPrefs;
+
+public class FlushingBookLoaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void switchBook_awayAndBackWhileSaveWaiting_readsWaitingSave() throws Exception {
+        Path mainFile = testFolder.resolve("main.json");
+        AtomicInteger failuresLeft = new AtomicInteger(1);
+        StorageManager storage = new StorageManager(new JsonFinClientStorage(mainFile) {
+            @Override
+            public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+                if (failuresLeft.getAndDecrement() > 0) {
+                    throw new IOException("disk busy");
+                }
+                super.saveFinClient(finClient, filePath);
+            }
+        }, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        new JsonFinClientStorage(mainFile).saveFinClient(getTypicalFinClient());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFinClientFilePath(mainFile);
+        // books are never kept in memory, so switching back has to read the file
+        userPrefs.setBookCacheBudget(0);
+        ModelManager model = new ModelManager(getTypicalFinClient(), userPrefs);
+        BackgroundSaver saver = new BackgroundSaver(storage, Runnable::run, errors::add);
+        model.setBookLoader(new FlushingBookLoader(storage, saver));
+
+        model.addPerson(HOON);
+        FinClient edited = new FinClient(model.getFinClient());
+        // the first attempt fails, so the save is still waiting while switching away and back
+        saver.submit(model.getFinClientSnapshot(), mainFile);
+        model.switchBook("work");
+        model.switchBook("main");
+
+        assertEquals(edited, new FinClient(model.getFinClient()));
+        assertEquals(edited, new FinClient(storage.readFinClient(mainFile).get()));
+        saver.close();
+    }
+
+    @Test
+    public void loadBook_saveKeepsFailing_throwsDataLoadingException() throws Exception {
+        Path mainFile = testFolder.resolve("main.json");
+        JsonFinClientStorage storage = new JsonFinClientStorage(mainFile) {
+            @Override
+            public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        StorageManager storageManager = new StorageManager(storage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        BackgroundSaver saver = new BackgroundSaver(storage, Runnable::run, errors::add);
+        FlushingBookLoader loader = new FlushingBookLoader(storageManager, saver);
+
+        saver.submit(getTypicalFinClient().getSnapshot(), mainFile);
+        assertThrows(DataLoadingException.class, () -> loader.loadBook(mainFile));
+        assertTrue(loader.loadBook(testFolder.resolve("other.json")).isEmpty());
+        assertTrue(errors.size() >= 2);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.finclient.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalPersons.BENSON;
@@ -18,8 +20,10 @@ import seedu.finclient.model.order.Order;
 import seedu.finclient.model.person.Address;
 import seedu.finclient.model.person.Email;
 import seedu.finclient.model.person.Name;
+import seedu.finclient.model.person.Person;
 import seedu.finclient.model.person.Phone;
 import seedu.finclient.model.person.PhoneList;
+import seedu.finclient.testutil.PersonBuilder;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -50,6 +54,22 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_exactNetworth_keepsAmount() throws Exception {
+        Person person = new PersonBuilder(BENSON).withNetworth("2000000").build();
+        assertEquals(person, new JsonAdaptedPerson(person).toModelType());
+        assertNotEquals(new PersonBuilder(BENSON).withNetworth("3000000").build(), person);
+    }
+
+    @Test
+    public void toModelType_hiddenPerson_keepsDetails() throws Exception {
+        Person hidden = new PersonBuilder(BENSON).build().withHidden(true);
+        Person restored = new JsonAdaptedPerson(hidden).toModelType();
+        assertEquals(BENSON, restored);
+        assertTrue(restored.getIsHidden());
+        assertTrue(hidden.getIsHidden());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
@@ -0,0 +1,124 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.commons.util.JsonUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class JsonFinClientCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableFinClientTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        JsonFinClientCodec.Contents contents = JsonFinClientCodec.read(
+                TEST_DATA_FOLDER.resolve("typicalPersonsFinClient.json"));
+        assertEquals(getTypicalFinClient(), contents.getFinClient());
+        assertEquals(OptionalLong.empty(), contents.getWalEpoch());
+        assertEquals(0, contents.getWalSequence());
+    }
+
+    @Test
+    public void read_invalidPersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                JsonFinClientCodec.read(TEST_DATA_FOLDER.resolve("invalidPersonFinClient.json")));
+        assertThrows(IllegalValueException.class, JsonSerializableFinClient.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonFinClientCodec.read(TEST_DATA_FOLDER.resolve("duplicatePersonFinClient.json")));
+    }
+
+    @Test
+    public void read_notInFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> read("not json"));
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"persons\" : {}}"));
+        assertThrows(IOException.class, () -> read("{\"persons\" : []"));
+    }
+
+    @Test
+    public void read_unknownAndNullFields_ignored() throws Exception {
+        JsonFinClientCodec.Contents contents = read("{\"version\" : {\"a\" : [1, 2]}, \"persons\" : null, "
+                + "\"walEpoch\" : 12, \"walSequence\" : 3, \"other\" : [{}]}");
+        assertEquals(new FinClient(), contents.getFinClient());
+        assertEquals(OptionalLong.of(12), contents.getWalEpoch());
+        assertEquals(3, contents.getWalSequence());
+    }
+
+    @Test
+    public void write_thenRead_sameData() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("finclient.json");
+        FinClient original = getTypicalFinClient();
+        Person hidden = new PersonBuilder().withName("Hidden Person").withPhone("91234567").withCompany("Secret Co")
+                .build();
+        original.addPerson(hidden);
+        original.hidePerson(hidden);
+
+        JsonFinClientCodec.write(original, OptionalLong.of(7), 2, file);
+        JsonFinClientCodec.Contents contents = JsonFinClientCodec.read(file);
+        assertEquals(original, contents.getFinClient());
+        assertTrue(contents.getFinClient().getPersonList().get(original.getPersonList().size() - 1).getIsHidden());
+        assertEquals(OptionalLong.of(7), contents.getWalEpoch());
+        assertEquals(2, contents.getWalSequence());
+
+        JsonFinClientCodec.write(new FinClient(), file);
+        assertEquals(new FinClient(), JsonFinClientCodec.read(file).getFinClient());
+        assertFalse(Files.readString(file).contains("walEpoch"));
+    }
+
+    @Test
+    public void write_compressed_readBackTransparently() throws Exception {
+        Path file = testFolder.resolve("finclient.json");
+        FinClient original = getTypicalFinClient();
+        JsonFinClientCodec.write(original, FileUtil.NO_COMPRESSION, file);
+        long uncompressedSize = Files.size(file);
+
+        JsonFinClientCodec.write(original, OptionalLong.of(3), 1, FileUtil.DEFAULT_COMPRESSION_LEVEL, file);
+        assertTrue(Files.size(file) < uncompressedSize / 2);
+        JsonFinClientCodec.Contents contents = JsonFinClientCodec.read(file);
+        assertEquals(original, contents.getFinClient());
+        assertEquals(OptionalLong.of(3), contents.getWalEpoch());
+        assertEquals(DataFileFormat.JSON, DataFileFormat.detect(file));
+    }
+
+    @Test
+    public void write_sameFormatAsJsonSerializableFinClient() throws Exception {
+        FinClient original = new FinClient();
+        original.addPerson(ALICE);
+        Path file = testFolder.resolve("finclient.json");
+        JsonFinClientCodec.write(original, OptionalLong.of(5), 1, file);
+
+        JsonSerializableFinClient serializable = JsonUtil.readJsonFile(file, JsonSerializableFinClient.class).get();
+        assertEquals(original, serializable.toModelType());
+        assertEquals(OptionalLong.of(5), serializable.getWalEpoch());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableFinClient(original, 5, 1)), Files.readString(file));
+    }
+
+    private static JsonFinClientCodec.Contents read(String json) throws Exception {
+        try (InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))) {
+            return JsonFinClientCodec.read(in);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.util.FileUtil;
 import seedu.finclient.model.FinClient;
 import seedu.finclient.model.ReadOnlyFinClient;
 
@@ -86,6 +87,19 @@ public class JsonFinClientStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveFinClient_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FinClient original = getTypicalFinClient();
+        JsonFinClientStorage compressingStorage = new JsonFinClientStorage(filePath, FileUtil.MAX_COMPRESSION);
+        compressingStorage.saveFinClient(original);
+        assertEquals(original, new FinClient(compressingStorage.readFinClient().get()));
+
+        // a compressed file is read whatever the compression level set
+        assertEquals(original, new FinClient(new JsonFinClientStorage(filePath).readFinClient().get()));
+        assertThrows(IllegalArgumentException.class, () -> new JsonFinClientStorage(filePath, -1));
+    }
+
     @Test
     public void saveFinClient_nullFinClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveFinClient(null, "SomeFile.json"));
@@ -0,0 +1,115 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.person.Name;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class PersonConverterTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void toFinClient_validPersons_inAddedOrder() throws Exception {
+        List<Person> persons = persons(20);
+        PersonConverter converter = new PersonConverter(executor, CHUNK_SIZE);
+        persons.forEach(person -> converter.add(new JsonAdaptedPerson(person)));
+
+        FinClient expected = new FinClient();
+        expected.setPersons(persons);
+        assertEquals(expected, converter.toFinClient());
+        assertEquals(new FinClient(), new PersonConverter(executor, CHUNK_SIZE).toFinClient());
+    }
+
+    @Test
+    public void toFinClient_invalidBeforeDuplicate_throwsInvalidPersonError() {
+        List<JsonAdaptedPerson> adapted = adapted(persons(20));
+        adapted.set(8, withName(adapted.get(8), "R@chel"));
+        adapted.set(15, adapted.get(2));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> convert(adapted));
+    }
+
+    @Test
+    public void toFinClient_duplicateBeforeInvalid_throwsDuplicateError() {
+        List<JsonAdaptedPerson> adapted = adapted(persons(20));
+        adapted.set(4, adapted.get(1));
+        adapted.set(16, withName(adapted.get(16), "R@chel"));
+        assertThrows(IllegalValueException.class, JsonSerializableFinClient.MESSAGE_DUPLICATE_PERSON, () ->
+                convert(adapted));
+    }
+
+    @Test
+    public void toFinClient_severalInvalid_throwsFirstError() {
+        List<JsonAdaptedPerson> adapted = adapted(persons(20));
+        adapted.set(10, withName(adapted.get(10), "R@chel"));
+        adapted.set(5, withRemarkTimestamp(adapted.get(5), "not a timestamp"));
+        adapted.set(1, withName(adapted.get(1), null));
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                Name.class.getSimpleName()), () -> convert(adapted));
+
+        // unchecked errors are thrown as they are, in order too
+        adapted.set(1, new JsonAdaptedPerson(persons(2).get(1)));
+        assertThrows(DateTimeParseException.class, () -> convert(adapted));
+    }
+
+    private FinClient convert(List<JsonAdaptedPerson> adapted) throws IllegalValueException {
+        PersonConverter converter = new PersonConverter(executor, CHUNK_SIZE);
+        adapted.forEach(converter::add);
+        return converter.toFinClient();
+    }
+
+    private static List<Person> persons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(Integer.toString(80000000 + i))
+                    .build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> adapted(List<Person> persons) {
+        List<JsonAdaptedPerson> adapted = new ArrayList<>();
+        persons.forEach(person -> adapted.add(new JsonAdaptedPerson(person)));
+        return adapted;
+    }
+
+    private static JsonAdaptedPerson withName(JsonAdaptedPerson person, String name) {
+        return new JsonAdaptedPerson(name, person.getPhones(), person.getEmail(), person.getAddress(),
+                person.getOrder(), person.getRemark(), person.getRemarkTimestamp(), tagsOf(person),
+                person.getCompany(), person.getJob(), person.getStockPlatform(), person.getNetworth(),
+                person.isHidden());
+    }
+
+    private static JsonAdaptedPerson withRemarkTimestamp(JsonAdaptedPerson person, String remarkTimestamp) {
+        return new JsonAdaptedPerson(person.getName(), person.getPhones(), person.getEmail(), person.getAddress(),
+                person.getOrder(), person.getRemark(), remarkTimestamp, tagsOf(person),
+                person.getCompany(), person.getJob(), person.getStockPlatform(), person.getNetworth(),
+                person.isHidden());
+    }
+
+    private static List<JsonAdaptedTag> tagsOf(JsonAdaptedPerson person) {
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        person.getTagNames().forEach(tagName -> tags.add(new JsonAdaptedTag(tagName)));
+        return tags;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonDetails;
+
+public class PersonDetailsCacheTest {
+
+    private final AtomicInteger decodeCount = new AtomicInteger();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonDetailsCache(0));
+    }
+
+    @Test
+    public void get_cachedDetails_notDecodedAgain() {
+        PersonDetailsCache cache = new PersonDetailsCache(2);
+        Object key = new Object();
+        PersonDetails details = cache.get(key, decoder(ALICE));
+        assertEquals(detailsOf(ALICE), details);
+        assertSame(details, cache.get(key, decoder(ALICE)));
+        assertEquals(1, decodeCount.get());
+    }
+
+    @Test
+    public void get_overCapacity_evictsLeastRecentlyUsed() {
+        PersonDetailsCache cache = new PersonDetailsCache(2);
+        Object first = new Object();
+        Object second = new Object();
+        Object third = new Object();
+        cache.get(first, decoder(ALICE));
+        cache.get(second, decoder(BENSON));
+        cache.get(first, decoder(ALICE));
+        cache.get(third, decoder(BENSON));
+        assertEquals(2, cache.size());
+        assertEquals(3, decodeCount.get());
+
+        // second was the least recently used, so only it is decoded again
+        cache.get(first, decoder(ALICE));
+        assertEquals(3, decodeCount.get());
+        cache.get(second, decoder(BENSON));
+        assertEquals(4, decodeCount.get());
+    }
+
+    @Test
+    public void get_whileDecoding_otherDetailsReadWithoutWaiting() throws Exception {
+        PersonDetailsCache cache = new PersonDetailsCache(2);
+        CountDownLatch decoding = new CountDownLatch(1);
+        CountDownLatch otherRead = new CountDownLatch(1);
+        AtomicBoolean isOtherReadDuringDecoding = new AtomicBoolean();
+        Thread slowReader = new Thread(() -> cache.get(new Object(), () -> {
+            decoding.countDown();
+            try {
+                isOtherReadDuringDecoding.set(otherRead.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return detailsOf(ALICE);
+        }));
+        slowReader.start();
+        decoding.await();
+
+        assertEquals(detailsOf(BENSON), cache.get(new Object(), decoder(BENSON)));
+        otherRead.countDown();
+        slowReader.join();
+        assertTrue(isOtherReadDuringDecoding.get());
+        assertEquals(2, cache.size());
+    }
+
+    private Supplier<PersonDetails> decoder(Person person) {
+        return () -> {
+            decodeCount.incrementAndGet();
+            return detailsOf(person);
+        };
+    }
+
+    private static PersonDetails detailsOf(Person person) {
+        return new PersonDetails(person.getEmail(), person.getAddress());
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.ELLE;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.IDA;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.commons.util.JsonUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class SegmentedFinClientStorageTest {
+
+    private static final int SEGMENT_SIZE = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path segmentDirectory;
+    private SegmentedFinClientStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("finclient.json");
+        segmentDirectory = SegmentedFinClientStorage.segmentDirectoryOf(filePath);
+        storage = newStorage();
+    }
+
+    @Test
+    public void readFinClient_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readFinClient().isPresent());
+        assertThrows(NullPointerException.class, () -> storage.readFinClient(null));
+    }
+
+    @Test
+    public void saveFinClient_allInOrder_splitIntoSegments() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+
+        List<JsonSegmentManifest.Segment> segments = readSegments();
+        assertEquals(List.of(3, 3, 1), segments.stream().map(JsonSegmentManifest.Segment::getPersons).toList());
+        assertEquals(fileNames(segments), listSegmentDirectory());
+        assertEquals(original, new FinClient(newStorage().readFinClient().get()));
+    }
+
+    @Test
+    public void saveFinClient_orderChange_onlyAffectedSegmentRewritten() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        List<JsonSegmentManifest.Segment> before = readSegments();
+
+        original.setPerson(ELLE, new PersonBuilder(ELLE).withOrder("BUY 10 @ $5.50").build());
+        storage.saveFinClient(original);
+
+        List<JsonSegmentManifest.Segment> after = readSegments();
+        assertEquals(before.get(0).getFile(), after.get(0).getFile());
+        assertNotEquals(before.get(1).getFile(), after.get(1).getFile());
+        assertEquals(before.get(2).getFile(), after.get(2).getFile());
+        assertEquals(fileNames(after), listSegmentDirectory());
+        assertEquals(original, new FinClient(newStorage().readFinClient().get()));
+    }
+
+    @Test
+    public void saveFinClient_noChanges_nothingRewritten() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        List<JsonSegmentManifest.Segment> before = readSegments();
+        storage.saveFinClient(original);
+        storage.saveFinClient(new FinClient(original));
+        assertEquals(fileNames(before), fileNames(readSegments()));
+    }
+
+    @Test
+    public void saveFinClient_insertionsAndRemovals_segmentsStayBounded() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+
+        original.addPerson(HOON);
+        storage.saveFinClient(original);
+        original.removePerson(ALICE);
+        storage.saveFinClient(original);
+        Person hidden = new PersonBuilder(IDA).build();
+        original.addPerson(hidden);
+        original.hidePerson(hidden);
+        storage.saveFinClient(original);
+
+        List<JsonSegmentManifest.Segment> segments = readSegments();
+        assertTrue(segments.stream().allMatch(segment -> segment.getPersons() > 0
+                && segment.getPersons() <= SEGMENT_SIZE));
+        assertEquals(fileNames(segments), listSegmentDirectory());
+
+        ReadOnlyFinClient readBack = newStorage().readFinClient().get();
+        assertEquals(original, new FinClient(readBack));
+        assertTrue(readBack.getPersonList().get(readBack.getPersonList().size() - 1).getIsHidden());
+    }
+
+    @Test
+    public void saveFinClient_afterRead_continuesFromSavedSegments() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+
+        storage = newStorage();
+        FinClient readBack = new FinClient(storage.readFinClient().get());
+        List<JsonSegmentManifest.Segment> before = readSegments();
+        readBack.addPerson(HOON);
+        storage.saveFinClient(readBack);
+
+        List<JsonSegmentManifest.Segment> after = readSegments();
+        assertEquals(before.subList(0, 2).stream().map(JsonSegmentManifest.Segment::getFile).toList(),
+                after.subList(0, 2).stream().map(JsonSegmentManifest.Segment::getFile).toList());
+        assertEquals(readBack, new FinClient(newStorage().readFinClient().get()));
+    }
+
+    @Test
+    public void readFinClient_otherFormat_readAndSegmentedOnSave() throws Exception {
+        FinClient original = getTypicalFinClient();
+        JsonFinClientCodec.write(original, filePath);
+
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+        storage.saveFinClient(original);
+        assertEquals(3, readSegments().size());
+        assertEquals(original, new FinClient(newStorage().readFinClient().get()));
+    }
+
+    @Test
+    public void readFinClient_segmentDoesNotMatchManifest_throwsDataLoadingException() throws Exception {
+        storage.saveFinClient(getTypicalFinClient());
+        JsonFinClientCodec.write(new FinClient(), segmentDirectory.resolve(readSegments().get(1).getFile()));
+        assertThrows(DataLoadingException.class, () -> newStorage().readFinClient());
+    }
+
+    @Test
+    public void readFinClient_missingSegment_throwsDataLoadingException() throws Exception {
+        storage.saveFinClient(getTypicalFinClient());
+        Files.delete(segmentDirectory.resolve(readSegments().get(2).getFile()));
+        assertThrows(DataLoadingException.class, () -> newStorage().readFinClient());
+    }
+
+    @Test
+    public void saveFinClient_otherPath_writtenWholeAndReadBack() throws Exception {
+        FinClient original = getTypicalFinClient();
+        Path otherPath = testFolder.resolve("other.json");
+        storage.saveFinClient(original, otherPath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new FinClient(storage.readFinClient(otherPath).get()));
+    }
+
+    @Test
+    public void saveFinClient_compressed_segmentsCompressedManifestNot() throws Exception {
+        storage = new SegmentedFinClientStorage(filePath, SEGMENT_SIZE, FileUtil.DEFAULT_COMPRESSION_LEVEL);
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+
+        for (JsonSegmentManifest.Segment segment : readSegments()) {
+            assertTrue(segment.getFile().endsWith(DataFileFormat.COMPRESSED_FILE_SUFFIX));
+            assertEquals(0x1f, Files.readAllBytes(segmentDirectory.resolve(segment.getFile()))[0]);
+        }
+        assertEquals(original, new FinClient(newStorage().readFinClient().get()));
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedFinClientStorage(filePath, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedFinClientStorage(filePath, -1));
+    }
+
+    private SegmentedFinClientStorage newStorage() {
+        return new SegmentedFinClientStorage(filePath, SEGMENT_SIZE, FileUtil.NO_COMPRESSION);
+    }
+
+    private List<JsonSegmentManifest.Segment> readSegments() throws Exception {
+        return JsonUtil.fromJsonString(Files.readString(filePath), JsonSegmentManifest.class).getSegments();
+    }
+
+    private static Set<String> fileNames(List<JsonSegmentManifest.Segment> segments) {
+        return segments.stream().map(JsonSegmentManifest.Segment::getFile).collect(Collectors.toSet());
+    }
+
+    private Set<String> listSegmentDirectory() throws Exception {
+        try (Stream<Path> files = Files.list(segmentDirectory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
@@ -2,9 +2,13 @@ package seedu.finclient.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +69,39 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getFinClientFilePath());
     }
 
+    @Test
+    public void setFinClientFilePath_savesToNewPath() throws Exception {
+        Path bookFile = getTempFilePath("work.json");
+        storageManager.setFinClientFilePath(bookFile);
+        assertEquals(bookFile, storageManager.getFinClientFilePath());
+
+        FinClient original = getTypicalFinClient();
+        storageManager.saveFinClient(original);
+        assertEquals(original, new FinClient(storageManager.loadBook(bookFile).get()));
+    }
+
+    @Test
+    public void listBooks_listsJsonFilesOnly() throws Exception {
+        storageManager.saveFinClient(getTypicalFinClient(), getTempFilePath("work.json"));
+        storageManager.saveFinClient(getTypicalFinClient(), getTempFilePath("home.json"));
+        Files.writeString(getTempFilePath("notes.txt"), "not a book");
+        assertEquals(List.of(getTempFilePath("home.json"), getTempFilePath("work.json")),
+                storageManager.listBooks(testFolder));
+        assertEquals(List.of(), storageManager.listBooks(getTempFilePath("missing")));
+    }
+
+    @Test
+    public void exportBook_formatFromExtension() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storageManager.exportBook(original, getTempFilePath("export.fcb"));
+        storageManager.exportBook(original, getTempFilePath("export.json"));
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.detect(getTempFilePath("export.fcb")));
+        assertEquals(DataFileFormat.JSON, DataFileFormat.detect(getTempFilePath("export.json")));
+        assertEquals(original, new FinClient(storageManager.loadBook(getTempFilePath("export.fcb")).get()));
+        assertEquals(original, new FinClient(storageManager.loadBook(getTempFilePath("export.json")).get()));
+
+        assertThrows(IOException.class, DataFileFormat.MESSAGE_CONSTRAINTS, () ->
+                storageManager.exportBook(original, getTempFilePath("export.txt")));
+    }
+
 }
@@ -0,0 +1,221 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.IDA;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.commons.util.JsonUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class WalFinClientStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path logPath;
+    private WalFinClientStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("finclient.json");
+        logPath = WalFinClientStorage.logFileOf(filePath);
+        storage = new WalFinClientStorage(filePath, 0, FileUtil.NO_COMPRESSION);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        storage.close();
+    }
+
+    @Test
+    public void readFinClient_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readFinClient().isPresent());
+        assertThrows(NullPointerException.class, () -> storage.readFinClient(null));
+    }
+
+    @Test
+    public void saveFinClient_changes_appendedToLogAndReplayed() throws Exception {
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        storage.saveFinClient(original);
+        original.removePerson(ALICE);
+        storage.saveFinClient(original);
+        Person hidden = new PersonBuilder(IDA).build();
+        original.addPerson(hidden);
+        original.hidePerson(hidden);
+        storage.saveFinClient(original);
+
+        // the snapshot is left alone while the log takes the changes
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, WriteAheadLog.read(logPath).get().getEntries().size());
+        storage.close();
+
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        ReadOnlyFinClient readBack = storage.readFinClient().get();
+        assertEquals(original, new FinClient(readBack));
+        Person readHidden = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        assertTrue(readHidden.getIsHidden());
+
+        // the reopened log takes further changes
+        original.removePerson(BENSON);
+        storage.saveFinClient(original);
+        storage.close();
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void saveFinClient_noChanges_logUnchanged() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        long size = Files.size(logPath);
+        storage.saveFinClient(original);
+        storage.saveFinClient(new FinClient(original));
+        assertEquals(size, Files.size(logPath));
+    }
+
+    @Test
+    public void readFinClient_damagedTail_ignoredAndOverwritten() throws Exception {
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        original.addPerson(HOON);
+        storage.saveFinClient(original);
+        storage.close();
+        Files.writeString(logPath, "0 {\"seq\":2,\"at\":0,\"rem", StandardOpenOption.APPEND);
+
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+        original.addPerson(IDA);
+        storage.saveFinClient(original);
+        storage.close();
+
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void saveFinClient_logOutgrowsSnapshot_compacted() throws Exception {
+        FinClient original = new FinClient();
+        storage.saveFinClient(original);
+        original.addPerson(HOON);
+        storage.saveFinClient(original);
+        original.addPerson(IDA);
+        storage.saveFinClient(original);
+        storage.close();
+
+        // every record that was compacted is in the snapshot, and no longer in the log
+        ReadOnlyFinClient snapshot = new JsonFinClientStorage(filePath).readFinClient().get();
+        int inLog = WriteAheadLog.read(logPath).get().getEntries().size();
+        assertFalse(snapshot.getPersonList().isEmpty());
+        assertEquals(original.getPersonList().size(), snapshot.getPersonList().size() + inLog);
+
+        storage = new WalFinClientStorage(filePath, 0, FileUtil.NO_COMPRESSION);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void saveFinClient_compressed_snapshotCompressedLogNot() throws Exception {
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.MAX_COMPRESSION);
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        original.addPerson(HOON);
+        storage.saveFinClient(original);
+        storage.close();
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            assertEquals(0x1f, in.read());
+        }
+        assertEquals(1, WriteAheadLog.read(logPath).get().getEntries().size());
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void readFinClient_recordsInSnapshot_notReplayedTwice() throws Exception {
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        original.addPerson(HOON);
+        storage.saveFinClient(original);
+        storage.close();
+
+        // as if a compaction wrote its snapshot but stopped before dropping the records from the log
+        long epoch = WriteAheadLog.read(logPath).get().getEpoch();
+        JsonUtil.saveJsonFile(new JsonSerializableFinClient(original, epoch, 1), filePath);
+
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void readFinClient_logOfOtherSnapshot_ignored() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        storage.close();
+        Path otherFile = testFolder.resolve("other.json");
+        storage = new WalFinClientStorage(otherFile, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        FinClient other = new FinClient();
+        storage.saveFinClient(other);
+        other.addPerson(HOON);
+        storage.saveFinClient(other);
+        storage.close();
+        Files.copy(WalFinClientStorage.logFileOf(otherFile), logPath,
+                StandardCopyOption.REPLACE_EXISTING);
+
+        storage = new WalFinClientStorage(filePath, Long.MAX_VALUE, FileUtil.NO_COMPRESSION);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void saveFinClient_otherFile_savedAsSnapshot() throws Exception {
+        Path otherFile = testFolder.resolve("other.json");
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original, otherFile);
+        assertFalse(Files.exists(WalFinClientStorage.logFileOf(otherFile)));
+        assertEquals(original, new FinClient(new JsonFinClientStorage(otherFile).readFinClient().get()));
+        assertEquals(original, new FinClient(storage.readFinClient(otherFile).get()));
+    }
+
+    @Test
+    public void setFinClientFilePath_startsNewLog() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        Path otherFile = testFolder.resolve("other.json");
+        storage.setFinClientFilePath(otherFile);
+        assertEquals(otherFile, storage.getFinClientFilePath());
+
+        FinClient other = new FinClient();
+        other.addPerson(HOON);
+        storage.saveFinClient(other);
+        assertTrue(Files.exists(WalFinClientStorage.logFileOf(otherFile)));
+        assertEquals(other, new FinClient(storage.readFinClient().get()));
+        assertEquals(original, new FinClient(storage.readFinClient(filePath).get()));
+    }
+}
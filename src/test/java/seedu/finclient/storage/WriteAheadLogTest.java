@@ -0,0 +1,158 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WriteAheadLogTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(WriteAheadLog.read(testFolder.resolve("missing.wal")).isPresent());
+    }
+
+    @Test
+    public void read_damagedHeader_emptyResult() throws Exception {
+        Path file = testFolder.resolve("damaged.wal");
+        Files.writeString(file, "finclient-wal 12x\n");
+        assertFalse(WriteAheadLog.read(file).isPresent());
+        Files.writeString(file, "finclient-wal 12");
+        assertFalse(WriteAheadLog.read(file).isPresent());
+    }
+
+    @Test
+    public void append_thenRead_returnsRecords() throws Exception {
+        Path file = testFolder.resolve("log.wal");
+        WriteAheadLog log = WriteAheadLog.create(file, 42);
+        log.append("first");
+        log.append("second record");
+        log.close();
+
+        WriteAheadLog.Contents contents = WriteAheadLog.read(file).get();
+        assertEquals(42, contents.getEpoch());
+        assertEquals(List.of("first", "second record"), recordsOf(contents));
+        assertEquals(Files.size(file), contents.getEntries().get(1).getEnd());
+        assertEquals(Files.size(file), log.size());
+    }
+
+    @Test
+    public void read_damagedTail_stopsAtDamage() throws Exception {
+        Path file = testFolder.resolve("log.wal");
+        WriteAheadLog log = WriteAheadLog.create(file, 7);
+        log.append("kept");
+        log.append("corrupted");
+        log.close();
+        String contents = Files.readString(file).replace("corrupted", "corruptid");
+        Files.writeString(file, contents + "0 incomplete");
+        assertEquals(List.of("kept"), recordsOf(WriteAheadLog.read(file).get()));
+
+        Files.writeString(file, "finclient-wal 7\n", StandardCharsets.UTF_8);
+        Files.writeString(file, "garbage\n", StandardOpenOption.APPEND);
+        assertEquals(List.of(), recordsOf(WriteAheadLog.read(file).get()));
+    }
+
+    @Test
+    public void open_dropsRecordsAfterValidEnd() throws Exception {
+        Path file = testFolder.resolve("log.wal");
+        WriteAheadLog log = WriteAheadLog.create(file, 7);
+        log.append("kept");
+        log.append("dropped");
+        log.close();
+        long validEnd = WriteAheadLog.read(file).get().getEntries().get(0).getEnd();
+
+        log = WriteAheadLog.open(file, 7, validEnd);
+        log.append("appended");
+        log.close();
+        assertEquals(List.of("kept", "appended"), recordsOf(WriteAheadLog.read(file).get()));
+    }
+
+    @Test
+    public void truncateBefore_keepsLaterRecords() throws Exception {
+        Path file = testFolder.resolve("log.wal");
+        WriteAheadLog log = WriteAheadLog.create(file, 7);
+        log.append("compacted");
+        long offset = log.size();
+        log.append("kept");
+        log.truncateBefore(offset);
+        log.append("appended");
+        log.close();
+
+        WriteAheadLog.Contents contents = WriteAheadLog.read(file).get();
+        assertEquals(7, contents.getEpoch());
+        assertEquals(List.of("kept", "appended"), recordsOf(contents));
+        assertEquals(Files.size(file), log.size());
+    }
+
+    @Test
+    public void sync_commitsEveryRecordAppendedBeforeIt() throws Exception {
+        WriteAheadLog log = WriteAheadLog.create(testFolder.resolve("log.wal"), 7);
+        long first = log.append("first");
+        long second = log.append("second");
+        assertEquals(0, log.getSyncedRecords());
+
+        log.sync(first);
+        assertEquals(second, log.getSyncedRecords());
+        log.sync(second);
+        log.append("third");
+        assertEquals(second, log.getSyncedRecords());
+        log.close();
+        assertEquals(3, log.getSyncedRecords());
+    }
+
+    @Test
+    public void sync_concurrentAppends_allCommitted() throws Exception {
+        Path file = testFolder.resolve("log.wal");
+        WriteAheadLog log = WriteAheadLog.create(file, 7);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> saves = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String record = "record " + i;
+                saves.add(executor.submit(() -> {
+                    log.sync(log.append(record));
+                    return null;
+                }));
+            }
+            for (Future<?> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(100, log.getSyncedRecords());
+        log.close();
+        assertEquals(100, recordsOf(WriteAheadLog.read(file).get()).size());
+    }
+
+    @Test
+    public void sync_afterTruncateBefore_recordsAlreadyCommitted() throws Exception {
+        WriteAheadLog log = WriteAheadLog.create(testFolder.resolve("log.wal"), 7);
+        log.append("compacted");
+        long offset = log.size();
+        long kept = log.append("kept");
+        log.truncateBefore(offset);
+        assertEquals(kept, log.getSyncedRecords());
+        log.sync(kept);
+        log.close();
+    }
+
+    private static List<String> recordsOf(WriteAheadLog.Contents contents) {
+        return contents.getEntries().stream().map(WriteAheadLog.Entry::getRecord).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.finclient.testutil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.book.BookLoader;
+import seedu.finclient.model.book.BookShelf;
+
+/**
+ * A {@code BookLoader} that serves books from memory and counts how many books it has loaded.
+ * Exported books are kept in memory by file.
+ */
+public class BookLoaderStub implements BookLoader {
+
+    private final TreeMap<String, ReadOnlyFinClient> books = new TreeMap<>();
+    private final List<String> unreadableBooks = new ArrayList<>();
+    private final Map<Path, ReadOnlyFinClient> exportedBooks = new HashMap<>();
+    private int loadCount;
+
+    /**
+     * Adds {@code book} as the book named {@code name}.
+     */
+    public BookLoaderStub withBook(String name, ReadOnlyFinClient book) {
+        books.put(name, book);
+        return this;
+    }
+
+    /**
+     * Adds a book named {@code name} that fails to load.
+     */
+    public BookLoaderStub withUnreadableBook(String name) {
+        unreadableBooks.add(name);
+        return this;
+    }
+
+    public int getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Returns a copy of the book last exported to {@code filePath}, if any.
+     */
+    public Optional<ReadOnlyFinClient> getExportedBook(Path filePath) {
+        return Optional.ofNullable(exportedBooks.get(filePath));
+    }
+
+    @Override
+    public Optional<ReadOnlyFinClient> loadBook(Path bookFile) throws DataLoadingException {
+        String name = BookShelf.nameOf(bookFile);
+        if (unreadableBooks.contains(name)) {
+            throw new DataLoadingException(new Exception("Unreadable book " + name));
+        }
+        loadCount++;
+        return Optional.ofNullable(books.get(name));
+    }
+
+    @Override
+    public List<Path> listBooks(Path directory) {
+        List<Path> files = new ArrayList<>();
+        books.keySet().forEach(name -> files.add(directory.resolve(name + BookShelf.BOOK_FILE_EXTENSION)));
+        unreadableBooks.forEach(name -> files.add(directory.resolve(name + BookShelf.BOOK_FILE_EXTENSION)));
+        return files;
+    }
+
+    @Override
+    public void exportBook(ReadOnlyFinClient book, Path filePath) throws IOException {
+        exportedBooks.put(filePath, new FinClient(book));
+    }
+}
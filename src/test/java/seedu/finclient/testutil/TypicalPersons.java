@@ -16,6 +16,7 @@ import static seedu.finclient.logic.commands.CommandTestUtil.VALID_PHONE_CINDY;
 import static seedu.finclient.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.finclient.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -114,4 +115,12 @@ public class TypicalPersons {
     public static List<Person> getTypicalPersons() {
         return new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
     }
+
+    /**
+     * Returns a person with the given name and phone and a meeting remark due at {@code timestamp}.
+     */
+    public static Person getPersonWithMeetingAt(String name, String phone, LocalDateTime timestamp) {
+        return new PersonBuilder().withName(name).withPhone(phone)
+                .withRemark("Meeting", Optional.of(timestamp)).build();
+    }
 }